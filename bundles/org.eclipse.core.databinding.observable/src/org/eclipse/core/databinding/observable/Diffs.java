@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,12 +32,20 @@ import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.internal.databinding.observable.ListDiffComputer;
 
 /**
  * @since 1.0
  *
  */
 public class Diffs {
+	/**
+	 * Combined size of the old and new list up to which list differences are
+	 * computed with the original algorithm, whose results are well known for
+	 * small lists. Larger lists are handled by the {@link ListDiffComputer}.
+	 */
+	private static final int SMALL_LIST_DIFF_SIZE = 64;
+
 	private static final class UnmodifiableListDiff<E> extends ListDiff<E> {
 		private ListDiff<? extends E> toWrap;
 
@@ -229,7 +237,11 @@ public class Diffs {
 	 */
 	public static <E> ListDiff<E> computeListDiff(List<? extends E> oldList, List<? extends E> newList) {
 		List<ListDiffEntry<E>> diffEntries = new ArrayList<>();
-		createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
+		if (oldList.size() + newList.size() <= SMALL_LIST_DIFF_SIZE) {
+			createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
+		} else {
+			ListDiffComputer.computeDiffs(oldList, newList, diffEntries);
+		}
 		return createListDiff(diffEntries);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,9 @@
  *******************************************************************************/
 package org.eclipse.core.databinding.observable;
 
-import java.util.Set;
+import java.util.Arrays;
 
 import org.eclipse.core.databinding.util.Policy;
-import org.eclipse.core.internal.databinding.identity.IdentitySet;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -64,20 +63,126 @@ import org.eclipse.core.runtime.Status;
 public class ObservableTracker {
 
 	/**
-	 * Threadlocal storage pointing to the current Set of IObservables, or null
-	 * if none. Note that this is actually the top of a stack. Whenever a method
-	 * changes the current value, it remembers the old value as a local variable
-	 * and restores the old value when the method exits.
+	 * A frame of the tracking stack: the observables collected by one
+	 * invocation of {@link ObservableTracker#runAndMonitor} or
+	 * {@link ObservableTracker#runAndCollect}. Frames are reused, the
+	 * observables are kept in an open-addressing identity hash table and, in
+	 * the order they were added, in an array.
 	 */
-	private static ThreadLocal<IChangeListener> currentChangeListener = new ThreadLocal<>();
+	private static final class Frame {
+		/** Frames whose table grew beyond this capacity are not reused */
+		private static final int MAX_POOLED_CAPACITY = 1024;
 
-	private static ThreadLocal<IStaleListener> currentStaleListener = new ThreadLocal<>();
+		IChangeListener changeListener;
 
-	private static ThreadLocal<Set<IObservable>> currentGetterCalledSet = new ThreadLocal<>();
+		IStaleListener staleListener;
 
-	private static ThreadLocal<Set<IObservable>> currentObservableCreatedSet = new ThreadLocal<>();
+		private IObservable[] table = new IObservable[16];
 
-	private static ThreadLocal<Integer> currentIgnoreCount = new ThreadLocal<>();
+		private IObservable[] elements = new IObservable[8];
+
+		private int size;
+
+		/** the next frame of the pool */
+		Frame next;
+
+		boolean add(IObservable observable) {
+			int mask = table.length - 1;
+			int index = hash(observable) & mask;
+			IObservable current;
+			while ((current = table[index]) != null) {
+				if (current == observable) {
+					return false;
+				}
+				index = (index + 1) & mask;
+			}
+			table[index] = observable;
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, size * 2);
+			}
+			elements[size++] = observable;
+			// keep the table at most half full
+			if (size * 2 > table.length) {
+				rehash();
+			}
+			return true;
+		}
+
+		private void rehash() {
+			table = new IObservable[table.length * 2];
+			int mask = table.length - 1;
+			for (int i = 0; i < size; i++) {
+				int index = hash(elements[i]) & mask;
+				while (table[index] != null) {
+					index = (index + 1) & mask;
+				}
+				table[index] = elements[i];
+			}
+		}
+
+		private static int hash(IObservable observable) {
+			int h = System.identityHashCode(observable);
+			return h ^ (h >>> 16);
+		}
+
+		IObservable[] toArray() {
+			return Arrays.copyOf(elements, size);
+		}
+
+		/**
+		 * Forgets the collected observables and the listeners.
+		 *
+		 * @return whether the frame is small enough to be reused
+		 */
+		boolean clear() {
+			changeListener = null;
+			staleListener = null;
+			if (size > 0) {
+				Arrays.fill(table, null);
+				Arrays.fill(elements, 0, size, null);
+				size = 0;
+			}
+			return table.length <= MAX_POOLED_CAPACITY;
+		}
+	}
+
+	/**
+	 * The tracking state of a thread. Note that the frames are actually the top
+	 * of a stack. Whenever a method changes the current frame, it remembers the
+	 * old one as a local variable and restores the old frame when the method
+	 * exits. Observables are confined to the thread of their realm, so the
+	 * frames are pooled per thread.
+	 */
+	private static final class TrackingState {
+		/** the frame collecting the observables read from, or null if none */
+		Frame getterCalledFrame;
+
+		/** the frame collecting the created observables, or null if none */
+		Frame observableCreatedFrame;
+
+		int ignoreCount;
+
+		private Frame pool;
+
+		Frame obtainFrame() {
+			Frame frame = pool;
+			if (frame == null) {
+				return new Frame();
+			}
+			pool = frame.next;
+			frame.next = null;
+			return frame;
+		}
+
+		void releaseFrame(Frame frame) {
+			if (frame.clear()) {
+				frame.next = pool;
+				pool = frame;
+			}
+		}
+	}
+
+	private static final ThreadLocal<TrackingState> currentState = ThreadLocal.withInitial(TrackingState::new);
 
 	/**
 	 * Invokes the given runnable, and returns the set of IObservables that were
@@ -97,31 +202,28 @@ public class ObservableTracker {
 	 */
 	public static IObservable[] runAndMonitor(Runnable runnable,
 			IChangeListener changeListener, IStaleListener staleListener) {
+		TrackingState state = currentState.get();
 		// Remember the previous value in the listener stack
-		Set<IObservable> lastObservableSet = currentGetterCalledSet.get();
-		IChangeListener lastChangeListener = currentChangeListener.get();
-		IStaleListener lastStaleListener = currentStaleListener.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		Frame lastFrame = state.getterCalledFrame;
+		int lastIgnore = state.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
+		Frame frame = state.obtainFrame();
+		frame.changeListener = changeListener;
+		frame.staleListener = staleListener;
 		// Push the new listeners to the top of the stack
-		currentGetterCalledSet.set(observableSet);
-		currentChangeListener.set(changeListener);
-		currentStaleListener.set(staleListener);
-		currentIgnoreCount.set(null);
+		state.getterCalledFrame = frame;
+		state.ignoreCount = 0;
 		try {
 			runnable.run();
+			return frame.toArray();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentGetterCalledSet.set(lastObservableSet);
-			currentChangeListener.set(lastChangeListener);
-			currentStaleListener.set(lastStaleListener);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			state.getterCalledFrame = lastFrame;
+			checkUnmatchedIgnore(state, runnable);
+			state.ignoreCount = lastIgnore;
+			state.releaseFrame(frame);
 		}
-
-		return observableSet.toArray(new IObservable[observableSet.size()]);
 	}
 
 	/**
@@ -141,34 +243,35 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static IObservable[] runAndCollect(Runnable runnable) {
-		Set<IObservable> lastObservableCreatedSet = currentObservableCreatedSet.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		TrackingState state = currentState.get();
+		Frame lastFrame = state.observableCreatedFrame;
+		int lastIgnore = state.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
+		Frame frame = state.obtainFrame();
 		// Push the new listeners to the top of the stack
-		currentObservableCreatedSet.set(observableSet);
-		currentIgnoreCount.set(null);
+		state.observableCreatedFrame = frame;
+		state.ignoreCount = 0;
 		try {
 			runnable.run();
+			return frame.toArray();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentObservableCreatedSet.set(lastObservableCreatedSet);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			state.observableCreatedFrame = lastFrame;
+			checkUnmatchedIgnore(state, runnable);
+			state.ignoreCount = lastIgnore;
+			state.releaseFrame(frame);
 		}
-
-		return observableSet.toArray(new IObservable[observableSet.size()]);
 	}
 
-	private static void checkUnmatchedIgnore(Runnable runnable) {
-		if (isIgnore()) {
+	private static void checkUnmatchedIgnore(TrackingState state, Runnable runnable) {
+		if (state.ignoreCount > 0) {
 			Policy.getLog()
 					.log(new Status(
 							IStatus.ERROR,
 							Policy.JFACE_DATABINDING,
 							"There were " //$NON-NLS-1$
-									+ currentIgnoreCount.get()
+									+ state.ignoreCount
 									+ " unmatched setIgnore(true) invocations in runnable " //$NON-NLS-1$
 									+ runnable));
 		}
@@ -193,15 +296,13 @@ public class ObservableTracker {
 	 * @since 1.3
 	 */
 	public static void setIgnore(boolean ignore) {
-		Integer lastCount = currentIgnoreCount.get();
-
-		int newCount = (lastCount == null ? 0 : lastCount.intValue())
-				+ (ignore ? 1 : -1);
+		TrackingState state = currentState.get();
+		int newCount = state.ignoreCount + (ignore ? 1 : -1);
 
 		if (newCount < 0)
 			throw new IllegalStateException("Ignore count is already zero"); //$NON-NLS-1$
 
-		currentIgnoreCount.set(newCount == 0 ? null : Integer.valueOf(newCount));
+		state.ignoreCount = newCount;
 	}
 
 	/**
@@ -231,10 +332,6 @@ public class ObservableTracker {
 				+ Integer.toHexString(System.identityHashCode(observable));
 	}
 
-	private static boolean isIgnore() {
-		return currentIgnoreCount.get() != null;
-	}
-
 	/**
 	 * Notifies the ObservableTracker that an observable was read from. The
 	 * JavaDoc for methods that invoke this method should include the following
@@ -254,16 +351,17 @@ public class ObservableTracker {
 			Assert.isTrue(false, "Getter called outside realm of observable " //$NON-NLS-1$
 					+ toString(observable));
 
-		if (isIgnore())
+		TrackingState state = currentState.get();
+		if (state.ignoreCount > 0)
 			return;
 
-		Set<IObservable> getterCalledSet = currentGetterCalledSet.get();
-		if (getterCalledSet != null && getterCalledSet.add(observable)) {
+		Frame frame = state.getterCalledFrame;
+		if (frame != null && frame.add(observable)) {
 			// If anyone is listening for observable usage...
-			IChangeListener changeListener = currentChangeListener.get();
+			IChangeListener changeListener = frame.changeListener;
 			if (changeListener != null)
 				observable.addChangeListener(changeListener);
-			IStaleListener staleListener = currentStaleListener.get();
+			IStaleListener staleListener = frame.staleListener;
 			if (staleListener != null)
 				observable.addStaleListener(staleListener);
 		}
@@ -277,11 +375,12 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static void observableCreated(IObservable observable) {
-		if (isIgnore())
+		TrackingState state = currentState.get();
+		if (state.ignoreCount > 0)
 			return;
-		Set<IObservable> observableCreatedSet = currentObservableCreatedSet.get();
-		if (observableCreatedSet != null) {
-			observableCreatedSet.add(observable);
+		Frame frame = state.observableCreatedFrame;
+		if (frame != null) {
+			frame.add(observable);
 		}
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import java.util.TimerTask;
 
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.internal.databinding.observable.Queue;
+import org.eclipse.core.internal.databinding.observable.RealmTransaction;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SafeRunner;
@@ -176,6 +178,27 @@ public abstract class Realm {
 		}
 	}
 
+	/**
+	 * Runs the given runnable as one transaction. Computed values of this realm
+	 * which become dirty within the transaction do not notify their listeners
+	 * immediately. When the transaction ends, each of them fires a single
+	 * change event, after all the computed values it depends on have fired
+	 * theirs. Listeners reading computed values while these events are fired
+	 * never see values computed from outdated dependencies. Other observables
+	 * notify their listeners as usual.
+	 * <p>
+	 * Nested transactions join the outermost one. This method must be called
+	 * from within this realm.
+	 * </p>
+	 *
+	 * @param runnable {@link Runnable} to execute
+	 * @since 1.13
+	 */
+	public void runInTransaction(Runnable runnable) {
+		Assert.isTrue(isCurrent(), "This operation must be run within the realm"); //$NON-NLS-1$
+		RealmTransaction.run(this, runnable);
+	}
+
 	/**
 	 * Causes the <code>run()</code> method of the runnable to be invoked from
 	 * within this realm at the next reasonable opportunity. The caller of this
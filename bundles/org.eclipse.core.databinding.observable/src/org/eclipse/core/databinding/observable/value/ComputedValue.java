@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@
  *******************************************************************************/
 package org.eclipse.core.databinding.observable.value;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -28,6 +30,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.internal.databinding.observable.RealmTransaction;
 
 /**
  * A Lazily calculated value that automatically computes and registers listeners
@@ -66,6 +69,11 @@ import org.eclipse.core.databinding.observable.list.IObservableList;
  * addends.add(Integer.valueOf(10));
  * System.out.println(sum.getValue()); // =&gt; 13
  * </pre>
+ * <p>
+ * Within a {@link Realm#runInTransaction(Runnable) transaction} a computed value
+ * fires at most one change event, after the computed values it depends on have
+ * fired theirs.
+ * </p>
  *
  * @param <T>
  *            the type of value being observed
@@ -86,6 +94,22 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 */
 	private IObservable[] dependencies = null;
 
+	/**
+	 * The height of this value in the dependency graph: one more than the
+	 * highest computed value it depends on.
+	 */
+	private int height;
+
+	/** incremented whenever this value becomes dirty */
+	private int changeCount;
+
+	/**
+	 * The change counts of the dependencies whose change event was still pending
+	 * in a transaction when this value was computed, or <code>null</code>. These
+	 * events don't make this value dirty again.
+	 */
+	private Map<ComputedValue<?>, Integer> seenChanges;
+
 	/**
 	 * Factory method to create {@link ComputedValue} objects in an easy manner.
 	 * <p>
@@ -182,6 +206,11 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 		@Override
 		public void handleChange(ChangeEvent event) {
+			if (event.getObservable() instanceof ComputedValue<?>
+					&& isChangeSeen((ComputedValue<?>) event.getObservable())) {
+				seenChanges.remove(event.getObservable());
+				return;
+			}
 			makeDirty();
 		}
 	}
@@ -192,6 +221,14 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 	@Override
 	protected final T doGetValue() {
+		if (!dirty && dependencies != null) {
+			RealmTransaction transaction = RealmTransaction.get(getRealm());
+			if (transaction != null && transaction.isFlushing() && hasPendingDependency(transaction)) {
+				// one of our dependencies changed, but we haven't been notified
+				// yet, don't expose the outdated value
+				makeDirty();
+			}
+		}
 		if (dirty) {
 			// This line will do the following:
 			// - Run the calculate method
@@ -201,7 +238,20 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 					privateInterface, privateInterface, null);
 
 			stale = false;
+			height = 1;
+			seenChanges = null;
+			RealmTransaction transaction = RealmTransaction.get(getRealm());
 			for (IObservable observable : newDependencies) {
+				if (observable instanceof ComputedValue<?>) {
+					ComputedValue<?> computedValue = (ComputedValue<?>) observable;
+					height = Math.max(height, computedValue.height + 1);
+					if (transaction != null && transaction.isPending(computedValue)) {
+						if (seenChanges == null) {
+							seenChanges = new IdentityHashMap<>();
+						}
+						seenChanges.put(computedValue, Integer.valueOf(computedValue.changeCount));
+					}
+				}
 				// Add a change listener to the new dependency.
 				if (observable.isStale()) {
 					stale = true;
@@ -231,26 +281,63 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	protected final void makeDirty() {
 		if (!dirty) {
 			dirty = true;
+			changeCount++;
 
 			stopListening();
 
 			// copy the old value
 			final T oldValue = cachedValue;
-			// Fire the "dirty" event. This implementation recomputes the new
-			// value lazily.
-			fireValueChange(new ValueDiff<T>() {
+			RealmTransaction transaction = RealmTransaction.get(getRealm());
+			if (transaction != null) {
+				// fire a single event once the transaction ends, with the value
+				// from before the first change
+				transaction.schedule(this, height, () -> {
+					if (!isDisposed()) {
+						fireDirty(oldValue);
+					}
+				});
+			} else {
+				fireDirty(oldValue);
+			}
+		}
+	}
 
-				@Override
-				public T getOldValue() {
-					return oldValue;
+	private boolean hasPendingDependency(RealmTransaction transaction) {
+		for (IObservable observable : dependencies) {
+			if (observable instanceof ComputedValue<?>) {
+				ComputedValue<?> computedValue = (ComputedValue<?>) observable;
+				if ((transaction.isPending(computedValue) && !isChangeSeen(computedValue)) || (!computedValue.dirty
+						&& computedValue.dependencies != null && computedValue.hasPendingDependency(transaction))) {
+					return true;
 				}
+			}
+		}
+		return false;
+	}
 
-				@Override
-				public T getNewValue() {
-					return getValue();
-				}
-			});
+	private boolean isChangeSeen(ComputedValue<?> dependency) {
+		if (seenChanges == null) {
+			return false;
 		}
+		Integer count = seenChanges.get(dependency);
+		return count != null && count.intValue() == dependency.changeCount;
+	}
+
+	private void fireDirty(final T oldValue) {
+		// Fire the "dirty" event. This implementation recomputes the new
+		// value lazily.
+		fireValueChange(new ValueDiff<T>() {
+
+			@Override
+			public T getOldValue() {
+				return oldValue;
+			}
+
+			@Override
+			public T getNewValue() {
+				return getValue();
+			}
+		});
 	}
 
 	/**
@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes the differences between two list states in near-linear time.
+ * <p>
+ * The common prefix and suffix of the lists are skipped first. The elements
+ * kept in between are found with a patience diff: elements that occur exactly
+ * once in both lists are matched, the longest increasing subsequence of the
+ * matches is kept and the gaps between the kept elements are processed the same
+ * way. All other elements are removed and added, the removals being reported
+ * before the additions.
+ * </p>
+ * <p>
+ * The resulting entries have the same semantics as the ones of
+ * {@link Diffs#computeListDiff(List, List)}: applied in order to the old list
+ * they produce the new list.
+ * </p>
+ */
+public final class ListDiffComputer {
+
+	/**
+	 * Size of the changed region (old and new elements) above which all old
+	 * elements of the region are removed and all new ones are added instead of
+	 * computing the smallest difference.
+	 */
+	static final int REPLACE_ALL_THRESHOLD = 1 << 20;
+
+	private final Object[] oldElements;
+	private final Object[] newElements;
+
+	/** the index of the new element kept for each old element, or -1 */
+	private final int[] oldMatches;
+	/** the index of the old element kept for each new element, or -1 */
+	private final int[] newMatches;
+
+	private ListDiffComputer(Object[] oldElements, Object[] newElements) {
+		this.oldElements = oldElements;
+		this.newElements = newElements;
+		this.oldMatches = new int[oldElements.length];
+		this.newMatches = new int[newElements.length];
+		Arrays.fill(oldMatches, -1);
+		Arrays.fill(newMatches, -1);
+	}
+
+	/**
+	 * Adds the entries describing the change from the old to the new list state
+	 * to the given list.
+	 *
+	 * @param <E>     the list element type
+	 * @param oldList the old list state
+	 * @param newList the new list state
+	 * @param diffs   the list to add the entries to
+	 */
+	public static <E> void computeDiffs(List<? extends E> oldList, List<? extends E> newList,
+			List<ListDiffEntry<E>> diffs) {
+		Object[] oldElements = oldList.toArray();
+		Object[] newElements = newList.toArray();
+
+		int start = 0;
+		int oldEnd = oldElements.length;
+		int newEnd = newElements.length;
+		while (start < oldEnd && start < newEnd && Objects.equals(oldElements[start], newElements[start])) {
+			start++;
+		}
+		while (oldEnd > start && newEnd > start
+				&& Objects.equals(oldElements[oldEnd - 1], newElements[newEnd - 1])) {
+			oldEnd--;
+			newEnd--;
+		}
+		if (start == oldEnd && start == newEnd) {
+			return;
+		}
+
+		if ((oldEnd - start) + (newEnd - start) > REPLACE_ALL_THRESHOLD) {
+			for (int i = start; i < oldEnd; i++) {
+				diffs.add(createEntry(start, false, oldElements[i]));
+			}
+			for (int j = start; j < newEnd; j++) {
+				diffs.add(createEntry(j, true, newElements[j]));
+			}
+			return;
+		}
+
+		ListDiffComputer computer = new ListDiffComputer(oldElements, newElements);
+		computer.match(start, oldEnd, start, newEnd);
+		computer.createEntries(start, oldEnd, newEnd, diffs);
+	}
+
+	/**
+	 * Finds the elements kept between the given ranges of the old and new
+	 * elements.
+	 */
+	private void match(int oldStart, int oldEnd, int newStart, int newEnd) {
+		ArrayDeque<int[]> regions = new ArrayDeque<>();
+		regions.push(new int[] { oldStart, oldEnd, newStart, newEnd });
+		while (!regions.isEmpty()) {
+			int[] region = regions.pop();
+			int oldLow = region[0];
+			int oldHigh = region[1];
+			int newLow = region[2];
+			int newHigh = region[3];
+
+			while (oldLow < oldHigh && newLow < newHigh
+					&& Objects.equals(oldElements[oldLow], newElements[newLow])) {
+				keep(oldLow++, newLow++);
+			}
+			while (oldLow < oldHigh && newLow < newHigh
+					&& Objects.equals(oldElements[oldHigh - 1], newElements[newHigh - 1])) {
+				keep(--oldHigh, --newHigh);
+			}
+			if (oldLow == oldHigh || newLow == newHigh) {
+				continue;
+			}
+
+			int[] anchors = findUniqueAnchors(oldLow, oldHigh, newLow, newHigh);
+			if (anchors.length == 0) {
+				// nothing in common that can be matched cheaply, the remaining
+				// elements are removed and added
+				continue;
+			}
+
+			int previousOld = oldLow;
+			int previousNew = newLow;
+			for (int newIndex : anchors) {
+				int oldIndex = newMatches[newIndex];
+				if (previousOld < oldIndex || previousNew < newIndex) {
+					regions.push(new int[] { previousOld, oldIndex, previousNew, newIndex });
+				}
+				previousOld = oldIndex + 1;
+				previousNew = newIndex + 1;
+			}
+			if (previousOld < oldHigh || previousNew < newHigh) {
+				regions.push(new int[] { previousOld, oldHigh, previousNew, newHigh });
+			}
+		}
+	}
+
+	/**
+	 * Keeps the longest increasing sequence of the elements which occur exactly
+	 * once in both ranges.
+	 *
+	 * @return the new indices of the kept elements, in ascending order
+	 */
+	private int[] findUniqueAnchors(int oldLow, int oldHigh, int newLow, int newHigh) {
+		// per element: occurrences and last index in the old range, then in the
+		// new range
+		Map<Object, int[]> occurrences = new HashMap<>();
+		for (int i = oldLow; i < oldHigh; i++) {
+			int[] occurrence = occurrences.computeIfAbsent(oldElements[i], k -> new int[4]);
+			occurrence[0]++;
+			occurrence[1] = i;
+		}
+		int candidateCount = 0;
+		int[] candidateOld = new int[Math.min(oldHigh - oldLow, newHigh - newLow)];
+		int[] candidateNew = new int[candidateOld.length];
+		for (int j = newLow; j < newHigh; j++) {
+			int[] occurrence = occurrences.get(newElements[j]);
+			if (occurrence != null) {
+				occurrence[2]++;
+				occurrence[3] = j;
+			}
+		}
+		for (int j = newLow; j < newHigh; j++) {
+			int[] occurrence = occurrences.get(newElements[j]);
+			if (occurrence != null && occurrence[0] == 1 && occurrence[2] == 1) {
+				candidateOld[candidateCount] = occurrence[1];
+				candidateNew[candidateCount] = j;
+				candidateCount++;
+			}
+		}
+		if (candidateCount == 0) {
+			return new int[0];
+		}
+
+		// longest increasing subsequence of the old indices (patience sorting)
+		int[] tails = new int[candidateCount];
+		int[] predecessors = new int[candidateCount];
+		int length = 0;
+		for (int c = 0; c < candidateCount; c++) {
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (candidateOld[tails[mid]] < candidateOld[c]) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[c] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = c;
+			if (low == length) {
+				length++;
+			}
+		}
+
+		int[] anchors = new int[length];
+		for (int c = tails[length - 1], i = length - 1; c >= 0; c = predecessors[c], i--) {
+			keep(candidateOld[c], candidateNew[c]);
+			anchors[i] = candidateNew[c];
+		}
+		return anchors;
+	}
+
+	private void keep(int oldIndex, int newIndex) {
+		oldMatches[oldIndex] = newIndex;
+		newMatches[newIndex] = oldIndex;
+	}
+
+	/**
+	 * Creates the entries for the changed region. The old and new elements of the
+	 * region are merged into one sequence of slots: the removed elements of each
+	 * gap between kept elements come first, followed by the added ones. All
+	 * removals are reported before the additions, as
+	 * {@link org.eclipse.core.databinding.observable.list.ListDiff#accept} pairs
+	 * an addition with a directly following removal and does not handle every
+	 * relative position of the two correctly. The position of an entry is the
+	 * number of elements present in the slots before it, which is tracked in a
+	 * Fenwick tree.
+	 */
+	private <E> void createEntries(int start, int oldEnd, int newEnd, List<ListDiffEntry<E>> diffs) {
+		// old indices are stored as is, new indices as -(index + 1)
+		int[] slots = new int[(oldEnd - start) + (newEnd - start)];
+		int slotCount = 0;
+		int[] tree = new int[slots.length + 1];
+		int i = start;
+		int j = start;
+		while (i < oldEnd || j < newEnd) {
+			if (i < oldEnd && oldMatches[i] < 0) {
+				add(tree, slotCount, 1);
+				slots[slotCount++] = i++;
+			} else if (j < newEnd && newMatches[j] < 0) {
+				slots[slotCount++] = -(j++ + 1);
+			} else {
+				// a kept element, present from the start to the end
+				add(tree, slotCount, 1);
+				slots[slotCount++] = i++;
+				j++;
+			}
+		}
+
+		for (int slot = 0; slot < slotCount; slot++) {
+			int index = slots[slot];
+			if (index >= 0 && oldMatches[index] < 0) {
+				diffs.add(createEntry(start + sum(tree, slot), false, oldElements[index]));
+				add(tree, slot, -1);
+			}
+		}
+		for (int slot = 0; slot < slotCount; slot++) {
+			int index = slots[slot];
+			if (index < 0) {
+				int newIndex = -index - 1;
+				diffs.add(createEntry(start + sum(tree, slot), true, newElements[newIndex]));
+				add(tree, slot, 1);
+			}
+		}
+	}
+
+	/** Adds the delta to the given slot of the Fenwick tree. */
+	private static void add(int[] tree, int slot, int delta) {
+		for (int k = slot + 1; k < tree.length; k += k & -k) {
+			tree[k] += delta;
+		}
+	}
+
+	/** @return the sum of the slots before the given one */
+	private static int sum(int[] tree, int slot) {
+		int sum = 0;
+		for (int k = slot; k > 0; k -= k & -k) {
+			sum += tree[k];
+		}
+		return sum;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> ListDiffEntry<E> createEntry(int position, boolean isAddition, Object element) {
+		return Diffs.createListDiffEntry(position, isAddition, (E) element);
+	}
+}
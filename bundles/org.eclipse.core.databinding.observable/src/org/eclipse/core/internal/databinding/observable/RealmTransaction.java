@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * A transaction started by {@link Realm#runInTransaction(Runnable)}. Computed
+ * observables which become dirty within the transaction schedule their change
+ * event instead of firing it. When the outermost transaction of the realm ends,
+ * the scheduled events are fired in the order of the height of the
+ * observables in the dependency graph, so that an observable is notified after
+ * all the observables it depends on. Events scheduled while the transaction is
+ * flushed are fired within the same flush.
+ */
+public final class RealmTransaction {
+
+	private static final ThreadLocal<RealmTransaction> current = new ThreadLocal<>();
+
+	private static final class PendingChange implements Comparable<PendingChange> {
+		final Object observable;
+		final int height;
+		final long sequence;
+		final Runnable fireChange;
+
+		PendingChange(Object observable, int height, long sequence, Runnable fireChange) {
+			this.observable = observable;
+			this.height = height;
+			this.sequence = sequence;
+			this.fireChange = fireChange;
+		}
+
+		@Override
+		public int compareTo(PendingChange other) {
+			if (height != other.height) {
+				return Integer.compare(height, other.height);
+			}
+			return Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private final Realm realm;
+
+	/** the transaction of another realm active on the same thread, or null */
+	private final RealmTransaction outer;
+
+	private final PriorityQueue<PendingChange> queue = new PriorityQueue<>();
+
+	private final Map<Object, PendingChange> pending = new IdentityHashMap<>();
+
+	private long sequence;
+
+	/** the observable whose event is being fired, or null */
+	private Object firing;
+
+	private boolean flushing;
+
+	private RealmTransaction(Realm realm, RealmTransaction outer) {
+		this.realm = realm;
+		this.outer = outer;
+	}
+
+	/**
+	 * Runs the given runnable within a transaction of the given realm. If a
+	 * transaction of the realm is already active the runnable joins it.
+	 *
+	 * @param realm    the realm, must be current
+	 * @param runnable the runnable to run
+	 */
+	public static void run(Realm realm, Runnable runnable) {
+		if (get(realm) != null) {
+			runnable.run();
+			return;
+		}
+
+		RealmTransaction transaction = new RealmTransaction(realm, current.get());
+		current.set(transaction);
+		try {
+			runnable.run();
+		} finally {
+			try {
+				transaction.flush();
+			} finally {
+				current.set(transaction.outer);
+			}
+		}
+	}
+
+	/**
+	 * @param realm the realm
+	 * @return the active transaction of the given realm on the calling thread,
+	 *         or <code>null</code> if there is none
+	 */
+	public static RealmTransaction get(Realm realm) {
+		for (RealmTransaction transaction = current.get(); transaction != null; transaction = transaction.outer) {
+			if (transaction.realm == realm) {
+				return transaction;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Schedules the change event of the given observable. Nothing is scheduled
+	 * if an event of the observable is already pending, so that it fires a
+	 * single event per transaction.
+	 *
+	 * @param observable the observable
+	 * @param height     the height of the observable in the dependency graph,
+	 *                   zero for observables without computed dependencies
+	 * @param fireChange fires the change event of the observable
+	 * @return whether the event has been scheduled
+	 */
+	public boolean schedule(Object observable, int height, Runnable fireChange) {
+		if (pending.containsKey(observable)) {
+			return false;
+		}
+		PendingChange change = new PendingChange(observable, height, sequence++, fireChange);
+		pending.put(observable, change);
+		queue.add(change);
+		return true;
+	}
+
+	/**
+	 * @param observable the observable
+	 * @return whether the change event of the given observable is pending or
+	 *         being fired
+	 */
+	public boolean isPending(Object observable) {
+		return observable == firing || pending.containsKey(observable);
+	}
+
+	/**
+	 * @return whether the pending events are being fired
+	 */
+	public boolean isFlushing() {
+		return flushing;
+	}
+
+	private void flush() {
+		flushing = true;
+		PendingChange change;
+		while ((change = queue.poll()) != null) {
+			pending.remove(change.observable);
+			firing = change.observable;
+			try {
+				change.fireChange.run();
+			} catch (RuntimeException e) {
+				Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.OK,
+						"Unhandled exception: " + e.getMessage(), e)); //$NON-NLS-1$
+			} finally {
+				firing = null;
+			}
+		}
+		flushing = false;
+	}
+}
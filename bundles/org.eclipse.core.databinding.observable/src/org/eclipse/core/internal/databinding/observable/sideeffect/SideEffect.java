@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Google, Inc. and others.
+ * Copyright (c) 2015, 2026 Google, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.core.internal.databinding.observable.sideeffect;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -94,6 +97,11 @@ public final class SideEffect implements ISideEffect {
 	 * Dependencies which we are currently listening for change events from
 	 */
 	private IObservable[] dependencies;
+	/**
+	 * True while {@link #runnable} is executing. Changes of the dependencies
+	 * during that time are not tracked.
+	 */
+	private boolean updating;
 	private Realm realm;
 
 	private PrivateInterface privateInterface = new PrivateInterface();
@@ -184,19 +192,27 @@ public final class SideEffect implements ISideEffect {
 	private void update() {
 		if (dirty && pauseDepth <= 0) {
 			dirty = false;
-			// Hold a reference to the old dependencies to prevent them from
-			// being garbage collected until we've computed the new set. In the
-			// event that a dependency is lazily created, this prevents it from
-			// being destroyed and immediately recreated.
-
-			// Stop listening for dependency changes.
-			stopListening();
+			// Keep listening to the old dependencies until we've computed the
+			// new set. This prevents a lazily created dependency from being
+			// destroyed and immediately recreated, and lets us add and remove
+			// listeners only for the dependencies that changed.
+			IObservable[] oldDependencies = dependencies;
 
 			// This line will do the following:
 			// - Run the calculate method
 			// - While doing so, add any observable that is touched to the
 			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(runnable, null, null);
+			IObservable[] newDependencies = null;
+			updating = true;
+			try {
+				newDependencies = ObservableTracker.runAndMonitor(runnable, null, null);
+			} finally {
+				updating = false;
+				if (newDependencies == null) {
+					stopListening();
+					dependencies = null;
+				}
+			}
 
 			// If the side-effect disposed itself, exit without attaching any
 			// listeners.
@@ -204,14 +220,59 @@ public final class SideEffect implements ISideEffect {
 				return;
 			}
 
+			updateListeners(oldDependencies, newDependencies);
+			dependencies = newDependencies;
+		}
+	}
+
+	/**
+	 * Removes the change listener from the old dependencies which are not
+	 * contained in the new ones and adds it to the new dependencies which were
+	 * not contained in the old ones.
+	 */
+	private void updateListeners(IObservable[] oldDependencies, IObservable[] newDependencies) {
+		if (oldDependencies == null || oldDependencies.length == 0) {
 			for (IObservable next : newDependencies) {
 				next.addChangeListener(privateInterface);
 			}
+			return;
+		}
 
-			dependencies = newDependencies;
+		if (oldDependencies.length * newDependencies.length <= 256) {
+			for (IObservable next : newDependencies) {
+				if (!containsIdentical(oldDependencies, next)) {
+					next.addChangeListener(privateInterface);
+				}
+			}
+			for (IObservable next : oldDependencies) {
+				if (!containsIdentical(newDependencies, next)) {
+					next.removeChangeListener(privateInterface);
+				}
+			}
+			return;
+		}
+
+		Set<IObservable> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		Collections.addAll(oldSet, oldDependencies);
+		for (IObservable next : newDependencies) {
+			if (!oldSet.remove(next)) {
+				next.addChangeListener(privateInterface);
+			}
+		}
+		for (IObservable next : oldSet) {
+			next.removeChangeListener(privateInterface);
 		}
 	}
 
+	private static boolean containsIdentical(IObservable[] observables, IObservable observable) {
+		for (IObservable next : observables) {
+			if (next == observable) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void dispose() {
 		checkRealm();
@@ -337,6 +398,9 @@ public final class SideEffect implements ISideEffect {
 	private class PrivateInterface implements IChangeListener, Runnable {
 		@Override
 		public void handleChange(ChangeEvent event) {
+			if (updating) {
+				return;
+			}
 			markDirtyInternal();
 		}
 
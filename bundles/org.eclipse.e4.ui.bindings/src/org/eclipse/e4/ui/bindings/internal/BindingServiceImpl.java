@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -192,7 +192,12 @@ public class BindingServiceImpl implements EBindingService {
 				}
 			}
 		}
-		contextSet = manager.createContextSet(contexts);
+		ContextSet newSet = manager.createContextSet(contexts);
+		if (!newSet.equals(contextSet)) {
+			// keep the old instance otherwise, the binding tables resolved for
+			// it by the manager can then be reused without any lookup
+			contextSet = newSet;
+		}
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
@@ -125,9 +126,12 @@ public class BindingTable {
 
 	private Context tableId;
 	private ArrayList<Binding> bindings = new ArrayList<>();
-	private Map<TriggerSequence, Binding> bindingsByTrigger = new HashMap<>();
 	private Map<ParameterizedCommand, ArrayList<Binding>> bindingsByCommand = new HashMap<>();
-	private Map<TriggerSequence, ArrayList<Binding>> bindingsByPrefix = new HashMap<>();
+	/**
+	 * Trie of the active bindings by trigger, answering both perfect and partial
+	 * matches.
+	 */
+	private final TriggerNode bindingsByTrigger = new TriggerNode();
 	private Map<TriggerSequence, ArrayList<Binding>> conflicts = new HashMap<>();
 	private Map<TriggerSequence, ArrayList<Binding>> orderedBindingsByTrigger = new HashMap<>();
 
@@ -167,7 +171,7 @@ public class BindingTable {
 					+ " does not match " + getId()); //$NON-NLS-1$
 		}
 		ArrayList<Binding> bindingList = orderedBindingsByTrigger.get(binding.getTriggerSequence());
-		Binding possibleConflict = bindingsByTrigger.get(binding.getTriggerSequence());
+		Binding possibleConflict = getPerfectMatch(binding.getTriggerSequence());
 		if (bindingList == null || bindingList.isEmpty()) {
 			if (possibleConflict != null) {
 				if (bindingList == null) {
@@ -194,7 +198,7 @@ public class BindingTable {
 
 	private void addBindingSimple(Binding binding) {
 		bindings.add(binding);
-		bindingsByTrigger.put(binding.getTriggerSequence(), binding);
+		bindingsByTrigger.put(binding.getTriggerSequence().getTriggers(), binding);
 
 		ArrayList<Binding> sequences = bindingsByCommand.get(binding.getParameterizedCommand());
 		if (sequences == null) {
@@ -203,33 +207,16 @@ public class BindingTable {
 		}
 		sequences.add(binding);
 		sequences.sort(BEST_SEQUENCE);
-
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings == null) {
-				bindings = new ArrayList<>();
-				bindingsByPrefix.put(prefs[i], bindings);
-			}
-			bindings.add(binding);
-		}
 	}
 
 	private void removeBindingSimple(Binding binding) {
 		bindings.remove(binding);
-		bindingsByTrigger.remove(binding.getTriggerSequence());
+		bindingsByTrigger.remove(binding.getTriggerSequence().getTriggers(), 0);
 		ArrayList<Binding> sequences = bindingsByCommand.get(binding.getParameterizedCommand());
 
 		if (sequences != null) {
 			sequences.remove(binding);
 		}
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings != null) {
-				bindings.remove(binding);
-			}
-		}
 	}
 
 	public void removeBinding(Binding binding) {
@@ -238,7 +225,7 @@ public class BindingTable {
 					+ " does not match " + getId()); //$NON-NLS-1$
 		}
 		ArrayList<Binding> bindingList = orderedBindingsByTrigger.get(binding.getTriggerSequence());
-		Binding possibleConflict = bindingsByTrigger.get(binding.getTriggerSequence());
+		Binding possibleConflict = getPerfectMatch(binding.getTriggerSequence());
 		if (possibleConflict == binding) {
 			removeBindingSimple(binding);
 			if (bindingList != null) {
@@ -296,26 +283,27 @@ public class BindingTable {
 					}
 				} else {
 					conflicts.remove(sequence);
-					if (bindingsByTrigger.get(sequence) == null) {
+					if (getPerfectMatch(sequence) == null) {
 						addBindingSimple(msb);
 					}
 				}
 			} else {
-				if (bindingsByTrigger.get(sequence) == null) {
+				if (getPerfectMatch(sequence) == null) {
 					addBindingSimple(bindingList.get(0));
 				}
 				orderedBindingsByTrigger.remove(sequence);
 			}
 		} else if (binding != null) {
 			conflicts.remove(sequence);
-			if (bindingsByTrigger.get(sequence) == null) {
+			if (getPerfectMatch(sequence) == null) {
 				addBindingSimple(binding);
 			}
 		}
 	}
 
 	public Binding getPerfectMatch(TriggerSequence trigger) {
-		return bindingsByTrigger.get(trigger);
+		TriggerNode node = bindingsByTrigger.find(trigger.getTriggers());
+		return node == null ? null : node.binding;
 	}
 
 	public Binding getBestSequenceFor(ParameterizedCommand command) {
@@ -333,16 +321,98 @@ public class BindingTable {
 	}
 
 	public Collection<Binding> getPartialMatches(TriggerSequence sequence) {
-		return bindingsByPrefix.get(sequence);
+		TriggerNode node = findPrefix(sequence);
+		if (node == null) {
+			return null;
+		}
+		ArrayList<Binding> partialMatches = new ArrayList<>(node.descendantCount);
+		node.collectDescendants(partialMatches);
+		return partialMatches;
 	}
 
 	public boolean isPartialMatch(TriggerSequence seq) {
-		ArrayList<Binding> values = bindingsByPrefix.get(seq);
-		return values != null && !values.isEmpty();
+		TriggerNode node = findPrefix(seq);
+		return node != null && node.descendantCount > 0;
+	}
+
+	private TriggerNode findPrefix(TriggerSequence sequence) {
+		Trigger[] triggers = sequence.getTriggers();
+		// the empty sequence is not a prefix
+		return triggers.length == 0 ? null : bindingsByTrigger.find(triggers);
 	}
 
 	public Collection<Binding> getBindings() {
 		return Collections.unmodifiableCollection(bindings);
 	}
 
+	/**
+	 * Node of the trigger trie: the path from the root to a node is a trigger
+	 * sequence, the node holds the active binding of that sequence (if any) and
+	 * the number of active bindings of longer sequences starting with it.
+	 */
+	private static final class TriggerNode {
+		private Map<Trigger, TriggerNode> children;
+		private Binding binding;
+		private int descendantCount;
+
+		TriggerNode find(Trigger[] triggers) {
+			TriggerNode node = this;
+			for (int i = 0; i < triggers.length && node != null; i++) {
+				node = node.children == null ? null : node.children.get(triggers[i]);
+			}
+			return node;
+		}
+
+		void put(Trigger[] triggers, Binding newBinding) {
+			TriggerNode node = find(triggers);
+			boolean added = node == null || node.binding == null;
+			node = this;
+			for (Trigger trigger : triggers) {
+				if (added) {
+					node.descendantCount++;
+				}
+				if (node.children == null) {
+					node.children = new LinkedHashMap<>(4);
+				}
+				node = node.children.computeIfAbsent(trigger, t -> new TriggerNode());
+			}
+			node.binding = newBinding;
+		}
+
+		/**
+		 * Removes the binding of the given sequence, starting at the given index.
+		 *
+		 * @return <code>true</code> if a binding was removed
+		 */
+		boolean remove(Trigger[] triggers, int index) {
+			if (index == triggers.length) {
+				boolean removed = binding != null;
+				binding = null;
+				return removed;
+			}
+			TriggerNode child = children == null ? null : children.get(triggers[index]);
+			if (child == null || !child.remove(triggers, index + 1)) {
+				return false;
+			}
+			descendantCount--;
+			if (child.binding == null && child.descendantCount == 0) {
+				children.remove(triggers[index]);
+			}
+			return true;
+		}
+
+		void collectDescendants(Collection<Binding> result) {
+			if (children == null) {
+				return;
+			}
+			for (TriggerNode child : children.values()) {
+				if (child.binding != null) {
+					result.add(child.binding);
+				}
+				if (child.descendantCount > 0) {
+					child.collectDescendants(result);
+				}
+			}
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,9 @@ package org.eclipse.e4.ui.bindings.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
 import javax.inject.Inject;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
@@ -31,6 +32,11 @@ import org.eclipse.jface.bindings.TriggerSequence;
 public class BindingTableManager {
 	private static final String BINDING_TABLE_PREFIX = "bindingTable:"; //$NON-NLS-1$
 
+	/** Upper bound of context sets whose binding tables are remembered */
+	private static final int MAX_RESOLVED_SETS = 32;
+
+	private static final BindingTable[] NO_TABLES = new BindingTable[0];
+
 	@Inject
 	private IEclipseContext eclipseContext;
 
@@ -38,6 +44,26 @@ public class BindingTableManager {
 
 	private String[] activeSchemeIds;
 
+	/**
+	 * The binding tables of recently used context sets, in the order of the
+	 * contexts of the set. Flushed whenever a table is added or removed.
+	 */
+	private final Map<ContextSet, BindingTable[]> resolvedTables = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ContextSet, BindingTable[]> eldest) {
+			return size() > MAX_RESOLVED_SETS;
+		}
+	};
+
+	/** The last resolved context set, checked by identity before the map */
+	private ContextSet lastContextSet;
+
+	private BindingTable[] lastTables;
+
+	private int invalidationCount;
+
 	public void addTable(BindingTable table) {
 		String contextId = getTableId(table.getId());
 		if (eclipseContext.containsKey(contextId)) {
@@ -51,6 +77,7 @@ public class BindingTableManager {
 			contexts.add(table.getTableId());
 			definedTables = createContextSet(contexts);
 		}
+		invalidateResolvedTables();
 	}
 
 	private String getTableId(String id) {
@@ -69,12 +96,60 @@ public class BindingTableManager {
 			contexts.remove(table.getTableId());
 			definedTables = createContextSet(contexts);
 		}
+		invalidateResolvedTables();
 	}
 
 	public BindingTable getTable(String id) {
 		return (BindingTable) eclipseContext.get(getTableId(id));
 	}
 
+	/**
+	 * Returns the binding tables of the contexts of the given set, in the order
+	 * of the contexts. Contexts without a table are skipped. The result is
+	 * remembered until a table is added or removed, so that looking up a key
+	 * sequence doesn't have to resolve the tables of the active contexts again.
+	 */
+	private BindingTable[] getTables(ContextSet contextSet) {
+		if (contextSet == lastContextSet) {
+			return lastTables;
+		}
+		BindingTable[] tables = resolvedTables.get(contextSet);
+		if (tables == null) {
+			List<BindingTable> list = new ArrayList<>();
+			for (Context ctx : contextSet.getContexts()) {
+				BindingTable table = getTable(ctx.getId());
+				if (table != null) {
+					list.add(table);
+				}
+			}
+			tables = list.isEmpty() ? NO_TABLES : list.toArray(new BindingTable[list.size()]);
+			if (contextSet != definedTables) {
+				// the contexts of definedTables are modified when tables change
+				resolvedTables.put(contextSet, tables);
+			}
+		}
+		lastContextSet = contextSet;
+		lastTables = tables;
+		return tables;
+	}
+
+	private void invalidateResolvedTables() {
+		resolvedTables.clear();
+		lastContextSet = null;
+		lastTables = null;
+		invalidationCount++;
+	}
+
+	/**
+	 * Returns how often the remembered binding tables of the context sets were
+	 * discarded because a table was added or removed.
+	 *
+	 * @return the number of invalidations
+	 */
+	public int getInvalidationCount() {
+		return invalidationCount;
+	}
+
 	// we're just going through each binding table, and returning a
 	// flat list of bindings here
 	public Collection<Binding> getActiveBindings() {
@@ -95,13 +170,10 @@ public class BindingTableManager {
 	public Collection<Binding> getConflictsFor(ContextSet contextSet,
 			TriggerSequence triggerSequence) {
 		Collection<Binding> matches = new ArrayList<>();
-		for (Context ctx : contextSet.getContexts()) {
-			BindingTable table = getTable(ctx.getId());
-			if (table != null) {
-				final Collection<Binding> matchesFor = table.getConflictsFor(triggerSequence);
-				if (matchesFor != null) {
-					matches.addAll(matchesFor);
-				}
+		for (BindingTable table : getTables(contextSet)) {
+			final Collection<Binding> matchesFor = table.getConflictsFor(triggerSequence);
+			if (matchesFor != null) {
+				matches.addAll(matchesFor);
 			}
 		}
 		return matches.isEmpty() ? null : matches;
@@ -124,14 +196,9 @@ public class BindingTableManager {
 	public Binding getPerfectMatch(ContextSet contextSet, TriggerSequence triggerSequence) {
 		Binding result = null;
 		Binding currentResult = null;
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				currentResult = table.getPerfectMatch(triggerSequence);
-			}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			currentResult = tables[i].getPerfectMatch(triggerSequence);
 			if (currentResult != null) {
 				if (isMostActiveScheme(currentResult)) {
 					return currentResult;
@@ -174,16 +241,11 @@ public class BindingTableManager {
 	public Collection<Binding> getSequencesFor(ContextSet contextSet,
 			ParameterizedCommand parameterizedCommand) {
 		ArrayList<Binding> bindings = new ArrayList<>();
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				Collection<Binding> sequences = table.getSequencesFor(parameterizedCommand);
-				if (sequences != null) {
-					bindings.addAll(sequences);
-				}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			Collection<Binding> sequences = tables[i].getSequencesFor(parameterizedCommand);
+			if (sequences != null) {
+				bindings.addAll(sequences);
 			}
 		}
 		bindings.sort(BindingTable.BEST_SEQUENCE);
@@ -192,28 +254,20 @@ public class BindingTableManager {
 
 	public Collection<Binding> getBindingsFor(ContextSet contextSet, ParameterizedCommand cmd) {
 		Collection<Binding> bindings = new ArrayList<>();
-		for (Context ctx : contextSet.getContexts()) {
-			BindingTable table = getTable(ctx.getId());
-			if (table != null) {
-				Collection<Binding> matches = table.getSequencesFor(cmd);
-				if (matches != null) {
-					bindings.addAll(matches);
-				}
+		for (BindingTable table : getTables(contextSet)) {
+			Collection<Binding> matches = table.getSequencesFor(cmd);
+			if (matches != null) {
+				bindings.addAll(matches);
 			}
 		}
 		return bindings;
 	}
 
 	public boolean isPartialMatch(ContextSet contextSet, TriggerSequence sequence) {
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				if (table.isPartialMatch(sequence)) {
-					return true;
-				}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			if (tables[i].isPartialMatch(sequence)) {
+				return true;
 			}
 		}
 		return false;
@@ -221,16 +275,11 @@ public class BindingTableManager {
 
 	public Collection<Binding> getPartialMatches(ContextSet contextSet, TriggerSequence sequence) {
 		ArrayList<Binding> bindings = new ArrayList<>();
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				Collection<Binding> partialMatches = table.getPartialMatches(sequence);
-				if (partialMatches != null) {
-					bindings.addAll(partialMatches);
-				}
+		BindingTable[] tables = getTables(contextSet);
+		for (int i = tables.length - 1; i >= 0; i--) {
+			Collection<Binding> partialMatches = tables[i].getPartialMatches(sequence);
+			if (partialMatches != null) {
+				bindings.addAll(partialMatches);
 			}
 		}
 		return bindings;
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractDescendantSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractSiblingSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAndConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSConditionalSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleRule;
+
+/**
+ * Index of the selectors of a list of CSS rules, keyed by the rightmost simple
+ * selector of each selector (id, class, element name or universal).
+ * <p>
+ * A selector can only match an element if the element carries the key of the
+ * selector, so {@link #getCandidates(Element)} only returns the selectors of
+ * the buckets the element falls into. The candidates are returned in the
+ * order in which they appear in the rule list, so that the position based
+ * ordering of {@link StyleWrapper} stays the same as when all rules are
+ * scanned.
+ * </p>
+ */
+final class CSSRuleIndex {
+
+	/**
+	 * A selector of a style rule together with its position in the rule list.
+	 */
+	static final class Entry {
+		final ExtendedSelector selector;
+		final CSSStyleDeclaration style;
+		final int order;
+
+		Entry(ExtendedSelector selector, CSSStyleDeclaration style, int order) {
+			this.selector = selector;
+			this.style = style;
+			this.order = order;
+		}
+	}
+
+	private final Map<String, List<Entry>> idEntries = new HashMap<>();
+	private final Map<String, List<Entry>> classEntries = new HashMap<>();
+	private final Map<String, List<Entry>> elementEntries = new HashMap<>();
+	private final List<Entry> universalEntries = new ArrayList<>();
+
+	/**
+	 * Creates the index for the given rules.
+	 */
+	CSSRuleIndex(List<CSSRule> ruleList) {
+		int order = 0;
+		for (CSSRule rule : ruleList) {
+			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule))) {
+				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
+			}
+			CSSStyleDeclaration style = ((CSSStyleRule) rule).getStyle();
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (selector instanceof ExtendedSelector) {
+					add(new Entry((ExtendedSelector) selector, style, order++));
+				}
+			}
+		}
+	}
+
+	private void add(Entry entry) {
+		Selector selector = getKeySelector(entry.selector);
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditional = (CSSConditionalSelectorImpl) selector;
+			String id = findConditionValue(conditional.getCondition(), true);
+			if (id != null) {
+				idEntries.computeIfAbsent(id, k -> new ArrayList<>()).add(entry);
+				return;
+			}
+			String cssClass = findConditionValue(conditional.getCondition(), false);
+			if (cssClass != null) {
+				classEntries.computeIfAbsent(cssClass, k -> new ArrayList<>()).add(entry);
+				return;
+			}
+			selector = conditional.getSimpleSelector();
+		}
+		if (selector instanceof CSSElementSelectorImpl) {
+			String name = ((CSSElementSelectorImpl) selector).getLocalName();
+			if (name != null) {
+				elementEntries.computeIfAbsent(name, k -> new ArrayList<>()).add(entry);
+				return;
+			}
+		}
+		universalEntries.add(entry);
+	}
+
+	/**
+	 * Returns the selector which has to match the element itself, i.e. the
+	 * rightmost compound selector of descendant, child and sibling selectors.
+	 */
+	private static Selector getKeySelector(Selector selector) {
+		Selector current = selector;
+		while (true) {
+			if (current instanceof AbstractDescendantSelector) {
+				current = ((AbstractDescendantSelector) current).getSimpleSelector();
+			} else if (current instanceof AbstractSiblingSelector) {
+				current = ((AbstractSiblingSelector) current).getSiblingSelector();
+			} else {
+				return current;
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of the first id (or class) condition which is required
+	 * by the given condition, or <code>null</code> if there is none.
+	 */
+	private static String findConditionValue(Condition condition, boolean id) {
+		if (condition instanceof CSSAndConditionImpl) {
+			CSSAndConditionImpl and = (CSSAndConditionImpl) condition;
+			String value = findConditionValue(and.getFirstCondition(), id);
+			return value != null ? value : findConditionValue(and.getSecondCondition(), id);
+		}
+		if (id && condition instanceof CSSIdConditionImpl) {
+			return ((CSSIdConditionImpl) condition).getValue();
+		}
+		if (!id && condition instanceof CSSClassConditionImpl) {
+			return ((CSSClassConditionImpl) condition).getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the selectors which may match the given element, in the order of
+	 * the rule list.
+	 */
+	List<Entry> getCandidates(Element elt) {
+		List<List<Entry>> buckets = new ArrayList<>(4);
+		addBucket(buckets, universalEntries);
+		if (!elementEntries.isEmpty()) {
+			String name = elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+			if (name != null) {
+				addBucket(buckets, elementEntries.get(name));
+			}
+		}
+		if (!idEntries.isEmpty()) {
+			String id = elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSId()
+					: elt.getAttribute("id"); //$NON-NLS-1$
+			if (id != null) {
+				addBucket(buckets, idEntries.get(id));
+			}
+		}
+		if (!classEntries.isEmpty()) {
+			String cssClass = elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSClass()
+					: elt.getAttribute("class"); //$NON-NLS-1$
+			if (cssClass != null && !cssClass.isEmpty()) {
+				addClassBuckets(buckets, cssClass);
+			}
+		}
+
+		if (buckets.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (buckets.size() == 1) {
+			return buckets.get(0);
+		}
+		List<Entry> candidates = new ArrayList<>();
+		for (List<Entry> bucket : buckets) {
+			candidates.addAll(bucket);
+		}
+		candidates.sort((e1, e2) -> Integer.compare(e1.order, e2.order));
+		return candidates;
+	}
+
+	private void addClassBuckets(List<List<Entry>> buckets, String cssClass) {
+		int length = cssClass.length();
+		int start = -1;
+		for (int i = 0; i <= length; i++) {
+			boolean separator = i == length || Character.isSpaceChar(cssClass.charAt(i));
+			if (separator) {
+				if (start >= 0) {
+					List<Entry> bucket = classEntries.get(cssClass.substring(start, i));
+					// the same class may be listed twice, take its bucket only once
+					if (bucket != null && !containsBucket(buckets, bucket)) {
+						buckets.add(bucket);
+					}
+					start = -1;
+				}
+			} else if (start < 0) {
+				start = i;
+			}
+		}
+	}
+
+	private static boolean containsBucket(List<List<Entry>> buckets, List<Entry> bucket) {
+		for (List<Entry> b : buckets) {
+			if (b == bucket) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addBucket(List<List<Entry>> buckets, List<Entry> bucket) {
+		if (bucket != null && !bucket.isEmpty()) {
+			buckets.add(bucket);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -122,6 +122,16 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	 */
 	private ViewCSS viewCSS;
 
+	/**
+	 * Computed styles shared by elements with the same style signature.
+	 */
+	private CSSComputedStyleCache computedStyleCache;
+
+	/**
+	 * Persistent cache of parsed stylesheets, <code>null</code> if disabled.
+	 */
+	private CSSStyleSheetCache styleSheetCache;
+
 	/**
 	 * {@link IElementProvider} used to retrieve w3c Element linked to the
 	 * widget.
@@ -165,6 +175,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	public AbstractCSSEngine(ExtendedDocumentCSS documentCSS) {
 		this.documentCSS = documentCSS;
 		this.viewCSS = new ViewCSSImpl(documentCSS);
+		this.computedStyleCache = new CSSComputedStyleCache(documentCSS, viewCSS);
 		keyFactory = new ResourceRegistryKeyFactory();
 	}
 
@@ -189,7 +200,8 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		// Check that CharacterStream or ByteStream is not null
 		checkInputSource(source);
 		CSSParser parser = makeCSSParser();
-		CSSStyleSheet styleSheet = parser.parseStyleSheet(source);
+		CSSStyleSheet styleSheet = styleSheetCache != null ? styleSheetCache.parseStyleSheet(parser, source)
+				: parser.parseStyleSheet(source);
 
 		CSSRuleList rules = styleSheet.getCssRules();
 		int length = rules.getLength();
@@ -252,6 +264,29 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		return s;
 	}
 
+	/**
+	 * Enables the persistent cache of parsed stylesheets. The stylesheets parsed
+	 * by {@link #parseStyleSheet(InputSource)} are stored in a binary form in
+	 * the given directory, keyed by the hash of their content, and later loaded
+	 * from there instead of being parsed again as long as their content does not
+	 * change.
+	 *
+	 * @param directory
+	 *            the directory of the cache files, or <code>null</code> to
+	 *            disable the cache
+	 */
+	public void setStyleSheetCacheLocation(File directory) {
+		this.styleSheetCache = directory != null ? new CSSStyleSheetCache(directory) : null;
+	}
+
+	/**
+	 * Returns the directory of the persistent cache of parsed stylesheets, or
+	 * <code>null</code> if the cache is disabled.
+	 */
+	public File getStyleSheetCacheLocation() {
+		return styleSheetCache != null ? styleSheetCache.getDirectory() : null;
+	}
+
 	private void processNodeList(NodeList nodes, BiConsumer<Node, Boolean> consumer, boolean applyStylesToChildNodes) {
 		if (nodes instanceof IStreamingNodeList) {
 			((IStreamingNodeList) nodes).stream().forEach(child -> {
@@ -384,7 +419,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		/*
 		 * Compute new Style to apply.
 		 */
-		CSSStyleDeclaration style = viewCSS.getComputedStyle(elt, null);
+		CSSStyleDeclaration style = computedStyleCache.getComputedStyle(elt, null);
 		if (computeDefaultStyle) {
 			if (applyStylesToChildNodes) {
 				this.computeDefaultStyle = computeDefaultStyle;
@@ -403,7 +438,8 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			// there are static pseudo instances defined, loop for it and
 			// apply styles for each pseudo instance.
 			for (String pseudoInstance : pseudoInstances) {
-				CSSStyleDeclaration styleWithPseudoInstance = viewCSS.getComputedStyle(elt, pseudoInstance);
+				CSSStyleDeclaration styleWithPseudoInstance = computedStyleCache.getComputedStyle(elt,
+						pseudoInstance);
 				if (computeDefaultStyle) {
 					/*
 					 * Apply default style for the current pseudo instance.
@@ -763,6 +799,23 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		return null;
 	}
 
+	/**
+	 * Records that the given property is applied by the style declaration
+	 * currently applied, without calling its handlers, so that it is not
+	 * applied again by this declaration.
+	 *
+	 * @param property
+	 *            the CSS property
+	 * @return <code>false</code> if the property was already applied by the
+	 *         current style declaration, <code>true</code> otherwise
+	 */
+	protected boolean markCSSPropertyApplied(String property) {
+		if (currentCSSPropertiesApplied == null) {
+			return true;
+		}
+		return currentCSSPropertiesApplied.put(property, property) == null;
+	}
+
 	@Override
 	public String retrieveCSSProperty(Object element, String property, String pseudo) {
 		try {
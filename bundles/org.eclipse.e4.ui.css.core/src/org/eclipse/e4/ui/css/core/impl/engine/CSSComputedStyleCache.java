@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractDescendantSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractElementSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAndConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAttributeConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSConditionalSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSLangConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSPseudoClassConditionImpl;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSRuleList;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleSheet;
+import org.w3c.dom.css.ViewCSS;
+import org.w3c.dom.stylesheets.StyleSheet;
+import org.w3c.dom.stylesheets.StyleSheetList;
+
+/**
+ * Cache of computed style declarations shared by all elements with the same
+ * style signature.
+ * <p>
+ * The signature of an element is made of everything the selectors of the
+ * current stylesheets can look at: the element name, namespace, id, CSS class,
+ * the values of the attributes referenced by attribute selectors and the
+ * pseudo classes the element is an instance of, plus the signature of its
+ * parent chain. Elements with the same signature are matched by the same
+ * selectors, so they can share one computed style declaration.
+ * </p>
+ * <p>
+ * Since the signature is recomputed on each lookup, changes of classes, ids or
+ * pseudo states simply lead to another cache entry. The cache is flushed when
+ * the stylesheets change. Stylesheets containing selectors whose result
+ * depends on something else (e.g. sibling selectors) disable the cache.
+ * </p>
+ */
+final class CSSComputedStyleCache implements ExtendedDocumentCSS.StyleSheetChangeListener {
+
+	/** Upper bound of cached signatures, the cache is flushed when exceeded */
+	private static final int MAX_ENTRIES = 4096;
+
+	/** Marker for signatures without any matching rule */
+	private static final Object NO_STYLE = new Object();
+
+	private final ExtendedDocumentCSS documentCSS;
+
+	private final ViewCSS viewCSS;
+
+	private final Map<Signature, Object> styles = new HashMap<>();
+
+	private boolean analyzed;
+
+	private boolean cacheable;
+
+	private String[] attributeNames;
+
+	private String[] pseudoClasses;
+
+	CSSComputedStyleCache(ExtendedDocumentCSS documentCSS, ViewCSS viewCSS) {
+		this.documentCSS = documentCSS;
+		this.viewCSS = viewCSS;
+		documentCSS.addStyleSheetChangeListener(this);
+	}
+
+	/**
+	 * Returns the computed style of the given element, either from the cache or
+	 * computed by the {@link ViewCSS}.
+	 */
+	CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
+		if (!analyzed) {
+			analyzeStyleSheets();
+		}
+		if (!cacheable) {
+			return viewCSS.getComputedStyle(elt, pseudoElt);
+		}
+		Signature signature = computeSignature(elt, pseudoElt);
+		Object style = styles.get(signature);
+		if (style != null) {
+			return style == NO_STYLE ? null : (CSSStyleDeclaration) style;
+		}
+		CSSStyleDeclaration computed = viewCSS.getComputedStyle(elt, pseudoElt);
+		if (styles.size() >= MAX_ENTRIES) {
+			styles.clear();
+		}
+		styles.put(signature, computed == null ? NO_STYLE : computed);
+		return computed;
+	}
+
+	/**
+	 * Flushes all cached styles.
+	 */
+	void clear() {
+		styles.clear();
+		analyzed = false;
+		attributeNames = null;
+		pseudoClasses = null;
+	}
+
+	@Override
+	public void styleSheetAdded(StyleSheet styleSheet) {
+		clear();
+	}
+
+	@Override
+	public void styleSheetRemoved(StyleSheet styleSheet) {
+		clear();
+	}
+
+	/**
+	 * Collects the attributes and pseudo classes referenced by the current
+	 * stylesheets and checks whether all selectors are supported by the
+	 * signature.
+	 */
+	private void analyzeStyleSheets() {
+		Set<String> attributes = new LinkedHashSet<>();
+		Set<String> pseudos = new LinkedHashSet<>();
+		boolean supported = true;
+		StyleSheetList styleSheetList = documentCSS.getStyleSheets();
+		int l = styleSheetList.getLength();
+		for (int i = 0; i < l && supported; i++) {
+			CSSRuleList rules = ((CSSStyleSheet) styleSheetList.item(i)).getCssRules();
+			int rulesSize = rules.getLength();
+			for (int j = 0; j < rulesSize && supported; j++) {
+				CSSRule rule = rules.item(j);
+				if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule))) {
+					continue;
+				}
+				SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+				for (int k = 0; k < selectorList.getLength() && supported; k++) {
+					supported = collect(selectorList.item(k), attributes, pseudos);
+				}
+			}
+		}
+		this.cacheable = supported;
+		this.attributeNames = attributes.toArray(new String[attributes.size()]);
+		this.pseudoClasses = pseudos.toArray(new String[pseudos.size()]);
+		this.analyzed = true;
+	}
+
+	private static boolean collect(Selector selector, Set<String> attributes, Set<String> pseudos) {
+		if (selector instanceof AbstractDescendantSelector) {
+			AbstractDescendantSelector descendant = (AbstractDescendantSelector) selector;
+			return collect(descendant.getAncestorSelector(), attributes, pseudos)
+					&& collect(descendant.getSimpleSelector(), attributes, pseudos);
+		}
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditional = (CSSConditionalSelectorImpl) selector;
+			return collect(conditional.getSimpleSelector(), attributes, pseudos)
+					&& collect(conditional.getCondition(), attributes, pseudos);
+		}
+		// element, universal and pseudo element selectors only depend on the
+		// element name and the requested pseudo element. Everything else (e.g.
+		// sibling selectors) depends on more than the signature.
+		return selector instanceof AbstractElementSelector;
+	}
+
+	private static boolean collect(Condition condition, Set<String> attributes, Set<String> pseudos) {
+		if (condition instanceof CSSAndConditionImpl) {
+			CSSAndConditionImpl and = (CSSAndConditionImpl) condition;
+			return collect(and.getFirstCondition(), attributes, pseudos)
+					&& collect(and.getSecondCondition(), attributes, pseudos);
+		}
+		if (condition instanceof CSSPseudoClassConditionImpl) {
+			pseudos.add(((CSSPseudoClassConditionImpl) condition).getValue());
+			return true;
+		}
+		if (condition instanceof CSSIdConditionImpl) {
+			return true;
+		}
+		if (condition instanceof CSSAttributeConditionImpl) {
+			// includes class, one-of and begin-hyphen conditions
+			attributes.add(((CSSAttributeConditionImpl) condition).getLocalName());
+			return true;
+		}
+		if (condition instanceof CSSLangConditionImpl) {
+			attributes.add("lang"); //$NON-NLS-1$
+			return true;
+		}
+		return false;
+	}
+
+	private Signature computeSignature(Element elt, String pseudoElt) {
+		List<Object> values = new ArrayList<>();
+		values.add(pseudoElt);
+		for (Node node = elt; node != null; node = node.getParentNode()) {
+			if (node instanceof Element) {
+				addValues((Element) node, values);
+			} else {
+				values.add(Short.valueOf(node.getNodeType()));
+				values.add(node.getNodeName());
+			}
+		}
+		return new Signature(values.toArray());
+	}
+
+	private void addValues(Element element, List<Object> values) {
+		values.add(element.getNamespaceURI());
+		values.add(element.getPrefix() == null ? element.getNodeName() : element.getLocalName());
+		if (element instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) element;
+			values.add(stylableElement.getCSSId());
+			values.add(stylableElement.getCSSClass());
+			int pseudoState = 0;
+			for (int i = 0; i < pseudoClasses.length; i++) {
+				// two bits per pseudo class: instance of, static instance
+				if (stylableElement.isPseudoInstanceOf(pseudoClasses[i])) {
+					pseudoState |= 1 << (2 * (i % 16));
+					if (stylableElement.isStaticPseudoInstance(pseudoClasses[i])) {
+						pseudoState |= 2 << (2 * (i % 16));
+					}
+				}
+				if (i % 16 == 15) {
+					values.add(Integer.valueOf(pseudoState));
+					pseudoState = 0;
+				}
+			}
+			values.add(Integer.valueOf(pseudoState));
+		}
+		for (String attributeName : attributeNames) {
+			values.add(element.hasAttribute(attributeName) ? element.getAttribute(attributeName) : null);
+		}
+	}
+
+	/**
+	 * Style signature of an element.
+	 */
+	private static final class Signature {
+		private final Object[] values;
+		private final int hash;
+
+		Signature(Object[] values) {
+			this.values = values;
+			this.hash = Arrays.hashCode(values);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Signature)) {
+				return false;
+			}
+			Signature other = (Signature) obj;
+			return hash == other.hash && Arrays.equals(values, other.values);
+		}
+	}
+}
@@ -0,0 +1,823 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Stack;
+import org.apache.batik.css.parser.CSSLexicalUnit;
+import org.apache.batik.css.parser.CSSSACMediaList;
+import org.apache.batik.css.parser.CSSSelectorList;
+import org.eclipse.e4.ui.css.core.dom.parsers.CSSParser;
+import org.eclipse.e4.ui.css.core.impl.dom.parsers.AbstractCSSParser;
+import org.eclipse.e4.ui.css.core.sac.DocumentHandlerFactory;
+import org.eclipse.e4.ui.css.core.sac.ExtendedDocumentHandler;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.CSSException;
+import org.w3c.css.sac.CombinatorCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionFactory;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.ElementSelector;
+import org.w3c.css.sac.InputSource;
+import org.w3c.css.sac.LangCondition;
+import org.w3c.css.sac.LexicalUnit;
+import org.w3c.css.sac.SACMediaList;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorFactory;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.css.sac.SimpleSelector;
+import org.w3c.dom.css.CSSStyleSheet;
+
+/**
+ * Persistent cache of parsed stylesheets.
+ * <p>
+ * The SAC events emitted by the parser for a stylesheet are recorded in a
+ * compact binary file whose name is the SHA-256 hash of the stylesheet
+ * content. When the same content is parsed again, the recorded events are
+ * replayed from the memory-mapped file into a new document handler, which
+ * builds the same rule list without running the parser. A changed stylesheet
+ * has another hash, so it is parsed and recorded again. Imported stylesheets
+ * are parsed (and cached) one by one by the engine, so each contributing file
+ * is validated by its own content.
+ * </p>
+ * <p>
+ * Stylesheets using values or selectors which cannot be recorded, as well as
+ * unreadable cache files, simply fall back to the parser.
+ * </p>
+ */
+final class CSSStyleSheetCache {
+
+	/** Magic number of the cache files ("CSSC") */
+	private static final int MAGIC = 0x43535343;
+
+	/** Version of the format, part of the hash */
+	private static final int VERSION = 1;
+
+	private static final String FILE_EXTENSION = ".bin"; //$NON-NLS-1$
+
+	/** Upper bound of cache files, the oldest ones are deleted when exceeded */
+	private static final int MAX_FILES = 256;
+
+	// events
+	private static final byte END = 0;
+	private static final byte START_DOCUMENT = 1;
+	private static final byte END_DOCUMENT = 2;
+	private static final byte COMMENT = 3;
+	private static final byte IGNORABLE_AT_RULE = 4;
+	private static final byte NAMESPACE_DECLARATION = 5;
+	private static final byte IMPORT_STYLE = 6;
+	private static final byte START_MEDIA = 7;
+	private static final byte END_MEDIA = 8;
+	private static final byte START_PAGE = 9;
+	private static final byte END_PAGE = 10;
+	private static final byte START_FONT_FACE = 11;
+	private static final byte END_FONT_FACE = 12;
+	private static final byte START_SELECTOR = 13;
+	private static final byte END_SELECTOR = 14;
+	private static final byte PROPERTY = 15;
+
+	private final File directory;
+
+	CSSStyleSheetCache(File directory) {
+		this.directory = directory;
+	}
+
+	File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the stylesheet of the given source, replayed from the cache if its
+	 * content was already parsed, otherwise parsed with the given parser and
+	 * recorded.
+	 */
+	CSSStyleSheet parseStyleSheet(CSSParser parser, InputSource source) throws IOException {
+		SelectorFactory selectorFactory = parser.getSelectorFactory();
+		ConditionFactory conditionFactory = parser.getConditionFactory();
+		if (selectorFactory == null || conditionFactory == null) {
+			// selectors could not be rebuilt the same way as the parser does
+			return parser.parseStyleSheet(source);
+		}
+		DocumentHandlerFactory handlerFactory = parser instanceof AbstractCSSParser
+				? ((AbstractCSSParser) parser).getDocumentHandlerFactory()
+				: DocumentHandlerFactory.newInstance();
+
+		InputSource buffered = new InputSource();
+		buffered.setURI(source.getURI());
+		buffered.setEncoding(source.getEncoding());
+		buffered.setTitle(source.getTitle());
+		buffered.setMedia(source.getMedia());
+		MessageDigest digest = newDigest();
+		if (digest == null) {
+			return parser.parseStyleSheet(source);
+		}
+		digest.update(toBytes(VERSION + "|" + parser.getClass().getName() + '|' + source.getEncoding() + '|')); //$NON-NLS-1$
+		Reader reader = source.getCharacterStream();
+		if (reader != null) {
+			String content = readAll(reader);
+			digest.update((byte) 'C');
+			digest.update(toBytes(content));
+			buffered.setCharacterStream(new StringReader(content));
+		} else {
+			byte[] content = source.getByteStream().readAllBytes();
+			digest.update((byte) 'B');
+			digest.update(content);
+			buffered.setByteStream(new ByteArrayInputStream(content));
+		}
+		File file = new File(directory, toHex(digest.digest()) + FILE_EXTENSION);
+
+		if (file.isFile()) {
+			CSSStyleSheet styleSheet = replay(file, handlerFactory.makeDocumentHandler(), source, selectorFactory,
+					conditionFactory);
+			if (styleSheet != null) {
+				return styleSheet;
+			}
+			// corrupted or outdated file
+			file.delete();
+		}
+
+		RecordingDocumentHandler recorder = new RecordingDocumentHandler(handlerFactory.makeDocumentHandler());
+		parser.setDocumentHandlerFactory(new DocumentHandlerFactory() {
+			@Override
+			public ExtendedDocumentHandler makeDocumentHandler() {
+				return recorder;
+			}
+		});
+		CSSStyleSheet styleSheet;
+		try {
+			styleSheet = parser.parseStyleSheet(buffered);
+		} finally {
+			parser.setDocumentHandlerFactory(handlerFactory);
+		}
+		byte[] data = recorder.toByteArray();
+		if (data != null) {
+			store(file, data);
+		}
+		return styleSheet;
+	}
+
+	/*--------------- Cache files -----------------*/
+
+	private void store(File file, byte[] data) {
+		try {
+			Files.createDirectories(directory.toPath());
+			File tmp = File.createTempFile("stylesheet", ".tmp", directory); //$NON-NLS-1$ //$NON-NLS-2$
+			try {
+				Files.write(tmp.toPath(), data);
+				try {
+					Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				tmp.delete();
+			}
+			prune();
+		} catch (IOException | SecurityException e) {
+			// the cache is an optimization only, the stylesheet was parsed
+		}
+	}
+
+	private void prune() {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		if (files == null || files.length <= MAX_FILES) {
+			return;
+		}
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (int i = 0; i < files.length - MAX_FILES; i++) {
+			files[i].delete();
+		}
+	}
+
+	private static CSSStyleSheet replay(File file, ExtendedDocumentHandler handler, InputSource source,
+			SelectorFactory selectorFactory, ConditionFactory conditionFactory) {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return null;
+			}
+			new Replayer(buffer, selectorFactory, conditionFactory).replay(handler, source);
+			Object root = handler.getNodeRoot();
+			return root instanceof CSSStyleSheet ? (CSSStyleSheet) root : null;
+		} catch (IOException | RuntimeException e) {
+			// unreadable file, e.g. truncated or written by another version
+			return null;
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static String readAll(Reader reader) throws IOException {
+		StringBuilder builder = new StringBuilder();
+		char[] buffer = new char[8192];
+		int read;
+		while ((read = reader.read(buffer)) != -1) {
+			builder.append(buffer, 0, read);
+		}
+		return builder.toString();
+	}
+
+	private static byte[] toBytes(String s) {
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+			builder.append(Character.forDigit(b & 0xF, 16));
+		}
+		return builder.toString();
+	}
+
+	/*--------------- Recording -----------------*/
+
+	/**
+	 * Document handler which forwards the SAC events to the handler building the
+	 * stylesheet and records them.
+	 */
+	private static final class RecordingDocumentHandler implements ExtendedDocumentHandler {
+
+		private final ExtendedDocumentHandler delegate;
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+
+		private final DataOutputStream out = new DataOutputStream(bytes);
+
+		/** <code>true</code> when an event could not be recorded */
+		private boolean failed;
+
+		RecordingDocumentHandler(ExtendedDocumentHandler delegate) {
+			this.delegate = delegate;
+			try {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+			} catch (IOException e) {
+				failed = true;
+			}
+		}
+
+		/**
+		 * Returns the recorded events, or <code>null</code> if the stylesheet
+		 * cannot be cached.
+		 */
+		byte[] toByteArray() {
+			if (failed) {
+				return null;
+			}
+			try {
+				out.writeByte(END);
+				out.flush();
+			} catch (IOException e) {
+				return null;
+			}
+			return bytes.toByteArray();
+		}
+
+		private void record(byte event, Object... args) {
+			if (failed) {
+				return;
+			}
+			try {
+				out.writeByte(event);
+				for (Object arg : args) {
+					if (arg instanceof Boolean) {
+						out.writeBoolean(((Boolean) arg).booleanValue());
+					} else if (arg instanceof SelectorList) {
+						writeSelectorList((SelectorList) arg);
+					} else if (arg instanceof SACMediaList) {
+						writeMediaList((SACMediaList) arg);
+					} else if (arg instanceof LexicalUnit) {
+						writeLexicalUnits((LexicalUnit) arg);
+					} else {
+						writeString((String) arg);
+					}
+				}
+			} catch (IOException | UnsupportedOperationException e) {
+				failed = true;
+			}
+		}
+
+		private void writeString(String s) throws IOException {
+			if (s == null) {
+				out.writeInt(-1);
+			} else {
+				byte[] b = toBytes(s);
+				out.writeInt(b.length);
+				out.write(b);
+			}
+		}
+
+		private void writeMediaList(SACMediaList media) throws IOException {
+			int length = media == null ? -1 : media.getLength();
+			out.writeInt(length);
+			for (int i = 0; i < length; i++) {
+				writeString(media.item(i));
+			}
+		}
+
+		private void writeSelectorList(SelectorList selectors) throws IOException {
+			out.writeInt(selectors.getLength());
+			for (int i = 0; i < selectors.getLength(); i++) {
+				writeSelector(selectors.item(i));
+			}
+		}
+
+		private void writeSelector(Selector selector) throws IOException {
+			short type = selector.getSelectorType();
+			out.writeShort(type);
+			switch (type) {
+			case Selector.SAC_CONDITIONAL_SELECTOR:
+				ConditionalSelector conditional = (ConditionalSelector) selector;
+				writeSelector(conditional.getSimpleSelector());
+				writeCondition(conditional.getCondition());
+				break;
+			case Selector.SAC_ELEMENT_NODE_SELECTOR:
+			case Selector.SAC_PSEUDO_ELEMENT_SELECTOR:
+				ElementSelector element = (ElementSelector) selector;
+				writeString(element.getNamespaceURI());
+				writeString(element.getLocalName());
+				break;
+			case Selector.SAC_DESCENDANT_SELECTOR:
+			case Selector.SAC_CHILD_SELECTOR:
+				DescendantSelector descendant = (DescendantSelector) selector;
+				writeSelector(descendant.getAncestorSelector());
+				writeSelector(descendant.getSimpleSelector());
+				break;
+			case Selector.SAC_DIRECT_ADJACENT_SELECTOR:
+				SiblingSelector sibling = (SiblingSelector) selector;
+				out.writeShort(sibling.getNodeType());
+				writeSelector(sibling.getSelector());
+				writeSelector(sibling.getSiblingSelector());
+				break;
+			default:
+				throw new UnsupportedOperationException();
+			}
+		}
+
+		private void writeCondition(Condition condition) throws IOException {
+			short type = condition.getConditionType();
+			out.writeShort(type);
+			switch (type) {
+			case Condition.SAC_AND_CONDITION:
+				CombinatorCondition combinator = (CombinatorCondition) condition;
+				writeCondition(combinator.getFirstCondition());
+				writeCondition(combinator.getSecondCondition());
+				break;
+			case Condition.SAC_ATTRIBUTE_CONDITION:
+			case Condition.SAC_ONE_OF_ATTRIBUTE_CONDITION:
+			case Condition.SAC_BEGIN_HYPHEN_ATTRIBUTE_CONDITION:
+			case Condition.SAC_ID_CONDITION:
+			case Condition.SAC_CLASS_CONDITION:
+			case Condition.SAC_PSEUDO_CLASS_CONDITION:
+				AttributeCondition attribute = (AttributeCondition) condition;
+				writeString(attribute.getLocalName());
+				writeString(attribute.getNamespaceURI());
+				out.writeBoolean(attribute.getSpecified());
+				writeString(attribute.getValue());
+				break;
+			case Condition.SAC_LANG_CONDITION:
+				writeString(((LangCondition) condition).getLang());
+				break;
+			default:
+				throw new UnsupportedOperationException();
+			}
+		}
+
+		private void writeLexicalUnits(LexicalUnit value) throws IOException {
+			for (LexicalUnit unit = value; unit != null; unit = unit.getNextLexicalUnit()) {
+				out.writeBoolean(true);
+				writeLexicalUnit(unit);
+			}
+			out.writeBoolean(false);
+		}
+
+		private void writeLexicalUnit(LexicalUnit unit) throws IOException {
+			short type = unit.getLexicalUnitType();
+			out.writeShort(type);
+			switch (type) {
+			case LexicalUnit.SAC_OPERATOR_COMMA:
+			case LexicalUnit.SAC_OPERATOR_PLUS:
+			case LexicalUnit.SAC_OPERATOR_MINUS:
+			case LexicalUnit.SAC_OPERATOR_MULTIPLY:
+			case LexicalUnit.SAC_OPERATOR_SLASH:
+			case LexicalUnit.SAC_OPERATOR_MOD:
+			case LexicalUnit.SAC_OPERATOR_EXP:
+			case LexicalUnit.SAC_OPERATOR_LT:
+			case LexicalUnit.SAC_OPERATOR_GT:
+			case LexicalUnit.SAC_OPERATOR_LE:
+			case LexicalUnit.SAC_OPERATOR_GE:
+			case LexicalUnit.SAC_OPERATOR_TILDE:
+			case LexicalUnit.SAC_INHERIT:
+				break;
+			case LexicalUnit.SAC_INTEGER:
+				out.writeInt(unit.getIntegerValue());
+				break;
+			case LexicalUnit.SAC_REAL:
+			case LexicalUnit.SAC_EM:
+			case LexicalUnit.SAC_EX:
+			case LexicalUnit.SAC_PIXEL:
+			case LexicalUnit.SAC_INCH:
+			case LexicalUnit.SAC_CENTIMETER:
+			case LexicalUnit.SAC_MILLIMETER:
+			case LexicalUnit.SAC_POINT:
+			case LexicalUnit.SAC_PICA:
+			case LexicalUnit.SAC_PERCENTAGE:
+			case LexicalUnit.SAC_DEGREE:
+			case LexicalUnit.SAC_GRADIAN:
+			case LexicalUnit.SAC_RADIAN:
+			case LexicalUnit.SAC_MILLISECOND:
+			case LexicalUnit.SAC_SECOND:
+			case LexicalUnit.SAC_HERTZ:
+			case LexicalUnit.SAC_KILOHERTZ:
+				out.writeFloat(unit.getFloatValue());
+				break;
+			case LexicalUnit.SAC_DIMENSION:
+				out.writeFloat(unit.getFloatValue());
+				writeString(unit.getDimensionUnitText());
+				break;
+			case LexicalUnit.SAC_URI:
+			case LexicalUnit.SAC_IDENT:
+			case LexicalUnit.SAC_STRING_VALUE:
+			case LexicalUnit.SAC_ATTR:
+				writeString(unit.getStringValue());
+				break;
+			case LexicalUnit.SAC_FUNCTION:
+				writeString(unit.getFunctionName());
+				writeLexicalUnits(unit.getParameters());
+				break;
+			case LexicalUnit.SAC_RGBCOLOR:
+			case LexicalUnit.SAC_RECT_FUNCTION:
+			case LexicalUnit.SAC_COUNTER_FUNCTION:
+			case LexicalUnit.SAC_COUNTERS_FUNCTION:
+				writeLexicalUnits(unit.getParameters());
+				break;
+			default:
+				throw new UnsupportedOperationException();
+			}
+		}
+
+		@Override
+		public void startDocument(InputSource source) throws CSSException {
+			record(START_DOCUMENT);
+			delegate.startDocument(source);
+		}
+
+		@Override
+		public void endDocument(InputSource source) throws CSSException {
+			record(END_DOCUMENT);
+			delegate.endDocument(source);
+		}
+
+		@Override
+		public void comment(String text) throws CSSException {
+			record(COMMENT, text);
+			delegate.comment(text);
+		}
+
+		@Override
+		public void ignorableAtRule(String atRule) throws CSSException {
+			record(IGNORABLE_AT_RULE, atRule);
+			delegate.ignorableAtRule(atRule);
+		}
+
+		@Override
+		public void namespaceDeclaration(String prefix, String uri) throws CSSException {
+			record(NAMESPACE_DECLARATION, prefix, uri);
+			delegate.namespaceDeclaration(prefix, uri);
+		}
+
+		@Override
+		public void importStyle(String uri, SACMediaList media, String defaultNamespaceURI) throws CSSException {
+			record(IMPORT_STYLE, uri, media, defaultNamespaceURI);
+			delegate.importStyle(uri, media, defaultNamespaceURI);
+		}
+
+		@Override
+		public void startMedia(SACMediaList media) throws CSSException {
+			record(START_MEDIA, media);
+			delegate.startMedia(media);
+		}
+
+		@Override
+		public void endMedia(SACMediaList media) throws CSSException {
+			record(END_MEDIA);
+			delegate.endMedia(media);
+		}
+
+		@Override
+		public void startPage(String name, String pseudoPage) throws CSSException {
+			record(START_PAGE, name, pseudoPage);
+			delegate.startPage(name, pseudoPage);
+		}
+
+		@Override
+		public void endPage(String name, String pseudoPage) throws CSSException {
+			record(END_PAGE, name, pseudoPage);
+			delegate.endPage(name, pseudoPage);
+		}
+
+		@Override
+		public void startFontFace() throws CSSException {
+			record(START_FONT_FACE);
+			delegate.startFontFace();
+		}
+
+		@Override
+		public void endFontFace() throws CSSException {
+			record(END_FONT_FACE);
+			delegate.endFontFace();
+		}
+
+		@Override
+		public void startSelector(SelectorList selectors) throws CSSException {
+			record(START_SELECTOR, selectors);
+			delegate.startSelector(selectors);
+		}
+
+		@Override
+		public void endSelector(SelectorList selectors) throws CSSException {
+			record(END_SELECTOR);
+			delegate.endSelector(selectors);
+		}
+
+		@Override
+		public void property(String name, LexicalUnit value, boolean important) throws CSSException {
+			record(PROPERTY, name, value, Boolean.valueOf(important));
+			delegate.property(name, value, important);
+		}
+
+		@Override
+		public Object getNodeRoot() {
+			return delegate.getNodeRoot();
+		}
+
+		@Override
+		public void setNodeStack(Stack<Object> stack) {
+			delegate.setNodeStack(stack);
+		}
+	}
+
+	/*--------------- Replay -----------------*/
+
+	/**
+	 * Reads recorded events from a buffer and sends them to a document handler.
+	 */
+	private static final class Replayer {
+
+		private final ByteBuffer buffer;
+
+		private final SelectorFactory selectorFactory;
+
+		private final ConditionFactory conditionFactory;
+
+		Replayer(ByteBuffer buffer, SelectorFactory selectorFactory, ConditionFactory conditionFactory) {
+			this.buffer = buffer;
+			this.selectorFactory = selectorFactory;
+			this.conditionFactory = conditionFactory;
+		}
+
+		void replay(ExtendedDocumentHandler handler, InputSource source) {
+			// the selector and media lists of the start events are passed again
+			// to the matching end events
+			Deque<SelectorList> selectors = new ArrayDeque<>();
+			Deque<SACMediaList> medias = new ArrayDeque<>();
+			byte event;
+			while ((event = buffer.get()) != END) {
+				switch (event) {
+				case START_DOCUMENT:
+					handler.startDocument(source);
+					break;
+				case END_DOCUMENT:
+					handler.endDocument(source);
+					break;
+				case COMMENT:
+					handler.comment(readString());
+					break;
+				case IGNORABLE_AT_RULE:
+					handler.ignorableAtRule(readString());
+					break;
+				case NAMESPACE_DECLARATION:
+					handler.namespaceDeclaration(readString(), readString());
+					break;
+				case IMPORT_STYLE:
+					handler.importStyle(readString(), readMediaList(), readString());
+					break;
+				case START_MEDIA:
+					SACMediaList media = readMediaList();
+					medias.push(media);
+					handler.startMedia(media);
+					break;
+				case END_MEDIA:
+					handler.endMedia(medias.pop());
+					break;
+				case START_PAGE:
+					handler.startPage(readString(), readString());
+					break;
+				case END_PAGE:
+					handler.endPage(readString(), readString());
+					break;
+				case START_FONT_FACE:
+					handler.startFontFace();
+					break;
+				case END_FONT_FACE:
+					handler.endFontFace();
+					break;
+				case START_SELECTOR:
+					SelectorList selectorList = readSelectorList();
+					selectors.push(selectorList);
+					handler.startSelector(selectorList);
+					break;
+				case END_SELECTOR:
+					handler.endSelector(selectors.pop());
+					break;
+				case PROPERTY:
+					handler.property(readString(), readLexicalUnits(), buffer.get() != 0);
+					break;
+				default:
+					throw new IllegalStateException("Unknown event " + event); //$NON-NLS-1$
+				}
+			}
+		}
+
+		private String readString() {
+			int length = buffer.getInt();
+			if (length < 0) {
+				return null;
+			}
+			byte[] b = new byte[length];
+			buffer.get(b);
+			return new String(b, StandardCharsets.UTF_8);
+		}
+
+		private SACMediaList readMediaList() {
+			int length = buffer.getInt();
+			if (length < 0) {
+				return null;
+			}
+			CSSSACMediaList media = new CSSSACMediaList();
+			for (int i = 0; i < length; i++) {
+				media.append(readString());
+			}
+			return media;
+		}
+
+		private SelectorList readSelectorList() {
+			int length = buffer.getInt();
+			CSSSelectorList list = new CSSSelectorList();
+			for (int i = 0; i < length; i++) {
+				list.append(readSelector());
+			}
+			return list;
+		}
+
+		private Selector readSelector() {
+			short type = buffer.getShort();
+			switch (type) {
+			case Selector.SAC_CONDITIONAL_SELECTOR:
+				SimpleSelector simple = (SimpleSelector) readSelector();
+				return selectorFactory.createConditionalSelector(simple, readCondition());
+			case Selector.SAC_ELEMENT_NODE_SELECTOR:
+				return selectorFactory.createElementSelector(readString(), readString());
+			case Selector.SAC_PSEUDO_ELEMENT_SELECTOR:
+				return selectorFactory.createPseudoElementSelector(readString(), readString());
+			case Selector.SAC_DESCENDANT_SELECTOR:
+				Selector ancestor = readSelector();
+				return selectorFactory.createDescendantSelector(ancestor, (SimpleSelector) readSelector());
+			case Selector.SAC_CHILD_SELECTOR:
+				Selector parent = readSelector();
+				return selectorFactory.createChildSelector(parent, (SimpleSelector) readSelector());
+			case Selector.SAC_DIRECT_ADJACENT_SELECTOR:
+				short nodeType = buffer.getShort();
+				Selector child = readSelector();
+				return selectorFactory.createDirectAdjacentSelector(nodeType, child, (SimpleSelector) readSelector());
+			default:
+				throw new IllegalStateException("Unknown selector type " + type); //$NON-NLS-1$
+			}
+		}
+
+		private Condition readCondition() {
+			short type = buffer.getShort();
+			if (type == Condition.SAC_AND_CONDITION) {
+				Condition first = readCondition();
+				return conditionFactory.createAndCondition(first, readCondition());
+			}
+			if (type == Condition.SAC_LANG_CONDITION) {
+				return conditionFactory.createLangCondition(readString());
+			}
+			String localName = readString();
+			String namespaceURI = readString();
+			boolean specified = buffer.get() != 0;
+			String value = readString();
+			switch (type) {
+			case Condition.SAC_ATTRIBUTE_CONDITION:
+				return conditionFactory.createAttributeCondition(localName, namespaceURI, specified, value);
+			case Condition.SAC_ONE_OF_ATTRIBUTE_CONDITION:
+				return conditionFactory.createOneOfAttributeCondition(localName, namespaceURI, specified, value);
+			case Condition.SAC_BEGIN_HYPHEN_ATTRIBUTE_CONDITION:
+				return conditionFactory.createBeginHyphenAttributeCondition(localName, namespaceURI, specified,
+						value);
+			case Condition.SAC_ID_CONDITION:
+				return conditionFactory.createIdCondition(value);
+			case Condition.SAC_CLASS_CONDITION:
+				return conditionFactory.createClassCondition(null, value);
+			case Condition.SAC_PSEUDO_CLASS_CONDITION:
+				return conditionFactory.createPseudoClassCondition(null, value);
+			default:
+				throw new IllegalStateException("Unknown condition type " + type); //$NON-NLS-1$
+			}
+		}
+
+		private LexicalUnit readLexicalUnits() {
+			LexicalUnit first = null;
+			LexicalUnit previous = null;
+			while (buffer.get() != 0) {
+				previous = readLexicalUnit(previous);
+				if (first == null) {
+					first = previous;
+				}
+			}
+			return first;
+		}
+
+		private LexicalUnit readLexicalUnit(LexicalUnit previous) {
+			short type = buffer.getShort();
+			switch (type) {
+			case LexicalUnit.SAC_INTEGER:
+				return CSSLexicalUnit.createInteger(buffer.getInt(), previous);
+			case LexicalUnit.SAC_REAL:
+			case LexicalUnit.SAC_EM:
+			case LexicalUnit.SAC_EX:
+			case LexicalUnit.SAC_PIXEL:
+			case LexicalUnit.SAC_INCH:
+			case LexicalUnit.SAC_CENTIMETER:
+			case LexicalUnit.SAC_MILLIMETER:
+			case LexicalUnit.SAC_POINT:
+			case LexicalUnit.SAC_PICA:
+			case LexicalUnit.SAC_PERCENTAGE:
+			case LexicalUnit.SAC_DEGREE:
+			case LexicalUnit.SAC_GRADIAN:
+			case LexicalUnit.SAC_RADIAN:
+			case LexicalUnit.SAC_MILLISECOND:
+			case LexicalUnit.SAC_SECOND:
+			case LexicalUnit.SAC_HERTZ:
+			case LexicalUnit.SAC_KILOHERTZ:
+				return CSSLexicalUnit.createFloat(type, buffer.getFloat(), previous);
+			case LexicalUnit.SAC_DIMENSION:
+				float value = buffer.getFloat();
+				return CSSLexicalUnit.createDimension(value, readString(), previous);
+			case LexicalUnit.SAC_URI:
+			case LexicalUnit.SAC_IDENT:
+			case LexicalUnit.SAC_STRING_VALUE:
+			case LexicalUnit.SAC_ATTR:
+				return CSSLexicalUnit.createString(type, readString(), previous);
+			case LexicalUnit.SAC_FUNCTION:
+				String name = readString();
+				return CSSLexicalUnit.createFunction(name, readLexicalUnits(), previous);
+			case LexicalUnit.SAC_RGBCOLOR:
+			case LexicalUnit.SAC_RECT_FUNCTION:
+			case LexicalUnit.SAC_COUNTER_FUNCTION:
+			case LexicalUnit.SAC_COUNTERS_FUNCTION:
+				return CSSLexicalUnit.createPredefinedFunction(type, readLexicalUnits(), previous);
+			default:
+				// operators and inherit
+				return CSSLexicalUnit.createSimple(type, previous);
+			}
+		}
+	}
+}
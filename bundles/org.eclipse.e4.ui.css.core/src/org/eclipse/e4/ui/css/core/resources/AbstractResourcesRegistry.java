@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,12 +50,22 @@ public abstract class AbstractResourcesRegistry implements IResourcesRegistry {
 		}
 		Map<Object, Object> resourcesMap = allResourcesMap.get(type);
 		if (resourcesMap == null) {
-			resourcesMap = new HashMap<>();
+			resourcesMap = createResourcesMap();
 			allResourcesMap.put(type, resourcesMap);
 		}
 		resourcesMap.put(key, resource);
 	}
 
+	/**
+	 * Creates the map holding the resources of one type, keyed by resource key.
+	 * Subclasses may return an ordered map to implement an eviction policy.
+	 *
+	 * @return the map of resources by key
+	 */
+	protected Map<Object, Object> createResourcesMap() {
+		return new HashMap<>();
+	}
+
 	protected Map<Object, Object> getCacheByType(Object type) {
 		if (allResourcesMap != null) {
 			Map<Object, Object> resourcesMap = allResourcesMap.get(type);
@@ -75,18 +85,16 @@ public abstract class AbstractResourcesRegistry implements IResourcesRegistry {
 		if (resourcesMap == null) {
 			return;
 		}
-		Object resource = resourcesMap.get(key);
-		if (resource != null) {
-			resourcesMap.remove(resource);
-		}
+		resourcesMap.remove(key);
 	}
 
 	public void unregisterResource(Object resource) {
 		Object type = getResourceType(resource);
-		if (type != null) {
+		if (type != null && allResourcesMap != null) {
 			Map<Object, Object> resourcesMap = allResourcesMap.get(type);
 			if (resourcesMap != null) {
-				resourcesMap.remove(resource);
+				// the same resource may be registered with several keys
+				resourcesMap.values().removeIf(r -> r == resource);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 Tom Schindl and others.
+ * Copyright (c) 2010, 2026 Tom Schindl and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.css.swt.internal.theme;
 
+import java.io.File;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
@@ -48,12 +49,26 @@ public class ThemeEngineManager implements IThemeManager {
 		if (cssEngine != null) {
 			return cssEngine;
 		}
-		cssEngine = new CSSSWTEngineImpl(display, true);
+		CSSSWTEngineImpl swtEngine = new CSSSWTEngineImpl(display, true);
+		swtEngine.setStyleSheetCacheLocation(getStyleSheetCacheLocation());
+		cssEngine = swtEngine;
 		cssEngine.setErrorHandler(e -> logError(e.getMessage(), e));
 		WidgetElement.setEngine(display, cssEngine);
 		return cssEngine;
 	}
 
+	/**
+	 * Returns the directory of the parsed stylesheets cache, or
+	 * <code>null</code> if there is no instance location to store it.
+	 */
+	private static File getStyleSheetCacheLocation() {
+		try {
+			return Platform.getStateLocation(Platform.getBundle(KEY)).append("stylesheets").toFile(); //$NON-NLS-1$
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
 	static void logError(String message, Throwable e) {
 		LOG.log(new Status(IStatus.ERROR, KEY, message, e));
 	}
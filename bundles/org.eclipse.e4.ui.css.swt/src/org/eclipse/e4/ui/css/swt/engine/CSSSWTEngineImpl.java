@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2019 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,24 +14,94 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.css.swt.engine;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.RegistryFactory;
+import org.eclipse.e4.ui.css.core.dom.properties.ICSSPropertyHandler;
+import org.eclipse.e4.ui.css.core.engine.CSSElementContext;
 import org.eclipse.e4.ui.css.core.impl.engine.RegistryCSSElementProvider;
 import org.eclipse.e4.ui.css.core.impl.engine.RegistryCSSPropertyHandlerProvider;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeListener;
+import org.eclipse.swt.graphics.Resource;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.css.CSSValue;
 
 /**
  * CSS SWT Engine implementation which configure CSSEngineImpl to apply styles
  * to SWT widgets with static handler strategy.
+ * <p>
+ * Restyle requests made through {@link #applyStylesLater(Object, boolean)} are
+ * collected and applied once per event loop turn. Such a deferred restyle only
+ * re-applies the CSS properties whose value changed since they were last
+ * applied to the widget, or whose resources were disposed since. All other
+ * restyles, including the ones triggered by {@link SWT#Skin} events, apply
+ * every property.
+ * </p>
  */
 public class CSSSWTEngineImpl extends AbstractCSSSWTEngineImpl {
 
+	/**
+	 * Key of the {@link CSSElementContext} data holding the {@link AppliedValue}s
+	 * of the element, keyed by property and pseudo instance.
+	 */
+	private static final String APPLIED_VALUES_KEY = "org.eclipse.e4.ui.css.swt.appliedValues"; //$NON-NLS-1$
+
 	private DisposeListener disposeListener;
 
+	/**
+	 * Widgets waiting to be restyled, mapped to whether their children have to
+	 * be restyled as well.
+	 */
+	private final Map<Widget, Boolean> dirtyWidgets = new LinkedHashMap<>();
+
+	private boolean flushScheduled;
+
+	/**
+	 * <code>true</code> while the dirty widgets are restyled, properties whose
+	 * value did not change are not applied again.
+	 */
+	private boolean incrementalRestyle;
+
+	/**
+	 * The resources converted from CSS values while a property is applied, or
+	 * <code>null</code>.
+	 */
+	private List<Resource> convertedResources;
+
+	/**
+	 * A CSS value applied to an element, with the handler which applied it and
+	 * the resources converted from it.
+	 */
+	private static final class AppliedValue {
+		final String cssText;
+		final ICSSPropertyHandler handler;
+		final Resource[] resources;
+
+		AppliedValue(String cssText, ICSSPropertyHandler handler, List<Resource> resources) {
+			this.cssText = cssText;
+			this.handler = handler;
+			this.resources = resources.toArray(new Resource[resources.size()]);
+		}
+
+		boolean isResourceDisposed() {
+			for (Resource resource : resources) {
+				if (resource.isDisposed()) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 	public CSSSWTEngineImpl(Display display) {
 		super(display);
 		init();
@@ -54,6 +124,147 @@ public class CSSSWTEngineImpl extends AbstractCSSSWTEngineImpl {
 		}
 	}
 
+	/**
+	 * Requests the styles of the given widget to be applied in the current event
+	 * loop turn. Several requests for the same widget, or for widgets contained
+	 * in a subtree which is restyled anyway, are coalesced. Only the properties
+	 * whose value changed since the last time they were applied are set again,
+	 * so this must not be used to restore values changed outside of the engine:
+	 * use {@link #applyStyles(Object, boolean)} or {@link Widget#reskin(int)}
+	 * instead.
+	 *
+	 * @param widget                  the widget to restyle
+	 * @param applyStylesToChildNodes if true, restyle the child nodes as well
+	 */
+	public void applyStylesLater(Object widget, boolean applyStylesToChildNodes) {
+		if (!(widget instanceof Widget) || display.isDisposed()) {
+			applyStyles(widget, applyStylesToChildNodes);
+			return;
+		}
+		if (((Widget) widget).isDisposed()) {
+			return;
+		}
+		dirtyWidgets.merge((Widget) widget, Boolean.valueOf(applyStylesToChildNodes), Boolean::logicalOr);
+		if (!flushScheduled) {
+			flushScheduled = true;
+			display.asyncExec(this::applyPendingStyles);
+		}
+	}
+
+	private void applyPendingStyles() {
+		flushScheduled = false;
+		if (dirtyWidgets.isEmpty()) {
+			return;
+		}
+		Map<Widget, Boolean> pending = new LinkedHashMap<>(dirtyWidgets);
+		dirtyWidgets.clear();
+		incrementalRestyle = true;
+		try {
+			for (Map.Entry<Widget, Boolean> entry : pending.entrySet()) {
+				Widget widget = entry.getKey();
+				if (widget.isDisposed() || isContainedInPendingSubtree(widget, pending)) {
+					continue;
+				}
+				try {
+					applyStyles(widget, entry.getValue().booleanValue());
+				} catch (Exception e) {
+					Platform.getLog(getClass()).error(e.getMessage(), e);
+				}
+			}
+		} finally {
+			incrementalRestyle = false;
+		}
+	}
+
+	private boolean isContainedInPendingSubtree(Widget widget, Map<Widget, Boolean> pending) {
+		Element element = getElement(widget);
+		if (element == null) {
+			return false;
+		}
+		for (Node node = element.getParentNode(); node != null; node = node.getParentNode()) {
+			if (Boolean.TRUE.equals(pending.get(getNativeWidget(node)))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void applyStyles(Object element, boolean applyStylesToChildNodes, boolean computeDefaultStyle) {
+		if (!dirtyWidgets.isEmpty()) {
+			// an explicit restyle supersedes a pending request it covers
+			Object widget = getNativeWidget(element);
+			Boolean pendingChildNodes = dirtyWidgets.get(widget);
+			if (pendingChildNodes != null && (applyStylesToChildNodes || !pendingChildNodes.booleanValue())) {
+				dirtyWidgets.remove(widget);
+			}
+		}
+		super.applyStyles(element, applyStylesToChildNodes, computeDefaultStyle);
+	}
+
+	@Override
+	public ICSSPropertyHandler applyCSSProperty(Object element, String property, CSSValue value, String pseudo)
+			throws Exception {
+		CSSElementContext context = getCSSElementContext(element);
+		String cssText = value != null ? value.getCssText() : null;
+		if (context == null || cssText == null || "inherit".equals(cssText)) { //$NON-NLS-1$
+			return super.applyCSSProperty(element, property, value, pseudo);
+		}
+		String key = pseudo == null ? property : property + ':' + pseudo;
+		@SuppressWarnings("unchecked")
+		Map<String, AppliedValue> appliedValues = (Map<String, AppliedValue>) context.getData(APPLIED_VALUES_KEY);
+		AppliedValue applied = appliedValues != null ? appliedValues.get(key) : null;
+		if (incrementalRestyle && applied != null && cssText.equals(applied.cssText)
+				&& !applied.isResourceDisposed()) {
+			// resolved value did not change, the handler is only notified once
+			// all the properties are applied
+			return markCSSPropertyApplied(property) ? applied.handler : null;
+		}
+		List<Resource> outerResources = convertedResources;
+		convertedResources = new ArrayList<>(1);
+		ICSSPropertyHandler handler;
+		try {
+			handler = super.applyCSSProperty(element, property, value, pseudo);
+			if (handler != null) {
+				if (appliedValues == null) {
+					appliedValues = new HashMap<>();
+					context.setData(APPLIED_VALUES_KEY, appliedValues);
+				}
+				appliedValues.put(key, new AppliedValue(cssText, handler, convertedResources));
+			}
+		} finally {
+			if (outerResources != null) {
+				outerResources.addAll(convertedResources);
+			}
+			convertedResources = outerResources;
+		}
+		return handler;
+	}
+
+	@Override
+	public Object convert(CSSValue value, Object toType, Object context) throws Exception {
+		Object resource = super.convert(value, toType, context);
+		if (convertedResources != null && resource instanceof Resource) {
+			convertedResources.add((Resource) resource);
+		}
+		return resource;
+	}
+
+	@Override
+	public void handleWidgetDisposed(Object widget) {
+		dirtyWidgets.remove(widget);
+		super.handleWidgetDisposed(widget);
+	}
+
+	@Override
+	public void reset() {
+		// widgets are reset to their defaults, all properties have to be applied again
+		for (CSSElementContext context : getElementsContext().values()) {
+			context.setData(APPLIED_VALUES_KEY, null);
+		}
+		super.reset();
+	}
+
 	@Override
 	protected void initializeCSSPropertyHandlers() {
 		propertyHandlerProviders.add(new RegistryCSSPropertyHandlerProvider(RegistryFactory.getRegistry()));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,16 @@ public class CSSSWTImageHelper {
 
 	public static Image getImage(CSSValue value,
 			IResourcesLocatorManager manager, Display display) throws Exception {
+		ImageDescriptor descriptor = getImageDescriptor(value, manager);
+		return descriptor != null ? descriptor.createImage() : null;
+	}
+
+	/**
+	 * Returns the descriptor of the image referenced by the given CSS value, or
+	 * <code>null</code> if the value is not an URI which can be resolved.
+	 */
+	public static ImageDescriptor getImageDescriptor(CSSValue value, IResourcesLocatorManager manager)
+			throws Exception {
 		if (value.getCssValueType() != CSSValue.CSS_PRIMITIVE_VALUE) {
 			return null;
 		}
@@ -45,21 +55,18 @@ public class CSSSWTImageHelper {
 		switch (primitiveValue.getPrimitiveType()) {
 		case CSSPrimitiveValue.CSS_URI:
 			String path = primitiveValue.getStringValue();
-			return loadImageFromURL(path, manager);
+			return getImageDescriptorFromURL(path, manager);
 		}
 		return null;
 	}
 
-	private static Image loadImageFromURL(String path,
+	private static ImageDescriptor getImageDescriptorFromURL(String path,
 			IResourcesLocatorManager manager) throws Exception {
-		Image result = null;
-
 		String s = manager.resolve(path);
 		if (!StringUtils.isEmpty(s)) {
-			result = ImageDescriptor.createFromURL(new URL(s)).createImage();
+			return ImageDescriptor.createFromURL(new URL(s));
 		}
-
-		return result;
+		return null;
 	}
 
 	public static void storeDefaultImage(Shell shell) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.e4.ui.css.swt.properties.converters;
 import org.eclipse.e4.ui.css.core.dom.properties.converters.ICSSValueConverter;
 import org.eclipse.e4.ui.css.core.dom.properties.converters.ICSSValueConverterConfig;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.resources.IResourcesRegistry;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTFontHelper;
+import org.eclipse.e4.ui.css.swt.resources.SWTResourcesRegistry;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.widgets.Display;
@@ -36,6 +38,11 @@ public class CSSValueSWTFontConverterImpl extends
 			throws Exception {
 		FontData fontData = (FontData) super.convert(value, engine, context);
 		if (fontData != null) {
+			IResourcesRegistry registry = engine.getResourcesRegistry();
+			if (registry instanceof SWTResourcesRegistry) {
+				// share the font with the JFace resource manager
+				return ((SWTResourcesRegistry) registry).createFont(fontData);
+			}
 			Display display = super.getDisplay(context);
 			return new Font(display, fontData);
 		}
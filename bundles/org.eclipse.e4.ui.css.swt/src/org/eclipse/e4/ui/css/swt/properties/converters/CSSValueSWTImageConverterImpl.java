@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,10 @@ import org.eclipse.e4.ui.css.core.dom.properties.converters.AbstractCSSValueConv
 import org.eclipse.e4.ui.css.core.dom.properties.converters.ICSSValueConverter;
 import org.eclipse.e4.ui.css.core.dom.properties.converters.ICSSValueConverterConfig;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.resources.IResourcesRegistry;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTImageHelper;
+import org.eclipse.e4.ui.css.swt.resources.SWTResourcesRegistry;
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 import org.w3c.dom.css.CSSValue;
@@ -33,6 +36,13 @@ public class CSSValueSWTImageConverterImpl extends AbstractCSSValueConverter {
 	@Override
 	public Object convert(CSSValue value, CSSEngine engine, Object context)
 			throws Exception {
+		IResourcesRegistry registry = engine.getResourcesRegistry();
+		if (registry instanceof SWTResourcesRegistry) {
+			// share the image with the JFace resource manager
+			ImageDescriptor descriptor = CSSSWTImageHelper.getImageDescriptor(value,
+					engine.getResourcesLocatorManager());
+			return descriptor != null ? ((SWTResourcesRegistry) registry).createImage(descriptor) : null;
+		}
 		Display display = (Display) context;
 		return CSSSWTImageHelper.getImage(value, engine
 				.getResourcesLocatorManager(), display);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,24 +15,72 @@
 package org.eclipse.e4.ui.css.swt.resources;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import org.eclipse.e4.ui.css.core.resources.AbstractResourcesRegistry;
+import org.eclipse.jface.resource.DeviceResourceDescriptor;
+import org.eclipse.jface.resource.DeviceResourceException;
+import org.eclipse.jface.resource.FontDescriptor;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.ResourceManager;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 
 /**
  * SWT Resources Registry to cache SWT Resource like Color, Cursor and Font and
  * dispose it.
+ * <p>
+ * Fonts and images created with {@link #createFont(FontData)} and
+ * {@link #createImage(ImageDescriptor)} are allocated by the JFace
+ * {@link ResourceManager} of the display, which is reference counted and
+ * shared with all {@link org.eclipse.jface.resource.LocalResourceManager}
+ * users, so that the same font or image is only allocated once. The registry
+ * holds one reference per creation and releases it in
+ * {@link #disposeResource(Object, Object, Object)}, which is called for the
+ * cached resources when the registry is disposed.
+ * </p>
+ * <p>
+ * The number of cached resources per type is bounded: the least recently used
+ * entries are removed from the cache when the bound is exceeded. As widgets may
+ * still use them, evicted resources are only released or disposed when the
+ * registry is disposed.
+ * </p>
  */
 public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 
+	/** Upper bound of cached resources per type */
+	private static final int MAX_ENTRIES_PER_TYPE = 512;
+
+	private final Display display;
+
+	/**
+	 * References held on the JFace resource manager, by resource. The same
+	 * resource is returned for equal descriptors, so it may be held several
+	 * times.
+	 */
+	private final Map<Object, Allocation> allocations = new IdentityHashMap<>();
+
+	/** Evicted resources not allocated by the resource manager */
+	private final List<Object[]> evictedResources = new ArrayList<>();
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
 	public SWTResourcesRegistry(Display display) {
+		this.display = display;
 		if (display == null) {
 			return;
 		}
@@ -49,13 +97,118 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 			if (isDisposed(resource)) {
 				// SWT Resource is disposed
 				// unregister it.
-				super.unregisterResource(resource);
-				return null;
+				super.unregisterResource(type, key);
+				resource = null;
 			}
 		}
+		if (resource != null) {
+			hitCount++;
+		} else {
+			missCount++;
+		}
 		return resource;
 	}
 
+	/**
+	 * Returns a font for the given font data, allocated by the shared resource
+	 * manager of the display.
+	 *
+	 * @param fontData
+	 *            the font data
+	 * @return the font
+	 */
+	public Font createFont(FontData fontData) {
+		if (display == null) {
+			return new Font(Display.getCurrent(), fontData);
+		}
+		return (Font) allocate(FontDescriptor.createFrom(fontData));
+	}
+
+	/**
+	 * Returns an image for the given descriptor, allocated by the shared
+	 * resource manager of the display.
+	 *
+	 * @param descriptor
+	 *            the image descriptor
+	 * @return the image, or the default image of the descriptor if it cannot
+	 *         be loaded
+	 */
+	public Image createImage(ImageDescriptor descriptor) {
+		if (display != null) {
+			try {
+				return (Image) allocate(descriptor);
+			} catch (DeviceResourceException e) {
+				// fall through, the descriptor creates the missing image
+			}
+		}
+		return descriptor.createImage();
+	}
+
+	private Object allocate(DeviceResourceDescriptor descriptor) {
+		Object resource = getResourceManager().create(descriptor);
+		allocations.computeIfAbsent(resource, r -> new Allocation(descriptor)).count++;
+		return resource;
+	}
+
+	/**
+	 * Releases one reference held on the given resource if it was allocated by
+	 * the resource manager. Nothing is released if the registry is disposed, as
+	 * all its references are released then.
+	 *
+	 * @return <code>true</code> if the resource is shared with the resource
+	 *         manager, <code>false</code> if it is owned by the registry
+	 */
+	private boolean release(Object resource) {
+		Allocation allocation = allocations.get(resource);
+		if (allocation == null) {
+			return false;
+		}
+		if (allocation.count == 0) {
+			return true;
+		}
+		if (--allocation.count == 0) {
+			allocations.remove(resource);
+		}
+		if (!display.isDisposed()) {
+			getResourceManager().destroy(allocation.descriptor);
+		}
+		return true;
+	}
+
+	private ResourceManager getResourceManager() {
+		return JFaceResources.getResources(display);
+	}
+
+	/**
+	 * Returns the number of {@link #getResource(Object, Object)} calls which
+	 * found a cached resource.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of {@link #getResource(Object, Object)} calls which
+	 * did not find a cached resource.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the number of resources removed from the cache because it
+	 * exceeded its bound.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	protected Map<Object, Object> createResourcesMap() {
+		// access ordered to evict the least recently used resources
+		return new LinkedHashMap<>(16, 0.75f, true);
+	}
+
 	@Override
 	public void registerResource(Object type, Object key, Object resource) {
 		if (resource == null)
@@ -79,10 +232,44 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 		}
 
 		super.registerResource(type, key, resource);
+
+		Map<Object, Object> resources = getCacheByType(type);
+		if (resources.size() > MAX_ENTRIES_PER_TYPE) {
+			Iterator<Entry<Object, Object>> iter = resources.entrySet().iterator();
+			while (resources.size() > MAX_ENTRIES_PER_TYPE && iter.hasNext()) {
+				Entry<Object, Object> eldest = iter.next();
+				iter.remove();
+				evictionCount++;
+				evictedResources.add(new Object[] { type, eldest.getKey(), eldest.getValue() });
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		for (Object[] evicted : evictedResources) {
+			disposeResource(evicted[0], evicted[1], evicted[2]);
+		}
+		evictedResources.clear();
+		ResourceManager resourceManager = display == null || display.isDisposed() ? null : getResourceManager();
+		for (Allocation allocation : allocations.values()) {
+			for (; allocation.count > 0; allocation.count--) {
+				if (resourceManager != null) {
+					resourceManager.destroy(allocation.descriptor);
+				}
+			}
+		}
+		// the released allocations are kept, so that the resources removed from
+		// the cache before are not disposed when they are passed to
+		// disposeResource later
 	}
 
 	@Override
 	public void disposeResource(Object type, Object key, Object resource) {
+		if (release(resource)) {
+			return;
+		}
 		// Dispose SWT Resource
 		if (resource instanceof Cursor) {
 			((Cursor)resource).dispose();
@@ -118,6 +305,14 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 		return false;
 	}
 
+	/**
+	 * Removes the resources of the given types whose key is of the given key
+	 * type from the cache and returns them. As widgets may still use them, they
+	 * are neither released nor disposed: the caller passes each of them to
+	 * {@link #disposeResource(Object, Object, Object)} once it is no longer
+	 * used, which releases the resources shared with the JFace resource manager
+	 * and disposes the others.
+	 */
 	public List<Object> removeResourcesByKeyTypeAndType(Class<?> keyType, Class<?>... types) {
 		List<Object> removedResources = new ArrayList<>();
 		for (Class<?> cls : types) {
@@ -132,4 +327,16 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 		}
 		return removedResources;
 	}
+
+	/**
+	 * Number of references held on a resource of the JFace resource manager.
+	 */
+	private static final class Allocation {
+		final DeviceResourceDescriptor descriptor;
+		int count;
+
+		Allocation(DeviceResourceDescriptor descriptor) {
+			this.descriptor = descriptor;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,9 +26,11 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
 import org.eclipse.e4.ui.di.UISynchronize;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
@@ -47,19 +49,34 @@ public class EventBroker implements IEventBroker {
 	@Inject
 	EventAdmin eventAdmin;
 
+	@Inject
+	@Optional
+	Logger logger;
+
+	/** Dispatcher of the UI model events, <code>null</code> if disabled */
+	UIEventDispatcher dispatcher = UIEventDispatcher.getDefault();
+
 	BundleContext bundleContext = FrameworkUtil.getBundle(getClass()).getBundleContext();
 
 	@Override
 	public boolean send(String topic, Object data) {
 		Event event = constructEvent(topic, data);
-		eventAdmin.sendEvent(event);
+		if (dispatcher != null && UIEventDispatcher.isDispatched(topic)) {
+			dispatcher.send(event);
+		} else {
+			eventAdmin.sendEvent(event);
+		}
 		return true;
 	}
 
 	@Override
 	public boolean post(String topic, Object data) {
 		Event event = constructEvent(topic, data);
-		eventAdmin.postEvent(event);
+		if (dispatcher != null && uiSync != null && UIEventDispatcher.isDispatched(topic)) {
+			dispatcher.post(event, uiSync);
+		} else {
+			eventAdmin.postEvent(event);
+		}
 		return true;
 	}
 
@@ -133,6 +150,16 @@ public class EventBroker implements IEventBroker {
 			registrations.put(eventHandler, handled = new ArrayList<>());
 		}
 		handled.add(registration);
+		if (dispatcher != null && UIEventDispatcher.mayReceive(topic)) {
+			try {
+				dispatcher.subscribe(topic, filter, wrappedHandler, this, eventHandler, logger);
+			} catch (InvalidSyntaxException e) {
+				// the EventAdmin ignores handlers with an invalid filter too
+				if (logger != null) {
+					logger.error(e, "Invalid event filter " + filter); //$NON-NLS-1$
+				}
+			}
+		}
 		return true;
 	}
 
@@ -141,6 +168,9 @@ public class EventBroker implements IEventBroker {
 		Collection<ServiceRegistration<?>> handled = registrations.remove(eventHandler);
 		if (handled == null || handled.isEmpty())
 			return false;
+		if (dispatcher != null) {
+			dispatcher.unsubscribe(this, eventHandler);
+		}
 		for (ServiceRegistration<?> r : handled) {
 			r.unregister();
 		}
@@ -150,6 +180,9 @@ public class EventBroker implements IEventBroker {
 	@PreDestroy
 	void dispose() {
 		Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<>(registrations.values());
+		if (dispatcher != null) {
+			dispatcher.unsubscribe(this, null);
+		}
 		registrations.clear();
 		for (Collection<ServiceRegistration<?>> handled : values) {
 			for (ServiceRegistration<?> registration : handled) {
@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.services.internal.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Dispatches the events of the UI model topics to the handlers subscribed
+ * through an {@link EventBroker} without going through the OSGi
+ * <code>EventAdmin</code>.
+ * <p>
+ * The subscriptions are kept in a trie of topic segments, so that finding the
+ * handlers of an event only visits the segments of its topic. Subscriptions to
+ * <code>*</code> and to topics ending with <code>/*</code> are supported like
+ * by the <code>EventAdmin</code>.
+ * </p>
+ * <p>
+ * Events which are posted for the same topic, element and attribute while an
+ * earlier one is still waiting for delivery are coalesced: only the last value
+ * is delivered, together with the old value of the first event, in the place
+ * of the first event. All posted events are delivered at once in the next turn
+ * of the UI event loop.
+ * </p>
+ * <p>
+ * The dispatch is only used when the system property
+ * <code>org.eclipse.e4.ui.services.events.inProcessDispatch</code> is set to
+ * <code>true</code>, since <code>EventHandler</code> services registered
+ * directly with the OSGi service registry don't receive these events anymore.
+ * </p>
+ */
+public final class UIEventDispatcher {
+
+	/** Topic prefix of the events dispatched in process */
+	static final String UI_MODEL_TOPIC_BASE = "org/eclipse/e4/ui/model"; //$NON-NLS-1$
+
+	// event tags and types of org.eclipse.e4.ui.workbench.UIEvents
+	private static final String ELEMENT = "ChangedElement"; //$NON-NLS-1$
+	private static final String ATTNAME = "AttName"; //$NON-NLS-1$
+	private static final String TYPE = "EventType"; //$NON-NLS-1$
+	private static final String OLD_VALUE = "OldValue"; //$NON-NLS-1$
+	private static final String SET = "SET"; //$NON-NLS-1$
+
+	private static final UIEventDispatcher DEFAULT = Boolean
+			.getBoolean("org.eclipse.e4.ui.services.events.inProcessDispatch") ? new UIEventDispatcher() : null; //$NON-NLS-1$
+
+	/**
+	 * Returns the dispatcher shared by all event brokers.
+	 *
+	 * @return the dispatcher or <code>null</code> if the events are dispatched
+	 *         by the <code>EventAdmin</code>
+	 */
+	public static UIEventDispatcher getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Counters of the events delivered for one topic.
+	 */
+	public static final class TopicStatistics {
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong coalesced = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void delivered(long nanos) {
+			count.incrementAndGet();
+			totalNanos.addAndGet(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		/**
+		 * @return the number of delivered events
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * @return the number of posted events which were merged into another
+		 *         event before delivery
+		 */
+		public long getCoalescedCount() {
+			return coalesced.get();
+		}
+
+		/**
+		 * @return the time spent in the handlers of all delivered events, in
+		 *         nanoseconds
+		 */
+		public long getTotalNanos() {
+			return totalNanos.get();
+		}
+
+		/**
+		 * @return the longest time spent in the handlers of one event, in
+		 *         nanoseconds
+		 */
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+	}
+
+	private static final class Subscription {
+		final EventHandler handler;
+		final Object source;
+		final EventHandler owner;
+		final Filter filter;
+		final Logger logger;
+
+		Subscription(EventHandler handler, Object source, EventHandler owner, Filter filter, Logger logger) {
+			this.handler = handler;
+			this.source = source;
+			this.owner = owner;
+			this.filter = filter;
+			this.logger = logger;
+		}
+	}
+
+	/**
+	 * A segment of the subscribed topics.
+	 */
+	private static final class TopicNode {
+		final Map<String, TopicNode> children = new HashMap<>();
+		/** Subscriptions to the topic ending at this node */
+		final List<Subscription> exact = new ArrayList<>(1);
+		/** Subscriptions to all topics below this node, i.e. ending with /* */
+		final List<Subscription> wildcard = new ArrayList<>(1);
+
+		boolean isEmpty() {
+			return children.isEmpty() && exact.isEmpty() && wildcard.isEmpty();
+		}
+
+		/**
+		 * Removes the matching subscriptions from this node and its children.
+		 * Returns whether this node is empty afterwards.
+		 */
+		boolean remove(Object source, EventHandler owner) {
+			exact.removeIf(s -> s.source == source && (owner == null || s.owner == owner));
+			wildcard.removeIf(s -> s.source == source && (owner == null || s.owner == owner));
+			children.values().removeIf(child -> child.remove(source, owner));
+			return isEmpty();
+		}
+	}
+
+	/**
+	 * Key of the events coalesced while waiting for delivery.
+	 */
+	private static final class PostKey {
+		final String topic;
+		final Object element;
+		final Object attribute;
+
+		PostKey(String topic, Object element, Object attribute) {
+			this.topic = topic;
+			this.element = element;
+			this.attribute = attribute;
+		}
+
+		@Override
+		public int hashCode() {
+			return (topic.hashCode() * 31 + System.identityHashCode(element)) * 31
+					+ (attribute == null ? 0 : attribute.hashCode());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof PostKey)) {
+				return false;
+			}
+			PostKey other = (PostKey) obj;
+			return element == other.element && topic.equals(other.topic)
+					&& (attribute == null ? other.attribute == null : attribute.equals(other.attribute));
+		}
+	}
+
+	private final TopicNode root = new TopicNode();
+
+	private final Map<String, TopicStatistics> statistics = new ConcurrentHashMap<>();
+
+	/** Posted events waiting for delivery, guarded by itself */
+	private final LinkedHashMap<Object, Event> pending = new LinkedHashMap<>();
+
+	private boolean flushScheduled;
+
+	/**
+	 * Creates a dispatcher. The event brokers use the one returned by
+	 * {@link #getDefault()}.
+	 */
+	public UIEventDispatcher() {
+	}
+
+	/**
+	 * Returns whether events of the given topic are dispatched by this
+	 * dispatcher.
+	 */
+	static boolean isDispatched(String topic) {
+		return topic.startsWith(UI_MODEL_TOPIC_BASE)
+				&& (topic.length() == UI_MODEL_TOPIC_BASE.length() || topic.charAt(UI_MODEL_TOPIC_BASE.length()) == '/');
+	}
+
+	/**
+	 * Returns whether a subscription to the given topic may receive events
+	 * dispatched by this dispatcher.
+	 */
+	static boolean mayReceive(String topic) {
+		if (topic.endsWith("*")) { //$NON-NLS-1$
+			String prefix = topic.substring(0, topic.length() - 1);
+			return UI_MODEL_TOPIC_BASE.startsWith(prefix) || isDispatched(prefix);
+		}
+		return isDispatched(topic);
+	}
+
+	/**
+	 * Subscribes the handler to the given topic.
+	 *
+	 * @param topic
+	 *            the topic, may end with <code>/*</code> or be <code>*</code>
+	 * @param filter
+	 *            the LDAP filter of the events, may be <code>null</code>
+	 * @param handler
+	 *            the handler notified of the events
+	 * @param source
+	 *            the object which subscribes, e.g. the event broker
+	 * @param owner
+	 *            the handler used to unsubscribe
+	 * @param logger
+	 *            the logger of the exceptions thrown by the handler, may be
+	 *            <code>null</code>
+	 * @throws InvalidSyntaxException
+	 *             if the filter is invalid
+	 */
+	public void subscribe(String topic, String filter, EventHandler handler, Object source, EventHandler owner,
+			Logger logger) throws InvalidSyntaxException {
+		Subscription subscription = new Subscription(handler, source, owner,
+				filter == null ? null : FrameworkUtil.createFilter(filter), logger);
+		boolean wildcard = topic.endsWith("*"); //$NON-NLS-1$
+		String path = wildcard ? topic.substring(0, Math.max(0, topic.length() - 2)) : topic;
+		synchronized (root) {
+			TopicNode node = root;
+			if (!path.isEmpty()) {
+				for (String segment : path.split("/")) { //$NON-NLS-1$
+					node = node.children.computeIfAbsent(segment, s -> new TopicNode());
+				}
+			}
+			(wildcard ? node.wildcard : node.exact).add(subscription);
+		}
+	}
+
+	/**
+	 * Removes the subscriptions of the given owner made by the source.
+	 *
+	 * @param source
+	 *            the object which subscribed
+	 * @param owner
+	 *            the handler passed when subscribing, or <code>null</code> to
+	 *            remove all subscriptions of the source
+	 */
+	public void unsubscribe(Object source, EventHandler owner) {
+		synchronized (root) {
+			root.remove(source, owner);
+		}
+	}
+
+	/**
+	 * Delivers the event synchronously to the subscribed handlers.
+	 */
+	public void send(Event event) {
+		String topic = event.getTopic();
+		List<Subscription> subscriptions = findSubscriptions(topic);
+		long start = System.nanoTime();
+		for (Subscription subscription : subscriptions) {
+			if (subscription.filter == null || event.matches(subscription.filter)) {
+				try {
+					subscription.handler.handleEvent(event);
+				} catch (RuntimeException e) {
+					// like the EventAdmin, don't let one handler break the others
+					if (subscription.logger != null) {
+						subscription.logger.error(e, "Exception while dispatching event " + event); //$NON-NLS-1$
+					}
+				}
+			}
+		}
+		statistics.computeIfAbsent(topic, t -> new TopicStatistics()).delivered(System.nanoTime() - start);
+	}
+
+	/**
+	 * Queues the event for delivery in the next turn of the UI event loop.
+	 */
+	public void post(Event event, UISynchronize uiSync) {
+		Object key = getPostKey(event);
+		boolean schedule;
+		synchronized (pending) {
+			// a coalesced event keeps the position of the first one
+			Event previous = pending.get(key);
+			if (previous != null) {
+				event = merge(previous, event);
+				statistics.computeIfAbsent(event.getTopic(), t -> new TopicStatistics()).coalesced.incrementAndGet();
+			}
+			pending.put(key, event);
+			schedule = !flushScheduled;
+			flushScheduled = true;
+		}
+		if (schedule) {
+			uiSync.asyncExec(this::flush);
+		}
+	}
+
+	/**
+	 * Delivers all events posted so far.
+	 */
+	public void flush() {
+		List<Event> events;
+		synchronized (pending) {
+			events = new ArrayList<>(pending.values());
+			pending.clear();
+			flushScheduled = false;
+		}
+		for (Event event : events) {
+			send(event);
+		}
+	}
+
+	/**
+	 * Returns the counters of the delivered events, by topic.
+	 *
+	 * @return an unmodifiable view of the statistics
+	 */
+	public Map<String, TopicStatistics> getStatistics() {
+		return Collections.unmodifiableMap(statistics);
+	}
+
+	/**
+	 * Discards all counters.
+	 */
+	public void resetStatistics() {
+		statistics.clear();
+	}
+
+	private List<Subscription> findSubscriptions(String topic) {
+		List<Subscription> result = new ArrayList<>();
+		synchronized (root) {
+			TopicNode node = root;
+			int start = 0;
+			while (node != null) {
+				result.addAll(node.wildcard);
+				int end = topic.indexOf('/', start);
+				String segment = end < 0 ? topic.substring(start) : topic.substring(start, end);
+				node = node.children.get(segment);
+				if (end < 0) {
+					if (node != null) {
+						result.addAll(node.exact);
+					}
+					break;
+				}
+				start = end + 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the key under which the event is coalesced with other posted
+	 * events, which is the event itself if it must not be coalesced.
+	 */
+	private static Object getPostKey(Event event) {
+		Object element = event.getProperty(ELEMENT);
+		if (element == null || !SET.equals(event.getProperty(TYPE))) {
+			// additions, removals and moves all have to be delivered
+			return event;
+		}
+		return new PostKey(event.getTopic(), element, event.getProperty(ATTNAME));
+	}
+
+	/**
+	 * Returns the event with the values of the later event and the old value of
+	 * the earlier one.
+	 */
+	private static Event merge(Event earlier, Event later) {
+		Map<String, Object> properties = new HashMap<>();
+		for (String name : later.getPropertyNames()) {
+			properties.put(name, later.getProperty(name));
+		}
+		Object oldValue = earlier.getProperty(OLD_VALUE);
+		if (oldValue == null) {
+			properties.remove(OLD_VALUE);
+		} else {
+			properties.put(OLD_VALUE, oldValue);
+		}
+		if (later.getProperty(IEventBroker.DATA) instanceof Map<?, ?>) {
+			// UIEvents handlers read the tags from the data map
+			Map<String, Object> data = new HashMap<>(properties);
+			data.remove(EventConstants.EVENT_TOPIC);
+			data.remove(IEventBroker.DATA);
+			properties.put(IEventBroker.DATA, data);
+		}
+		return new Event(later.getTopic(), properties);
+	}
+}
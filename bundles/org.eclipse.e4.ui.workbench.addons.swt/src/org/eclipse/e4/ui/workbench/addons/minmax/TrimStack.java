@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -925,6 +925,25 @@ public class TrimStack {
 		hostPane = null;
 	}
 
+	/**
+	 * Creates the widget of a minimized element whose rendering has been deferred
+	 * until it is shown (see {@link IPresentationEngine#RENDER_VISIBLE_ONLY}). As
+	 * the element stays hidden the widget is created under the 'limbo' shell.
+	 */
+	private Control renderMinimizedElement() {
+		if (!minimizedElement.isToBeRendered() || window.getContext() == null) {
+			return null;
+		}
+		IPresentationEngine engine = window.getContext().get(IPresentationEngine.class);
+		Object limbo = window.getContext().get("limbo"); //$NON-NLS-1$
+		if (engine == null || limbo == null) {
+			return null;
+		}
+		Object widget = engine.createGui(minimizedElement, limbo,
+				modelService.getContainingContext(minimizedElement));
+		return widget instanceof Control ? (Control) widget : null;
+	}
+
 	/**
 	 * Sets whether this stack should be visible or hidden
 	 *
@@ -933,6 +952,9 @@ public class TrimStack {
 	 */
 	public void showStack(boolean show) {
 		Control ctrl = (Control) minimizedElement.getWidget();
+		if (ctrl == null && show) {
+			ctrl = renderMinimizedElement();
+		}
 		if (ctrl == null) {
 			return;
 		}
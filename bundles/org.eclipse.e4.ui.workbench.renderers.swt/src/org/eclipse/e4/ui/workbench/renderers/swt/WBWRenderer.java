@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -834,6 +836,12 @@ public class WBWRenderer extends SWTPartRenderer {
 	protected static class ThemeDefinitionChangedHandler {
 		protected Set<Resource> unusedResources = new HashSet<>();
 
+		/**
+		 * The registries of the unused resources which may be shared with the
+		 * JFace resource manager, so that they are released rather than disposed.
+		 */
+		private final Map<Resource, SWTResourcesRegistry> unusedResourceRegistries = new IdentityHashMap<>();
+
 		public void handleEvent(Event event) {
 			Object element = event.getProperty(IEventBroker.DATA);
 
@@ -853,9 +861,13 @@ public class WBWRenderer extends SWTPartRenderer {
 			}
 
 			for (CSSEngine engine : engines) {
-				for (Object resource : removeResources(engine.getResourcesRegistry())) {
+				IResourcesRegistry registry = engine.getResourcesRegistry();
+				for (Object resource : removeResources(registry)) {
 					if (resource instanceof Resource && !((Resource) resource).isDisposed()) {
 						unusedResources.add((Resource) resource);
+						if (registry instanceof SWTResourcesRegistry) {
+							unusedResourceRegistries.put((Resource) resource, (SWTResourcesRegistry) registry);
+						}
 					}
 				}
 				engine.reapply();
@@ -877,11 +889,15 @@ public class WBWRenderer extends SWTPartRenderer {
 
 		public void dispose() {
 			for (Resource resource : unusedResources) {
-				if (!resource.isDisposed()) {
+				SWTResourcesRegistry registry = unusedResourceRegistries.get(resource);
+				if (registry != null) {
+					registry.disposeResource(resource.getClass(), null, resource);
+				} else if (!resource.isDisposed()) {
 					resource.dispose();
 				}
 			}
 			unusedResources.clear();
+			unusedResourceRegistries.clear();
 		}
 	}
 
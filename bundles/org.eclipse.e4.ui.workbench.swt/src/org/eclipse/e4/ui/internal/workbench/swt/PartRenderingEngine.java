@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2019 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,7 +74,10 @@ import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainerElement;
 import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimElement;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
@@ -207,6 +210,23 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 		// Re-parent the control based on the visible state
 		if (changedElement.isVisible()) {
+			if (changedElement.isToBeRendered() && changedElement.getWidget() == null
+					&& isRenderedOnDemand(changedElement)) {
+				if (parent.getWidget() == null) {
+					// rendered together with its parent once the parent is rendered
+					return;
+				}
+				// First reveal of an element whose rendering has been deferred
+				if (Policy.DEBUG_RENDERER) {
+					WorkbenchSWTActivator.trace(Policy.DEBUG_RENDERER_FLAG,
+							"Rendering deferred element: " + changedElement, null); //$NON-NLS-1$
+				}
+				Object widget = createGui(changedElement);
+				if (widget instanceof Control && !(widget instanceof Shell)) {
+					fixZOrder(changedElement);
+				}
+				return;
+			}
 			if (changedElement.isToBeRendered()) {
 				if (changedElement.getWidget() instanceof Control && //
 						renderer.getUIContainer(changedElement) instanceof Composite) {
@@ -697,6 +717,38 @@ public class PartRenderingEngine implements IPresentationEngine {
 		return newWidget;
 	}
 
+	/**
+	 * Returns whether the widget of the given element is created on its first
+	 * reveal rather than together with its parent. This applies to the part sash
+	 * container elements and the trim elements of windows tagged with
+	 * {@link IPresentationEngine#RENDER_VISIBLE_ONLY}. The children of stacks are
+	 * left to their renderer, which already defers the unselected ones.
+	 */
+	private boolean isRenderedOnDemand(MUIElement element) {
+		if (element instanceof MWindow) {
+			return false;
+		}
+		Object parent = element.getParent();
+		if (parent == null) {
+			parent = ((EObject) element).eContainer();
+		}
+		if (element instanceof MTrimElement) {
+			if (!(parent instanceof MTrimBar)) {
+				return false;
+			}
+		} else if (!(element instanceof MPartSashContainerElement) || parent instanceof MGenericStack<?>) {
+			return false;
+		}
+
+		// the tag of the nearest window decides, so detached windows can opt in
+		// on their own
+		while (parent instanceof EObject && !(parent instanceof MWindow)) {
+			parent = ((EObject) parent).eContainer();
+		}
+		return parent instanceof MWindow
+				&& ((MWindow) parent).getTags().contains(IPresentationEngine.RENDER_VISIBLE_ONLY);
+	}
+
 	private IEclipseContext getContext(MUIElement parent) {
 		if (parent instanceof MContext) {
 			return ((MContext) parent).getContext();
@@ -732,6 +784,15 @@ public class PartRenderingEngine implements IPresentationEngine {
 	}
 
 	private Object safeCreateGui(MUIElement element) {
+		// Hidden elements of windows rendering their visible elements only are
+		// created when they are shown for the first time
+		if (!element.isVisible() && element.getWidget() == null && isRenderedOnDemand(element)) {
+			if (Policy.DEBUG_RENDERER) {
+				WorkbenchSWTActivator.trace(Policy.DEBUG_RENDERER_FLAG, "Deferred rendering of: " + element, null); //$NON-NLS-1$
+			}
+			return null;
+		}
+
 		// Obtain the necessary parent widget
 		Object parent = null;
 		MUIElement parentME = element.getParent();
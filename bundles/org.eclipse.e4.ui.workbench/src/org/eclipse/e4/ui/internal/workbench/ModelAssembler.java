@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2021 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,7 @@ import org.eclipse.e4.ui.model.fragment.MModelFragments;
 import org.eclipse.e4.ui.model.fragment.MStringModelFragment;
 import org.eclipse.e4.ui.model.fragment.impl.FragmentPackageImpl;
 import org.eclipse.e4.ui.model.internal.ModelUtils;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.e4.ui.workbench.modeling.IModelProcessorContribution;
 import org.eclipse.e4.ui.workbench.modeling.IModelProcessorContribution.ModelElement;
 import org.eclipse.emf.common.util.Diagnostic;
@@ -478,10 +479,19 @@ public class ModelAssembler {
 	}
 
 	public void processFragments(Collection<ModelFragmentWrapper> fragmentList) {
-		for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
-			processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
-					fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
-					fragmentWrapper.isCheckExists());
+		Runnable merge = () -> {
+			for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
+				processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
+						fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
+						fragmentWrapper.isCheckExists());
+			}
+		};
+		// send the model events of all merged fragments at once
+		EModelService modelService = context == null ? null : context.get(EModelService.class);
+		if (modelService != null) {
+			modelService.runBulkMutation(merge);
+		} else {
+			merge.run();
 		}
 	}
 
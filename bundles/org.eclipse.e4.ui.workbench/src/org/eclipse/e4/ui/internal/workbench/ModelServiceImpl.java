@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1226,6 +1226,21 @@ public class ModelServiceImpl implements EModelService {
 		return hostWindow.getSharedElements().contains(curElement);
 	}
 
+	@Override
+	public void runBulkMutation(Runnable mutation) {
+		UIEventPublisher publisher = appContext.get(UIEventPublisher.class);
+		if (publisher == null) {
+			mutation.run();
+			return;
+		}
+		publisher.startRecording();
+		try {
+			mutation.run();
+		} finally {
+			publisher.stopRecording();
+		}
+	}
+
 	private void warn(String message) {
 		Logger logger = appContext.get(Logger.class);
 		if (logger != null) {
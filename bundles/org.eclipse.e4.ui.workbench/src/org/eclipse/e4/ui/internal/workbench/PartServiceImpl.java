@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -123,13 +123,10 @@ public class PartServiceImpl implements EPartService {
 				return;
 			}
 
-			Object newValue = event.getProperty(UIEvents.EventTags.NEW_VALUE);
-			Object oldValue = event.getProperty(UIEvents.EventTags.OLD_VALUE);
-
 			boolean minimizedTagAdded = UIEvents.isADD(event)
-					&& IPresentationEngine.MINIMIZED.equals(newValue);
+					&& UIEvents.contains(event, UIEvents.EventTags.NEW_VALUE, IPresentationEngine.MINIMIZED);
 			boolean minimizedTagRemoved = UIEvents.isREMOVE(event)
-					&& IPresentationEngine.MINIMIZED.equals(oldValue);
+					&& UIEvents.contains(event, UIEvents.EventTags.OLD_VALUE, IPresentationEngine.MINIMIZED);
 
 			if (!(minimizedTagAdded || minimizedTagRemoved)) {
 				return;
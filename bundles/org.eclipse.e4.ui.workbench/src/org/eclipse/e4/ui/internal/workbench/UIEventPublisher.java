@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -38,6 +42,9 @@ public class UIEventPublisher extends EContentAdapter {
 
 	private IEclipseContext context;
 
+	/** The recording of the current thread, if any */
+	private final ThreadLocal<Recording> recording = new ThreadLocal<>();
+
 	/**
 	 * @param e4Context
 	 */
@@ -59,11 +66,220 @@ public class UIEventPublisher extends EContentAdapter {
 		String topic = formatData(notification, argMap);
 
 		if (topic != null) {
+			Recording current = recording.get();
+			if (current != null) {
+				current.record(topic, argMap, notification.getNotifier() instanceof MApplicationElement);
+				return;
+			}
 			IEventBroker eventManager = context.get(IEventBroker.class);
 			eventManager.send(topic, argMap);
 		}
 	}
 
+	/**
+	 * Starts recording the model events caused by the current thread instead of
+	 * sending them. The events caused by other threads are still sent right
+	 * away. Calls may be nested, the recorded events are sent when the outermost
+	 * recording is stopped.
+	 *
+	 * @see #stopRecording()
+	 */
+	public void startRecording() {
+		Recording current = recording.get();
+		if (current == null) {
+			current = new Recording();
+			recording.set(current);
+		}
+		current.depth++;
+	}
+
+	/**
+	 * Stops a recording started by {@link #startRecording()} on the current
+	 * thread. When the outermost recording is stopped, the recorded events are
+	 * sent in order. Consecutive additions and removals of the same element
+	 * feature are sent as one {@link EventTypes#ADD_MANY} or
+	 * {@link EventTypes#REMOVE_MANY} event, and consecutive changes of the same
+	 * attribute as one {@link EventTypes#SET} event. Events are never merged
+	 * across an event of another feature.
+	 */
+	public void stopRecording() {
+		Recording current = recording.get();
+		if (current == null || --current.depth > 0) {
+			return;
+		}
+		recording.remove();
+		if (current.events.isEmpty()) {
+			return;
+		}
+		IEventBroker eventManager = context.get(IEventBroker.class);
+		for (RecordedEvent event : current.events) {
+			Map<String, Object> argMap = event.toArgMap();
+			if (argMap != null) {
+				eventManager.send(event.getTopic(), argMap);
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the model events of the current thread are
+	 *         currently recorded
+	 */
+	public boolean isRecording() {
+		return recording.get() != null;
+	}
+
+	/**
+	 * The events recorded by one thread.
+	 */
+	private static final class Recording {
+		/** Nesting depth of {@link UIEventPublisher#startRecording()} */
+		int depth;
+
+		/** The events recorded so far, in the order of the notifications */
+		final List<RecordedEvent> events = new ArrayList<>();
+
+		void record(String topic, Map<String, Object> argMap, boolean mergeable) {
+			if (mergeable && !events.isEmpty()) {
+				RecordedEvent last = events.get(events.size() - 1);
+				if (last.isOf(argMap) && last.merge(argMap)) {
+					return;
+				}
+			}
+			events.add(new RecordedEvent(topic, argMap, mergeable));
+		}
+	}
+
+	/**
+	 * An event recorded during a bulk mutation, possibly merged with the
+	 * directly following events of the same element feature.
+	 */
+	private static final class RecordedEvent {
+		private final String topic;
+		private final Map<String, Object> argMap;
+		private final boolean mergeable;
+		private final String kind;
+		/** The added or removed values once another event was merged */
+		private List<Object> values;
+		/** The position of the next value if the additions are contiguous */
+		private int nextPosition = -1;
+		private int merged;
+
+		RecordedEvent(String topic, Map<String, Object> argMap, boolean mergeable) {
+			this.topic = topic;
+			this.argMap = argMap;
+			this.mergeable = mergeable;
+			this.kind = getKind((String) argMap.get(EventTags.TYPE));
+		}
+
+		private static String getKind(String type) {
+			if (EventTypes.ADD.equals(type) || EventTypes.ADD_MANY.equals(type)) {
+				return EventTypes.ADD;
+			}
+			if (EventTypes.REMOVE.equals(type) || EventTypes.REMOVE_MANY.equals(type)) {
+				return EventTypes.REMOVE;
+			}
+			return type;
+		}
+
+		/**
+		 * Returns whether the given event is about the same feature of the same
+		 * element as this one.
+		 */
+		boolean isOf(Map<String, Object> next) {
+			return argMap.get(EventTags.ELEMENT) == next.get(EventTags.ELEMENT)
+					&& Objects.equals(argMap.get(EventTags.ATTNAME), next.get(EventTags.ATTNAME));
+		}
+
+		/**
+		 * Merges the event into this one if possible.
+		 */
+		boolean merge(Map<String, Object> next) {
+			if (!mergeable || !kind.equals(getKind((String) next.get(EventTags.TYPE)))) {
+				return false;
+			}
+			if (EventTypes.SET.equals(kind)) {
+				putOrRemove(argMap, EventTags.NEW_VALUE, next.get(EventTags.NEW_VALUE));
+			} else if (EventTypes.ADD.equals(kind)) {
+				if (values == null) {
+					values = new ArrayList<>();
+					Object position = argMap.get(EventTags.POSITION);
+					addValues(argMap.get(EventTags.NEW_VALUE), argMap.get(EventTags.TYPE));
+					nextPosition = position instanceof Integer && (Integer) position >= 0
+							? (Integer) position + values.size()
+							: -1;
+				}
+				Object position = next.get(EventTags.POSITION);
+				int count = values.size();
+				addValues(next.get(EventTags.NEW_VALUE), next.get(EventTags.TYPE));
+				nextPosition = position instanceof Integer && (Integer) position == nextPosition
+						? nextPosition + values.size() - count
+						: -1;
+			} else if (EventTypes.REMOVE.equals(kind)) {
+				if (values == null) {
+					values = new ArrayList<>();
+					addValues(argMap.get(EventTags.OLD_VALUE), argMap.get(EventTags.TYPE));
+				}
+				addValues(next.get(EventTags.OLD_VALUE), next.get(EventTags.TYPE));
+			} else {
+				return false;
+			}
+			merged++;
+			return true;
+		}
+
+		private void addValues(Object value, Object type) {
+			if ((EventTypes.ADD_MANY.equals(type) || EventTypes.REMOVE_MANY.equals(type))
+					&& value instanceof Collection<?>) {
+				values.addAll((Collection<?>) value);
+			} else if (value != null) {
+				values.add(value);
+			}
+		}
+
+		String getTopic() {
+			if (values == null) {
+				return topic;
+			}
+			String type = EventTypes.ADD.equals(kind) ? EventTypes.ADD_MANY : EventTypes.REMOVE_MANY;
+			return topic.substring(0, topic.lastIndexOf(UIEvents.TOPIC_SEP) + 1) + type;
+		}
+
+		/**
+		 * Returns the arguments of the event to send or <code>null</code> if
+		 * the merged changes cancel out each other.
+		 */
+		Map<String, Object> toArgMap() {
+			if (merged == 0) {
+				return argMap;
+			}
+			if (EventTypes.SET.equals(kind)) {
+				return Objects.equals(argMap.get(EventTags.OLD_VALUE), argMap.get(EventTags.NEW_VALUE)) ? null
+						: argMap;
+			}
+			Map<String, Object> result = new HashMap<>(argMap);
+			result.remove(EventTags.POSITION);
+			if (EventTypes.ADD.equals(kind)) {
+				result.put(EventTags.TYPE, EventTypes.ADD_MANY);
+				result.put(EventTags.NEW_VALUE, values);
+				if (nextPosition >= 0) {
+					result.put(EventTags.POSITION, Integer.valueOf(nextPosition - values.size()));
+				}
+			} else {
+				result.put(EventTags.TYPE, EventTypes.REMOVE_MANY);
+				result.put(EventTags.OLD_VALUE, values);
+			}
+			return result;
+		}
+
+		private static void putOrRemove(Map<String, Object> map, String key, Object value) {
+			if (value == null) {
+				map.remove(key);
+			} else {
+				map.put(key, value);
+			}
+		}
+	}
+
 	/**
 	 * Large hack here. Open to better suggestions
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -72,30 +72,33 @@ public class HandlerProcessingAddon {
 		if ((event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MHandlerContainer)
 				&& (event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MContext)) {
 			MHandlerContainer handlerContainer = (MHandlerContainer) event.getProperty(UIEvents.EventTags.ELEMENT);
-			if (UIEvents.EventTypes.ADD.equals(event.getProperty(UIEvents.EventTags.TYPE))) {
-				if (event.getProperty(UIEvents.EventTags.NEW_VALUE) instanceof MHandler) {
-					MHandler handler = (MHandler) event.getProperty(UIEvents.EventTags.NEW_VALUE);
-					MContext mContext = (MContext) handlerContainer;
-					IEclipseContext context = mContext.getContext();
-					if (context != null) {
-						processActiveHandler(handler, context);
+			if (UIEvents.isADD(event)) {
+				for (Object newValue : UIEvents.asIterable(event, UIEvents.EventTags.NEW_VALUE)) {
+					if (newValue instanceof MHandler) {
+						MHandler handler = (MHandler) newValue;
+						MContext mContext = (MContext) handlerContainer;
+						IEclipseContext context = mContext.getContext();
+						if (context != null) {
+							processActiveHandler(handler, context);
+						}
 					}
 				}
-			} else if (UIEvents.EventTypes.REMOVE.equals(event.getProperty(UIEvents.EventTags.TYPE))) {
-				if (event.getProperty(UIEvents.EventTags.OLD_VALUE) instanceof MHandler) {
-					MHandler handler = (MHandler) event.getProperty(UIEvents.EventTags.OLD_VALUE);
-					MContext mContext = (MContext) handlerContainer;
-					IEclipseContext context = mContext.getContext();
-					if (context != null) {
-						MCommand command = handler.getCommand();
-						if (command != null) {
-							String commandId = command.getElementId();
-							EHandlerService handlerService = context.get(EHandlerService.class);
-							handlerService.deactivateHandler(commandId, handler.getObject());
+			} else if (UIEvents.isREMOVE(event)) {
+				for (Object oldValue : UIEvents.asIterable(event, UIEvents.EventTags.OLD_VALUE)) {
+					if (oldValue instanceof MHandler) {
+						MHandler handler = (MHandler) oldValue;
+						MContext mContext = (MContext) handlerContainer;
+						IEclipseContext context = mContext.getContext();
+						if (context != null) {
+							MCommand command = handler.getCommand();
+							if (command != null) {
+								String commandId = command.getElementId();
+								EHandlerService handlerService = context.get(EHandlerService.class);
+								handlerService.deactivateHandler(commandId, handler.getObject());
+							}
 						}
 					}
 				}
-
 			}
 
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 BestSolution.at and others.
+ * Copyright (c) 2009, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -255,6 +255,16 @@ public interface IPresentationEngine {
 	 */
 	String NO_RESTORE = "NoRestore"; //$NON-NLS-1$
 
+	/**
+	 * When applied as a tag to an MWindow, the widgets of the hidden part
+	 * stacks, sash containers, parts and trim elements of the window are not
+	 * created when the window is rendered but when the element is shown for the
+	 * first time.
+	 *
+	 * @since 1.15
+	 */
+	String RENDER_VISIBLE_ONLY = "RenderVisibleOnly"; //$NON-NLS-1$
+
 	/**
 	 * Creates and returns the UI element for the given model element.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2019 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -624,4 +624,27 @@ public interface EModelService {
 	 *         currently being hosted in the given MWindow.
 	 */
 	boolean isHostedElement(MUIElement element, MWindow hostWindow);
+
+	/**
+	 * Runs the given modification of the application model as one bulk mutation.
+	 * The model change events caused by the runnable are not sent right away but
+	 * when the runnable has completed. Consecutive additions to (or removals
+	 * from) the same feature of an element are then sent as a single
+	 * {@link org.eclipse.e4.ui.workbench.UIEvents.EventTypes#ADD_MANY ADD_MANY}
+	 * (or {@link org.eclipse.e4.ui.workbench.UIEvents.EventTypes#REMOVE_MANY
+	 * REMOVE_MANY}) event and consecutive changes of the same attribute as a
+	 * single {@link org.eclipse.e4.ui.workbench.UIEvents.EventTypes#SET SET}
+	 * event. The events are sent in the order of the changes. Changes made by
+	 * other threads meanwhile are not part of the bulk mutation and their events
+	 * are sent right away.
+	 * <p>
+	 * Bulk mutations may be nested, the events are sent when the outermost one
+	 * completes.
+	 * </p>
+	 *
+	 * @param mutation the modification of the model, must not be
+	 *                 <code>null</code>
+	 * @since 1.15
+	 */
+	void runBulkMutation(Runnable mutation);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,8 +22,15 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.widgets.Control;
@@ -217,6 +224,28 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 
 	private VirtualManager virtualManager;
 
+	/**
+	 * The number of elements from which the elements are filtered in parallel
+	 * by a background refresh.
+	 */
+	static final int PARALLEL_FILTER_THRESHOLD = 4096;
+
+	private boolean backgroundRefresh;
+
+	/**
+	 * Incremented by each refresh of all elements, a background refresh only
+	 * updates the table if no other refresh has been started since.
+	 */
+	private volatile int refreshGeneration;
+
+	/**
+	 * Whether a background refresh is running, and whether it updates the
+	 * labels of all elements. Only accessed in the UI thread.
+	 */
+	private boolean backgroundRefreshPending;
+
+	private boolean backgroundRefreshUpdatesLabels;
+
 	/**
 	 * Create the new viewer for table like widgets
 	 */
@@ -234,6 +263,52 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	protected void handleDispose(DisposeEvent event) {
 		super.handleDispose(event);
 		virtualManager = null;
+		cancelBackgroundRefresh();
+	}
+
+	/**
+	 * Sets whether refreshes of all elements filter and sort the elements in
+	 * the background. If enabled, <code>refresh()</code>, changes of the input,
+	 * of the filters and of the comparator return after getting the elements
+	 * from the content provider; the filters and the comparator are applied in
+	 * a worker thread, and the table is updated in the UI thread once they are
+	 * done. A refresh which has not updated the table yet is discarded when
+	 * another refresh of all elements is started, and restarted when elements
+	 * are added or removed.
+	 * <p>
+	 * The {@link ViewerFilter#select(Viewer, Object, Object) select} method of
+	 * the filters and the {@link ViewerComparator#sort(Viewer, Object[]) sort}
+	 * method of the comparator must be safe to call outside of the UI thread,
+	 * and so must be the label provider if they use it. Many elements are
+	 * filtered concurrently by several threads. Background refreshes are not
+	 * done for virtual tables.
+	 * </p>
+	 *
+	 * @param enable <code>true</code> to filter and sort in the background,
+	 *               <code>false</code> to do it in the UI thread
+	 * @since 3.30
+	 */
+	public void setBackgroundRefresh(boolean enable) {
+		backgroundRefresh = enable;
+		if (!enable && backgroundRefreshPending) {
+			// let the pending refresh complete synchronously
+			boolean updateLabels = backgroundRefreshUpdatesLabels;
+			cancelBackgroundRefresh();
+			refresh(updateLabels);
+		}
+	}
+
+	/**
+	 * Returns whether refreshes of all elements filter and sort the elements in
+	 * the background.
+	 *
+	 * @return <code>true</code> if the elements are filtered and sorted in the
+	 *         background
+	 * @see #setBackgroundRefresh(boolean)
+	 * @since 3.30
+	 */
+	public boolean isBackgroundRefresh() {
+		return backgroundRefresh;
 	}
 
 	/**
@@ -267,6 +342,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		assertElementsNotNull(elements);
 		if (checkBusy())
 			return;
+		if (restartBackgroundRefresh()) {
+			return;
+		}
 		Object[] filtered = filter(elements);
 
 		for (Object element : filtered) {
@@ -602,6 +680,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 		if (checkBusy())
 			return;
+		if (restartBackgroundRefresh()) {
+			return;
+		}
 		createItem(element, position);
 	}
 
@@ -614,7 +695,10 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	protected void internalRefresh(Object element, boolean updateLabels) {
 		applyEditorValue();
 		if (element == null || equals(element, getRoot())) {
-			if (virtualManager == null) {
+			if (virtualManager == null && backgroundRefresh) {
+				startBackgroundRefresh(updateLabels);
+			} else if (virtualManager == null) {
+				cancelBackgroundRefresh();
 				internalRefreshAll(updateLabels);
 			} else {
 				internalVirtualRefreshAll();
@@ -658,6 +742,14 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	 * @since 3.1
 	 */
 	private void internalRefreshAll(boolean updateLabels) {
+		internalRefreshAll(getSortedChildren(getRoot()), updateLabels);
+	}
+
+	/**
+	 * Refresh all of the elements of the table with the given sorted and
+	 * filtered children.
+	 */
+	private void internalRefreshAll(Object[] children, boolean updateLabels) {
 		// the parent
 
 		// in the code below, it is important to do all disassociates
@@ -667,7 +759,6 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		// item 1 could undo
 		// the associate of b to item 0.
 
-		Object[] children = getSortedChildren(getRoot());
 		Item[] items = doGetItems();
 		int min = Math.min(children.length, items.length);
 		for (int i = 0; i < min; ++i) {
@@ -727,6 +818,124 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Gets the elements from the content provider and filters and sorts them in
+	 * a worker thread. The table is updated in the UI thread unless another
+	 * refresh has been started in the meantime.
+	 */
+	private void startBackgroundRefresh(boolean updateLabels) {
+		boolean labels = updateLabels || (backgroundRefreshPending && backgroundRefreshUpdatesLabels);
+		int generation = ++refreshGeneration;
+		backgroundRefreshPending = true;
+		backgroundRefreshUpdatesLabels = labels;
+
+		Object root = getRoot();
+		Object[] rawChildren = getRawChildren(root);
+		ViewerFilter[] filters = getFilters();
+		ViewerComparator comparator = getComparator();
+		Control control = getControl();
+		CompletableFuture<Object[]> filtered = CompletableFuture
+				.supplyAsync(() -> filterInBackground(root, rawChildren, filters, generation));
+		filtered.thenApply(filteredChildren -> sortInBackground(filteredChildren, comparator, generation))
+				.whenComplete((children, exception) -> {
+					if (exception != null) {
+						Throwable cause = exception instanceof CompletionException ? exception.getCause()
+								: exception;
+						if (!(cause instanceof CancellationException)) {
+							Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE,
+									"Exception while refreshing a table in the background", cause)); //$NON-NLS-1$
+						}
+						return;
+					}
+					if (generation != refreshGeneration || control.isDisposed()) {
+						return;
+					}
+					control.getDisplay().asyncExec(() -> {
+						if (generation != refreshGeneration || control.isDisposed()) {
+							return;
+						}
+						backgroundRefreshPending = false;
+						// the filtered elements are in the order of the raw ones before sorting
+						notifyFilteredOut(rawChildren, filtered.join());
+						preservingSelection(() -> internalRefreshAll(children, labels));
+					});
+				});
+	}
+
+	/**
+	 * Filters the given elements, called in a worker thread.
+	 *
+	 * @throws CancellationException
+	 *             if another refresh has been started
+	 */
+	private Object[] filterInBackground(Object root, Object[] elements, ViewerFilter[] filters, int generation) {
+		Object[] result = elements;
+		if (filters.length > 0) {
+			Stream<Object> stream = Arrays.stream(elements);
+			if (elements.length >= PARALLEL_FILTER_THRESHOLD) {
+				stream = stream.parallel();
+			}
+			result = stream.filter(element -> {
+				checkRefreshGeneration(generation);
+				for (ViewerFilter filter : filters) {
+					if (!filter.select(this, root, element)) {
+						return false;
+					}
+				}
+				return true;
+			}).toArray();
+		}
+		checkRefreshGeneration(generation);
+		return result;
+	}
+
+	/**
+	 * Sorts the given filtered elements, called in a worker thread.
+	 *
+	 * @throws CancellationException
+	 *             if another refresh has been started
+	 */
+	private Object[] sortInBackground(Object[] filteredElements, ViewerComparator comparator, int generation) {
+		Object[] result = filteredElements;
+		if (comparator != null) {
+			// be sure we're not modifying the original array from the model,
+			// nor the filtered one which is used to notify the filtered out elements
+			result = result.clone();
+			comparator.sort(this, result);
+			checkRefreshGeneration(generation);
+		}
+		return result;
+	}
+
+	private void checkRefreshGeneration(int generation) {
+		if (generation != refreshGeneration) {
+			throw new CancellationException();
+		}
+	}
+
+	/**
+	 * Discards the pending background refresh, if any.
+	 */
+	private void cancelBackgroundRefresh() {
+		refreshGeneration++;
+		backgroundRefreshPending = false;
+	}
+
+	/**
+	 * Restarts the pending background refresh, if any. Elements added or
+	 * removed while the refresh runs may be missing from the elements it got
+	 * from the content provider, getting them again includes the change.
+	 *
+	 * @return <code>true</code> if a background refresh has been restarted
+	 */
+	private boolean restartBackgroundRefresh() {
+		if (!backgroundRefreshPending) {
+			return false;
+		}
+		startBackgroundRefresh(backgroundRefreshUpdatesLabels);
+		return true;
+	}
+
 	/**
 	 * Removes the given elements from this table viewer.
 	 *
@@ -798,6 +1007,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (elements.length == 0) {
 			return;
 		}
+		if (restartBackgroundRefresh()) {
+			return;
+		}
 		preservingSelection(() -> internalRemove(elements));
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@
 
 package org.eclipse.jface.viewers;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -82,6 +83,12 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	public static final int ALL_LEVELS = -1;
 
+	/**
+	 * The number of child items from which the children of a parent are looked
+	 * up in a hash table instead of being compared one by one.
+	 */
+	static final int CHILD_INDEX_THRESHOLD = 32;
+
 	/**
 	 * List of registered tree listeners (element type:
 	 * <code>TreeListener</code>).
@@ -356,10 +363,14 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			return;
 		}
 
+		// Index the existing children of wide parents so that each added element
+		// is looked up in constant time
+		CustomHashtable childIndex = items.length >= CHILD_INDEX_THRESHOLD ? indexChildren(items) : null;
+
 		// Optimize for no comparator
 		if (comparator == null) {
 			for (Object element : elements) {
-				if (itemExists(items, element)) {
+				if (childIndex != null ? childIndex.containsKey(element) : itemExists(items, element)) {
 					internalRefresh(element);
 				} else {
 					createTreeItem(widget, element, -1);
@@ -382,6 +393,21 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			if (indexInItems == items.length) {
 				createTreeItem(widget, element, -1);
 				newItems++;
+			} else if (childIndex != null) {
+				if (childIndex.containsKey(element)) {
+					internalRefresh(element);
+					continue;
+				}
+				// Insert after the existing elements that compare equally, as
+				// done by the search below
+				int insertionIndexInItems = indexInItems;
+				while (insertionIndexInItems < items.length && internalCompare(comparator, parentPath, element,
+						items[insertionIndexInItems].getData()) == 0) {
+					insertionIndexInItems++;
+				}
+				createTreeItem(widget, element,
+						insertionIndexInItems == items.length ? -1 : insertionIndexInItems + newItems);
+				newItems++;
 			} else {
 				// Search for an item for the element. The comparator might
 				// regard elements as equal when they are not.
@@ -437,6 +463,25 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Returns a hash table mapping the data of the given items to the items.
+	 * Items without data are skipped, and for equal data the first item is kept.
+	 *
+	 * @param items
+	 *            the items to index
+	 * @return the hash table, using the comparer of this viewer
+	 */
+	private CustomHashtable indexChildren(Item[] items) {
+		CustomHashtable index = newHashtable(items.length * 2 + 1);
+		for (Item item : items) {
+			Object data = item.getData();
+			if (data != null && !index.containsKey(data)) {
+				index.put(data, item);
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * See if element is the data of one of the elements in items.
 	 *
@@ -1995,12 +2040,30 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	protected void internalRemove(Object[] elementsOrPaths) {
 		Object input = getInput();
+		// without element map every element would be searched in the whole
+		// tree, find the items of many elements in a single pass instead
+		CustomHashtable foundItems = !usingElementMap() && elementsOrPaths.length >= CHILD_INDEX_THRESHOLD
+				? findFirstItems(elementsOrPaths)
+				: null;
 		for (Object element : elementsOrPaths) {
 			if (equals(element, input)) {
 				setInput(null);
 				return;
 			}
-			Widget[] childItems = internalFindItems(element);
+			Widget[] childItems;
+			if (foundItems != null && !(element instanceof TreePath)) {
+				Widget childItem = (Widget) foundItems.get(element);
+				if (childItem == null) {
+					childItems = new Widget[0];
+				} else if (childItem.isDisposed()) {
+					// removed together with an element removed before
+					childItems = internalFindItems(element);
+				} else {
+					childItems = new Widget[] { childItem };
+				}
+			} else {
+				childItems = internalFindItems(element);
+			}
 			if (childItems.length > 0) {
 				for (Widget childItem : childItems) {
 					if (childItem instanceof Item) {
@@ -2026,6 +2089,45 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Finds the item of each of the given elements in a single traversal of the
+	 * tree. Like {@link #doFindItem(Object)}, the first item of an element in
+	 * the order of the tree is found.
+	 *
+	 * @param elementsOrPaths
+	 *            the elements to find, tree paths are ignored
+	 * @return a hash table mapping the elements which have been found to their
+	 *         items
+	 */
+	private CustomHashtable findFirstItems(Object[] elementsOrPaths) {
+		CustomHashtable remaining = newHashtable(elementsOrPaths.length * 2 + 1);
+		for (Object element : elementsOrPaths) {
+			if (!(element instanceof TreePath)) {
+				remaining.put(element, element);
+			}
+		}
+		CustomHashtable found = newHashtable(remaining.size() * 2 + 1);
+		if (getRoot() != null && remaining.size() > 0) {
+			ArrayDeque<Item> toVisit = new ArrayDeque<>();
+			Item[] items = getChildren(getControl());
+			for (int i = items.length - 1; i >= 0; i--) {
+				toVisit.push(items[i]);
+			}
+			while (!toVisit.isEmpty() && remaining.size() > 0) {
+				Item item = toVisit.pop();
+				Object data = item.getData();
+				if (data != null && remaining.remove(data) != null) {
+					found.put(data, item);
+				}
+				Item[] children = getChildren(item);
+				for (int i = children.length - 1; i >= 0; i--) {
+					toVisit.push(children[i]);
+				}
+			}
+		}
+		return found;
+	}
+
 	/**
 	 * Removes the given elements from this viewer, whenever those elements
 	 * appear as children of the given parent.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,21 @@
 
 package org.eclipse.jface.viewers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
@@ -29,6 +39,7 @@ import org.eclipse.swt.events.MouseListener;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Widget;
 
 /**
@@ -63,6 +74,60 @@ public abstract class ColumnViewer extends StructuredViewer {
 
 	private MouseListener mouseListener;
 
+	/**
+	 * The number of deferred items above which the disposed ones are
+	 * forgotten.
+	 */
+	static final int DEFERRED_ITEMS_PRUNE_SIZE = 1024;
+
+	private static final class PendingUpdate {
+		final Object element;
+		String[] properties;
+
+		PendingUpdate(Object element, String[] properties) {
+			this.element = element;
+			this.properties = properties;
+		}
+
+		void merge(String[] moreProperties) {
+			if (properties == null || moreProperties == null) {
+				properties = null;
+				return;
+			}
+			Set<String> merged = new LinkedHashSet<>(Arrays.asList(properties));
+			merged.addAll(Arrays.asList(moreProperties));
+			properties = merged.toArray(new String[merged.size()]);
+		}
+	}
+
+	private boolean batchLabelUpdates;
+
+	/**
+	 * The updates requested since the last flush (element -> PendingUpdate),
+	 * or <code>null</code>.
+	 */
+	private CustomHashtable pendingUpdates;
+
+	private List<PendingUpdate> pendingOrder;
+
+	private boolean flushScheduled;
+
+	private boolean flushing;
+
+	/**
+	 * The items shown while the pending updates are flushed, or
+	 * <code>null</code> if all items are updated.
+	 */
+	private Set<Item> visibleItems;
+
+	/**
+	 * The items whose label has not been updated because they were not shown
+	 * (item -> element).
+	 */
+	private final Map<Item, Object> deferredItems = new HashMap<>();
+
+	private Listener paintListener;
+
 	// after logging for the first
 	// time
 
@@ -542,9 +607,152 @@ public abstract class ColumnViewer extends StructuredViewer {
 	public void update(Object element, String[] properties) {
 		if (checkBusy())
 			return;
+		if (batchLabelUpdates && !flushing) {
+			Assert.isNotNull(element);
+			scheduleUpdate(element, properties);
+			return;
+		}
 		super.update(element, properties);
 	}
 
+	/**
+	 * Sets whether updates of elements are batched. If enabled,
+	 * {@link #update(Object, String[])} and label provider changes for
+	 * specific elements do not update the items right away. The requested
+	 * updates are collected and applied once per turn of the display's event
+	 * loop, an element updated several times is updated once with all the
+	 * changed properties. Items which are not shown when the updates are
+	 * applied are only updated when they are painted.
+	 * <p>
+	 * Disabling batching applies the pending updates immediately.
+	 * </p>
+	 *
+	 * @param enable <code>true</code> to batch updates
+	 * @since 3.30
+	 */
+	public void setBatchLabelUpdates(boolean enable) {
+		if (enable == batchLabelUpdates) {
+			return;
+		}
+		batchLabelUpdates = enable;
+		Control control = getControl();
+		if (control == null || control.isDisposed()) {
+			return;
+		}
+		if (enable) {
+			paintListener = event -> {
+				if (!deferredItems.isEmpty()) {
+					scheduleFlush();
+				}
+			};
+			control.addListener(SWT.Paint, paintListener);
+		} else {
+			control.removeListener(SWT.Paint, paintListener);
+			paintListener = null;
+			flushUpdates(false);
+		}
+	}
+
+	/**
+	 * Returns whether updates of elements are batched.
+	 *
+	 * @return <code>true</code> if updates are batched
+	 * @see #setBatchLabelUpdates(boolean)
+	 * @since 3.30
+	 */
+	public boolean isBatchLabelUpdates() {
+		return batchLabelUpdates;
+	}
+
+	private void scheduleUpdate(Object element, String[] properties) {
+		if (pendingUpdates == null) {
+			pendingUpdates = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+			pendingOrder = new ArrayList<>();
+		}
+		PendingUpdate update = (PendingUpdate) pendingUpdates.get(element);
+		if (update != null) {
+			update.merge(properties);
+		} else {
+			update = new PendingUpdate(element, properties);
+			pendingUpdates.put(element, update);
+			pendingOrder.add(update);
+		}
+		scheduleFlush();
+	}
+
+	private void scheduleFlush() {
+		if (!flushScheduled) {
+			flushScheduled = true;
+			getControl().getDisplay().asyncExec(() -> {
+				flushScheduled = false;
+				Control control = getControl();
+				if (batchLabelUpdates && control != null && !control.isDisposed()) {
+					flushUpdates(true);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Applies the pending updates and updates the deferred items which are
+	 * shown now.
+	 *
+	 * @param onlyVisible <code>true</code> to defer the updates of the items
+	 *                    which are not shown
+	 */
+	private void flushUpdates(boolean onlyVisible) {
+		List<PendingUpdate> updates = pendingOrder;
+		pendingUpdates = null;
+		pendingOrder = null;
+		Item[] shown = onlyVisible ? getVisibleItems() : null;
+		visibleItems = shown == null ? null : new HashSet<>(List.of(shown));
+		flushing = true;
+		try {
+			if (updates != null) {
+				Object[] elements = new Object[updates.size()];
+				String[][] properties = new String[updates.size()][];
+				for (int i = 0; i < elements.length; i++) {
+					elements[i] = updates.get(i).element;
+					properties[i] = updates.get(i).properties;
+				}
+				updateAll(elements, properties);
+			}
+			Iterable<Item> items = shown != null ? List.of(shown) : new ArrayList<>(deferredItems.keySet());
+			for (Item item : items) {
+				Object element = deferredItems.remove(item);
+				if (element != null && !item.isDisposed() && equals(element, item.getData())) {
+					updateItem(item, element);
+				}
+			}
+		} finally {
+			flushing = false;
+			visibleItems = null;
+		}
+	}
+
+	@Override
+	void updateChangedItem(Widget widget, Object element) {
+		if (visibleItems != null && widget instanceof Item && !visibleItems.contains(widget)) {
+			if (deferredItems.size() >= DEFERRED_ITEMS_PRUNE_SIZE) {
+				deferredItems.keySet().removeIf(Widget::isDisposed);
+			}
+			deferredItems.put((Item) widget, element);
+			return;
+		}
+		super.updateChangedItem(widget, element);
+	}
+
+	/**
+	 * Returns the items which are currently shown by the control, including
+	 * partially visible ones. The default implementation returns
+	 * <code>null</code>, all items are then considered to be shown.
+	 *
+	 * @return the shown items, or <code>null</code> if they are not known
+	 */
+	Item[] getVisibleItems() {
+		return null;
+	}
+
 	/**
 	 * Sets the cell editors of this column viewer. If editing is not supported
 	 * by this viewer the call simply has no effect.
@@ -663,6 +871,9 @@ public abstract class ColumnViewer extends StructuredViewer {
 			((Control)event.widget).removeMouseListener(mouseListener);
 			mouseListener = null;
 		}
+		pendingUpdates = null;
+		pendingOrder = null;
+		deferredItems.clear();
 		super.handleDispose(event);
 	}
 
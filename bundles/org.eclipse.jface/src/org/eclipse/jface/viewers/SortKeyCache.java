@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+import java.util.Comparator;
+
+/**
+ * The sort keys computed by {@link ViewerComparator#sort(Viewer, Object[])}
+ * for the elements of a {@link StructuredViewer}. A key is derived from the
+ * label of an element and the string comparator of the viewer comparator; it
+ * is kept until the viewer is told that the label of the element may have
+ * changed.
+ * <p>
+ * The cache is used by sorts running in background refreshes, so its methods
+ * are synchronized.
+ * </p>
+ */
+final class SortKeyCache {
+
+	/**
+	 * The number of keys above which the cache is cleared, elements which are
+	 * no longer shown are not removed otherwise.
+	 */
+	static final int MAX_SIZE = 1 << 18;
+
+	private final StructuredViewer viewer;
+
+	private CustomHashtable keys;
+
+	/**
+	 * The string comparator the keys have been computed for.
+	 */
+	private Comparator<?> comparator;
+
+	SortKeyCache(StructuredViewer viewer) {
+		this.viewer = viewer;
+	}
+
+	/**
+	 * @param element    the element
+	 * @param comparator the string comparator used for sorting
+	 * @return the key of the element, or <code>null</code> if it is not known
+	 */
+	synchronized Object get(Object element, Comparator<?> comparator) {
+		if (keys == null || comparator != this.comparator) {
+			return null;
+		}
+		return keys.get(element);
+	}
+
+	/**
+	 * Remembers the key of the given element, computed for the given string
+	 * comparator. The keys computed for another comparator are discarded.
+	 */
+	synchronized void put(Object element, Object key, Comparator<?> comparator) {
+		if (keys == null || comparator != this.comparator || keys.size() >= MAX_SIZE) {
+			keys = new CustomHashtable(viewer.getComparer());
+			this.comparator = comparator;
+		}
+		keys.put(element, key);
+	}
+
+	/**
+	 * Discards the key of the given element.
+	 */
+	synchronized void remove(Object element) {
+		if (keys != null) {
+			keys.remove(element);
+		}
+	}
+
+	/**
+	 * Discards all keys.
+	 */
+	synchronized void clear() {
+		keys = null;
+		comparator = null;
+	}
+}
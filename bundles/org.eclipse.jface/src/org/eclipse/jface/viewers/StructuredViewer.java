@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -152,6 +152,11 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private StructuredViewerInternals.AssociateListener associateListener;
 
+	/**
+	 * The sort keys of the elements, computed by the comparator.
+	 */
+	private final SortKeyCache sortKeys = new SortKeyCache(this);
+
 	/**
 	 * Empty array of widgets.
 	 */
@@ -870,7 +875,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @param rawResult
 	 * @param filteredResult
 	 */
-	private void notifyFilteredOut(Object[] rawResult, Object[] filteredResult) {
+	void notifyFilteredOut(Object[] rawResult, Object[] filteredResult) {
+		if (associateListener == null || rawResult.length == filteredResult.length) {
+			return;
+		}
 		int rawIndex = 0;
 		int filteredIndex = 0;
 		for (; filteredIndex < filteredResult.length; ) {
@@ -1155,6 +1163,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		if (elements != null) {
 			update(elements, null);
 		} else {
+			sortKeys.clear();
 			super.handleLabelProviderChanged(event);
 		}
 	}
@@ -1456,6 +1465,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the element
 	 */
 	public void refresh(final Object element) {
+		sortKeys.clear();
 		preservingSelection(() -> internalRefresh(element));
 	}
 
@@ -1479,6 +1489,9 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 2.0
 	 */
 	public void refresh(final Object element, final boolean updateLabels) {
+		if (updateLabels) {
+			sortKeys.clear();
+		}
 		preservingSelection(() -> internalRefresh(element, updateLabels));
 	}
 
@@ -1555,6 +1568,16 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 	}
 
+	/**
+	 * Returns the cache of the sort keys of the elements, used by
+	 * {@link ViewerComparator#sort(Viewer, Object[])}.
+	 *
+	 * @return the sort key cache
+	 */
+	SortKeyCache getSortKeyCache() {
+		return sortKeys;
+	}
+
 	void setAssociateListener(StructuredViewerInternals.AssociateListener l) {
 		associateListener = l;
 	}
@@ -1629,6 +1652,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 							"(Has the widget been disposed?)"); //$NON-NLS-1$
 		}
 		unmapAllElements();
+		sortKeys.clear();
 		super.setInput(input);
 	}
 
@@ -1718,6 +1742,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	public void setSorter(ViewerSorter sorter) {
 		if (this.sorter != sorter) {
 			this.sorter = sorter;
+			sortKeys.clear();
 			refresh();
 		}
 	}
@@ -1740,6 +1765,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	public void setComparator(ViewerComparator comparator){
 		if (this.sorter != comparator){
 			this.sorter = comparator;
+			sortKeys.clear();
 			refresh();
 		}
 	}
@@ -1779,6 +1805,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	public void setComparer(IElementComparer comparer) {
 		this.comparer = comparer;
+		sortKeys.clear();
 		if (elementMap != null) {
 			elementMap = new CustomHashtable(elementMap, comparer);
 		}
@@ -1982,6 +2009,29 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 	}
 
+	/**
+	 * Updates the given elements like {@link #update(Object[], String[])}, each
+	 * element with the properties at the same index.
+	 *
+	 * @param elements   the elements
+	 * @param properties the properties that have changed for each element,
+	 *                   elements may be <code>null</code> to indicate unknown
+	 */
+	void updateAll(Object[] elements, String[][] properties) {
+		boolean previousValue = refreshOccurred;
+		refreshOccurred = false;
+		try {
+			for (int i = 0; i < elements.length; i++) {
+				update(elements[i], properties[i]);
+				if (refreshOccurred) {
+					return;
+				}
+			}
+		} finally {
+			refreshOccurred = previousValue;
+		}
+	}
+
 	/**
 	 * Updates the given element's presentation when one or more of its
 	 * properties changes. Only the given element is updated.
@@ -2024,6 +2074,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	public void update(Object element, String[] properties) {
 		Assert.isNotNull(element);
+		sortKeys.remove(element);
 		Widget[] items = findItems(element);
 
 		boolean mayExitEarly = !refreshOccurred;
@@ -2087,10 +2138,21 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 			}
 		}
 		if (needsUpdate) {
-			updateItem(widget, element);
+			updateChangedItem(widget, element);
 		}
 	}
 
+	/**
+	 * Updates the given widget after the label of its element has changed.
+	 * Calls <code>updateItem(widget, element)</code>.
+	 *
+	 * @param widget  the widget
+	 * @param element the element
+	 */
+	void updateChangedItem(Widget widget, Object element) {
+		updateItem(widget, element);
+	}
+
 	/**
 	 * Copies attributes of the given element into the given widget.
 	 * <p>
@@ -2150,6 +2212,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		} else {
 			colorAndFontCollector = new ColorAndFontCollector();
 		}
+		sortKeys.clear();
 		super.setLabelProvider(labelProvider);
 
 	}
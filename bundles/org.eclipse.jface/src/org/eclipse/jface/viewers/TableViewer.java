@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -214,6 +214,20 @@ public class TableViewer extends AbstractTableViewer {
 		return table.getItem(p);
 	}
 
+	@Override
+	Item[] getVisibleItems() {
+		int top = table.getTopIndex();
+		// the client area may include the header, count one more row for the
+		// partially visible one at the bottom
+		int rows = table.getClientArea().height / Math.max(1, table.getItemHeight()) + 1;
+		int end = Math.min(table.getItemCount(), top + rows);
+		Item[] items = new Item[Math.max(0, end - top)];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = table.getItem(top + i);
+		}
+		return items;
+	}
+
 	// Methods to provide widget independency
 
 	@Override
@@ -369,6 +383,9 @@ public class TableViewer extends AbstractTableViewer {
 			cancelEditing();
 		}
 
+		if (updateLabels) {
+			getSortKeyCache().clear();
+		}
 		preservingSelection(() -> internalRefresh(element, updateLabels), reveal);
 	}
 
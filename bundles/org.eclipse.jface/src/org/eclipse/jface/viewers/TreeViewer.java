@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,14 @@
 
 package org.eclipse.jface.viewers;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.TreeEvent;
@@ -61,6 +64,12 @@ import org.eclipse.swt.widgets.Widget;
  * {@link #setUseHashlookup(boolean)}.
  * </p>
  * <p>
+ * As of 3.30, a tree created with the {@link SWT#VIRTUAL} style bit can also be
+ * used with an <code>ITreeContentProvider</code>, filters and sorting by calling
+ * {@link #setMaterializeOnDemand(boolean)}. Items are then only created for the
+ * rows the tree shows.
+ * </p>
+ * <p>
  * Users setting up an editable tree with more than 1 column <b>have</b> to pass the
  * SWT.FULL_SELECTION style bit
  * </p>
@@ -85,6 +94,18 @@ public class TreeViewer extends AbstractTreeViewer {
 
 	private boolean contentProviderIsTreeBased;
 
+	/**
+	 * Whether items are created on demand for a virtual tree with a non-lazy
+	 * content provider.
+	 */
+	private boolean materializeOnDemand;
+
+	/**
+	 * The filtered and sorted children of the expanded elements (element ->
+	 * Object[]) when items are created on demand, or <code>null</code>.
+	 */
+	private CustomHashtable childIndex;
+
 	/**
 	 * The row object reused
 	 */
@@ -192,6 +213,39 @@ public class TreeViewer extends AbstractTreeViewer {
 		return getTree().getItem(p);
 	}
 
+	@Override
+	Item[] getVisibleItems() {
+		// the client area may include the header, count one more row for the
+		// partially visible one at the bottom
+		int rows = tree.getClientArea().height / Math.max(1, tree.getItemHeight()) + 1;
+		List<Item> items = new ArrayList<>(rows);
+		TreeItem item = tree.getTopItem();
+		while (item != null && items.size() < rows) {
+			items.add(item);
+			item = getNextVisibleItem(item);
+		}
+		return items.toArray(new Item[items.size()]);
+	}
+
+	/**
+	 * @return the item shown below the given one, or <code>null</code>
+	 */
+	private TreeItem getNextVisibleItem(TreeItem item) {
+		if (item.getExpanded() && item.getItemCount() > 0) {
+			return item.getItem(0);
+		}
+		while (item != null) {
+			TreeItem parentItem = item.getParentItem();
+			int index = parentItem == null ? tree.indexOf(item) : parentItem.indexOf(item);
+			int count = parentItem == null ? tree.getItemCount() : parentItem.getItemCount();
+			if (index + 1 < count) {
+				return parentItem == null ? tree.getItem(index + 1) : parentItem.getItem(index + 1);
+			}
+			item = parentItem;
+		}
+		return null;
+	}
+
 	@Override
 	protected int getItemCount(Control widget) {
 		return ((Tree) widget).getItemCount();
@@ -258,6 +312,9 @@ public class TreeViewer extends AbstractTreeViewer {
 					virtualLazyUpdateWidget(
 							parentItem == null ? (Widget) getTree()
 									: parentItem, index);
+				} else if (usingChildIndex()) {
+					TreeItem parentItem = ((TreeItem) event.item).getParentItem();
+					virtualIndexedUpdateWidget(parentItem == null ? (Widget) getTree() : parentItem, event.index);
 				}
 			});
 		}
@@ -608,6 +665,26 @@ public class TreeViewer extends AbstractTreeViewer {
 			}
 			return;
 		}
+		if (usingChildIndex()) {
+			Object element = widget.getData();
+			if (element == null && widget instanceof TreeItem) {
+				virtualMaterializeItem((TreeItem) widget);
+				element = widget.getData();
+			}
+			if (element == null) {
+				return;
+			}
+			virtualIndexedUpdateChildren(widget, element, false);
+			if (materialize) {
+				Item[] children = getChildren(widget);
+				for (int i = 0; i < children.length; i++) {
+					if (children[i].getData() == null) {
+						virtualIndexedUpdateWidget(widget, i);
+					}
+				}
+			}
+			return;
+		}
 		super.createChildren(widget, materialize);
 	}
 
@@ -627,6 +704,17 @@ public class TreeViewer extends AbstractTreeViewer {
 			}
 			return;
 		}
+		if (usingChildIndex()) {
+			if (childIndex != null) {
+				childIndex.remove(parentElement);
+			}
+			if (widget instanceof Tree || ((TreeItem) widget).getExpanded()) {
+				virtualIndexedUpdateChildren(widget, parentElement, false);
+			} else {
+				updatePlus((Item) widget, parentElement);
+			}
+			return;
+		}
 		super.internalAdd(widget, parentElement, childElements);
 	}
 
@@ -635,7 +723,7 @@ public class TreeViewer extends AbstractTreeViewer {
 			// already materialized
 			return;
 		}
-		if (!contentProviderIsLazy) {
+		if (!contentProviderIsLazy && !usingChildIndex()) {
 			return;
 		}
 		int index;
@@ -650,7 +738,11 @@ public class TreeViewer extends AbstractTreeViewer {
 			} else {
 				index = ((TreeItem) parent).indexOf(treeItem);
 			}
-			virtualLazyUpdateWidget(parent, index);
+			if (contentProviderIsLazy) {
+				virtualLazyUpdateWidget(parent, index);
+			} else {
+				virtualIndexedUpdateWidget(parent, index);
+			}
 		}
 	}
 
@@ -681,6 +773,17 @@ public class TreeViewer extends AbstractTreeViewer {
 			virtualRefreshExpandedItems(parent, widget, element, index);
 			return;
 		}
+		if (usingChildIndex()) {
+			childIndex = null;
+			if (element == null) {
+				if (widget instanceof Tree) {
+					((Tree) widget).setItemCount(0);
+				}
+			} else if (widget instanceof Tree || ((TreeItem) widget).getExpanded()) {
+				virtualIndexedUpdateChildren(widget, element, updateLabels);
+			}
+			return;
+		}
 		super.internalRefreshStruct(widget, element, updateLabels);
 	}
 
@@ -784,6 +887,12 @@ public class TreeViewer extends AbstractTreeViewer {
 				return;
 			}
 		}
+		if (usingChildIndex()) {
+			childIndex = null;
+			createChildren(widget, false);
+			internalExpandToLevel(widget, getAutoExpandLevel());
+			return;
+		}
 		super.internalInitializeTree(tree);
 	}
 
@@ -797,6 +906,16 @@ public class TreeViewer extends AbstractTreeViewer {
 				itemCount = ((TreeItem) item).getItemCount();
 			}
 			virtualLazyUpdateHasChildren(item, itemCount);
+		} else if (usingChildIndex()) {
+			TreeItem treeItem = (TreeItem) item;
+			if (!treeItem.getExpanded()) {
+				// the children are only created once the item is expanded
+				if (!isExpandable(element)) {
+					treeItem.setItemCount(0);
+				} else if (treeItem.getItemCount() == 0) {
+					treeItem.setItemCount(1);
+				}
+			}
 		} else {
 			super.updatePlus(item, element);
 		}
@@ -894,6 +1013,14 @@ public class TreeViewer extends AbstractTreeViewer {
 			}
 			return;
 		}
+		if (usingChildIndex()) {
+			Object element = event.item.getData();
+			if (element != null) {
+				virtualIndexedUpdateChildren(event.item, element, false);
+				fireTreeExpanded(new TreeExpansionEvent(this, element));
+			}
+			return;
+		}
 		super.handleTreeExpand(event);
 	}
 
@@ -905,6 +1032,10 @@ public class TreeViewer extends AbstractTreeViewer {
 			applyEditorValue();
 		}
 
+		if (childIndex != null && event.item.getData() != null) {
+			// only the children of expanded elements are kept
+			childIndex.remove(event.item.getData());
+		}
 		super.handleTreeCollapse(event);
 	}
 
@@ -1057,6 +1188,209 @@ public class TreeViewer extends AbstractTreeViewer {
 		}
 	}
 
+	/**
+	 * Sets whether the items of a tree created with the {@link SWT#VIRTUAL}
+	 * style bit are created on demand when the content provider is an
+	 * {@link ITreeContentProvider}. If enabled, the viewer keeps the filtered
+	 * and sorted children of each expanded element and only creates and updates
+	 * the items the tree asks for when they become visible. Unlike with
+	 * {@link ILazyTreeContentProvider}, filters and sorting are supported.
+	 * <p>
+	 * This method has no effect for trees without the <code>SWT.VIRTUAL</code>
+	 * style bit or with a lazy content provider. It must be called before the
+	 * input is set. Enabling hash lookup with
+	 * {@link #setUseHashlookup(boolean)} is recommended.
+	 * </p>
+	 *
+	 * @param enable <code>true</code> to create items on demand
+	 * @since 3.30
+	 */
+	public void setMaterializeOnDemand(boolean enable) {
+		Assert.isTrue(getInput() == null,
+				"Can only change the materialization before input has been set");//$NON-NLS-1$
+		materializeOnDemand = enable;
+		childIndex = null;
+	}
+
+	/**
+	 * Returns whether the items of a virtual tree are created on demand.
+	 *
+	 * @return <code>true</code> if items are created on demand
+	 * @see #setMaterializeOnDemand(boolean)
+	 * @since 3.30
+	 */
+	public boolean isMaterializeOnDemand() {
+		return materializeOnDemand;
+	}
+
+	/**
+	 * @return whether items are created on demand from the child index
+	 */
+	private boolean usingChildIndex() {
+		return materializeOnDemand && !contentProviderIsLazy
+				&& getContentProvider() instanceof ITreeContentProvider
+				&& (getTree().getStyle() & SWT.VIRTUAL) != 0;
+	}
+
+	/**
+	 * Returns the filtered and sorted children of the given element, computing
+	 * them if they are not known yet.
+	 */
+	private Object[] getIndexedChildren(Object parent) {
+		if (childIndex == null) {
+			childIndex = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+		}
+		Object[] children = (Object[]) childIndex.get(parent);
+		if (children == null) {
+			children = getSortedChildren(parent);
+			childIndex.put(parent, children);
+		}
+		return children;
+	}
+
+	/**
+	 * Updates the item at the given index of the given parent widget from the
+	 * child index.
+	 *
+	 * @param widget the parent widget
+	 * @param index  the index of the item
+	 */
+	private void virtualIndexedUpdateWidget(Widget widget, int index) {
+		Object parentElement = widget.getData();
+		if (parentElement == null) {
+			return;
+		}
+		Object[] children = getIndexedChildren(parentElement);
+		if (index >= children.length) {
+			return;
+		}
+		TreeItem item = (TreeItem) getChild(widget, index);
+		Object element = children[index];
+		updateItem(item, element);
+		if (item.getExpanded()) {
+			int count = getIndexedChildren(element).length;
+			if (item.getItemCount() != count) {
+				item.setItemCount(count);
+			}
+		} else {
+			updatePlus(item, element);
+		}
+	}
+
+	/**
+	 * Updates the child count of the given widget from the child index. Items
+	 * which have been created for other elements are cleared, so that the tree
+	 * asks for them again, and the expanded ones are updated recursively.
+	 *
+	 * @param widget       the tree or an item
+	 * @param element      the element of the widget
+	 * @param updateLabels <code>true</code> to update the labels of all items
+	 */
+	private void virtualIndexedUpdateChildren(Widget widget, Object element, boolean updateLabels) {
+		Object[] children = getIndexedChildren(element);
+		if (widget instanceof Tree) {
+			Tree treeControl = (Tree) widget;
+			if (treeControl.getItemCount() != children.length) {
+				treeControl.setItemCount(children.length);
+			}
+		} else {
+			TreeItem treeItem = (TreeItem) widget;
+			if (treeItem.getItemCount() != children.length) {
+				treeItem.setItemCount(children.length);
+			}
+		}
+		Item[] items = getChildren(widget);
+		CustomHashtable moved = null;
+		for (int i = 0; i < items.length; i++) {
+			TreeItem item = (TreeItem) items[i];
+			Object data = item.getData();
+			if (data == null) {
+				continue;
+			}
+			if (!equals(data, children[i])) {
+				if (item.getExpanded()) {
+					// expand the element again at its new index
+					if (moved == null) {
+						moved = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+					}
+					moved.put(data, data);
+				}
+				disassociate(item);
+				item.setItemCount(0);
+				clear(widget, i);
+			} else if (updateLabels) {
+				clear(widget, i);
+				if (item.getExpanded()) {
+					virtualIndexedUpdateChildren(item, data, true);
+				}
+			} else if (item.getExpanded()) {
+				virtualIndexedUpdateChildren(item, data, false);
+			} else {
+				updatePlus(item, data);
+			}
+		}
+		if (moved != null) {
+			for (int i = 0; i < children.length; i++) {
+				if (moved.containsKey(children[i])) {
+					virtualIndexedUpdateWidget(widget, i);
+					TreeItem item = (TreeItem) getChild(widget, i);
+					item.setExpanded(true);
+					virtualIndexedUpdateChildren(item, children[i], updateLabels);
+				}
+			}
+		}
+	}
+
+	private static void clear(Widget parent, int index) {
+		if (parent instanceof Tree) {
+			((Tree) parent).clear(index, false);
+		} else {
+			((TreeItem) parent).clear(index, false);
+		}
+	}
+
+	@Override
+	protected void internalRemove(Object[] elementsOrPaths) {
+		if (!usingChildIndex()) {
+			super.internalRemove(elementsOrPaths);
+			return;
+		}
+		// the items of the removed elements may not have been created, refresh
+		// the children of their parents instead
+		Object input = getInput();
+		CustomHashtable parents = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+		for (Object elementOrPath : elementsOrPaths) {
+			if (equals(elementOrPath, input)) {
+				super.internalRemove(elementsOrPaths);
+				return;
+			}
+			Object parent;
+			if (elementOrPath instanceof TreePath) {
+				TreePath path = (TreePath) elementOrPath;
+				parent = path.getSegmentCount() > 1 ? path.getSegment(path.getSegmentCount() - 2) : null;
+			} else {
+				parent = getParentElement(elementOrPath);
+			}
+			if (parent == null || equals(parent, input)) {
+				internalRefresh(input, false);
+				return;
+			}
+			parents.put(parent, parent);
+		}
+		for (Enumeration<?> e = parents.keys(); e.hasMoreElements();) {
+			internalRefresh(e.nextElement(), false);
+		}
+	}
+
+	@Override
+	protected void internalRemove(Object parent, Object[] elements) {
+		if (!usingChildIndex()) {
+			super.internalRemove(parent, elements);
+			return;
+		}
+		internalRefresh(parent, false);
+	}
+
 	@Override
 	protected void disassociate(Item item) {
 		if (contentProviderIsLazy) {
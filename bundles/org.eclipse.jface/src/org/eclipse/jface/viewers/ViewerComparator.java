@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -48,6 +50,39 @@ import org.eclipse.jface.util.Policy;
  */
 public class ViewerComparator {
 
+	/**
+	 * Whether a class uses the default implementation of
+	 * {@link #compare(Viewer, Object, Object)}, which allows to sort on
+	 * precomputed keys.
+	 */
+	private static final ClassValue<Boolean> USES_DEFAULT_COMPARE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() == ViewerComparator.class);
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	/**
+	 * An element with the values the default <code>compare</code> method
+	 * compares.
+	 */
+	private static final class SortKey {
+		final Object element;
+		final int category;
+		final Object key;
+
+		SortKey(Object element, int category, Object key) {
+			this.element = element;
+			this.category = category;
+			this.key = key;
+		}
+	}
+
 	/**
 	 * The comparator to use to sort a viewer's contents.
 	 */
@@ -192,7 +227,11 @@ public class ViewerComparator {
 	 * The default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements. If <code>compare</code> is not overridden, the category and the
+	 * label of each element are computed once instead, and the labels are
+	 * compared through their {@link CollationKey} if the string comparator is
+	 * a {@link Collator}. The keys are kept by the viewer until the labels may
+	 * have changed.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -203,7 +242,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && USES_DEFAULT_COMPARE.get(getClass()).booleanValue()) {
+				sortByKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -228,4 +271,41 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Sorts the given elements like {@link #compare(Viewer, Object, Object)},
+	 * computing the category and the label of each element only once.
+	 */
+	private void sortByKeys(Viewer viewer, Object[] elements) {
+		Comparator<? super String> stringComparator = getComparator();
+		SortKeyCache cache = viewer instanceof StructuredViewer ? ((StructuredViewer) viewer).getSortKeyCache()
+				: null;
+		SortKey[] sortKeys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			Object key = cache == null ? null : cache.get(element, stringComparator);
+			if (key == null) {
+				String label = getLabel(viewer, element);
+				key = stringComparator instanceof Collator ? ((Collator) stringComparator).getCollationKey(label)
+						: label;
+				if (cache != null) {
+					cache.put(element, key, stringComparator);
+				}
+			}
+			sortKeys[i] = new SortKey(element, category(element), key);
+		}
+
+		Comparator<SortKey> keyComparator;
+		if (stringComparator instanceof Collator) {
+			keyComparator = (k1, k2) -> k1.category != k2.category ? k1.category - k2.category
+					: ((CollationKey) k1.key).compareTo((CollationKey) k2.key);
+		} else {
+			keyComparator = (k1, k2) -> k1.category != k2.category ? k1.category - k2.category
+					: stringComparator.compare((String) k1.key, (String) k2.key);
+		}
+		Arrays.sort(sortKeys, keyComparator);
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = sortKeys[i].element;
+		}
+	}
 }
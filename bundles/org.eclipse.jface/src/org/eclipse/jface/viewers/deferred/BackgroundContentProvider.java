@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -189,6 +189,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 		// Fill it in with all existing known objects
 		Object[] knownObjects = updator.getKnownObjects();
+		collection.setCapacity(knownObjects.length);
 		for (Object object : knownObjects) {
 			if (object != null) {
 				collection.add(object);
@@ -210,6 +211,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 				LazySortedCollection newCollection = new LazySortedCollection(order);
 
 				Object[] items = collection.getItems(false);
+				newCollection.setCapacity(items.length);
 				for (int j = 0; j < items.length && order == sortOrder; j++) {
 					Object item = items[j];
 
@@ -321,26 +323,29 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 				sortLength = Math.min(sortLength, totalElements - sortStart);
 				sortLength = Math.max(sortLength, 0);
 
-				Object[] objectsOfInterest = new Object[sortLength];
+				if (ParallelMergeSorter.isWorthwhile(collection.getUnsortedRootSize())) {
+					sortInParallel(collection, sortStart, sortLength, totalElements);
+				} else {
+					Object[] objectsOfInterest = new Object[sortLength];
 
-				collection.getRange(objectsOfInterest, sortStart, true, sortMon);
+					collection.getRange(objectsOfInterest, sortStart, true, sortMon);
 
-				// Send the new elements to the table
-				for (int i = 0; i < sortLength; i++) {
-					Object object = objectsOfInterest[i];
-					updator.replace(object, sortStart + i);
-				}
+					// Send the new elements to the table
+					for (int i = 0; i < sortLength; i++) {
+						Object object = objectsOfInterest[i];
+						updator.replace(object, sortStart + i);
+					}
 
-				objectsOfInterest = new Object[collection.size()];
+					objectsOfInterest = new Object[collection.size()];
 
-				collection.getFirst(objectsOfInterest, true, sortMon);
+					collection.getFirst(objectsOfInterest, true, sortMon);
 
-				// Send the new elements to the table
-				for (int i = 0; i < totalElements; i++) {
-					Object object = objectsOfInterest[i];
-					updator.replace(object, i);
+					// Send the new elements to the table
+					for (int i = 0; i < totalElements; i++) {
+						Object object = objectsOfInterest[i];
+						updator.replace(object, i);
+					}
 				}
-
 			} catch (InterruptedException e) {
 				continue;
 			}
@@ -351,6 +356,43 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 		mon.done();
 	}
 
+	/**
+	 * Sorts the collection by sorting chunks of it in parallel and merging them.
+	 * The visible range is sent to the table as soon as it has been merged, and
+	 * the collection is replaced with the sorted elements once they have all
+	 * been merged, so that later passes only sort the elements added since.
+	 *
+	 * @param collection    the collection to sort
+	 * @param sortStart     the first visible row
+	 * @param sortLength    the number of visible rows
+	 * @param totalElements the number of rows of the table
+	 * @throws InterruptedException if sorting has been cancelled
+	 */
+	private void sortInParallel(LazySortedCollection collection, int sortStart, int sortLength, int totalElements)
+			throws InterruptedException {
+		FastProgressReporter mon = sortMon;
+		Object[] items = new Object[collection.size()];
+		collection.getRange(items, 0, false, mon);
+
+		@SuppressWarnings("unchecked")
+		Comparator<Object> comparator = collection.getComparator();
+		ParallelMergeSorter sorter = new ParallelMergeSorter(items, comparator, mon::isCanceled);
+		sorter.sortChunks();
+		Object[] sorted = sorter.getSorted();
+
+		// Send the visible elements to the table as soon as they are known
+		sorter.mergeUntil(sortStart + sortLength);
+		for (int i = sortStart; i < sortStart + sortLength; i++) {
+			updator.replace(sorted[i], i);
+		}
+
+		sorter.mergeUntil(items.length);
+		collection.setSorted(sorted);
+		for (int i = 0; i < totalElements; i++) {
+			updator.replace(sorted[i], i);
+		}
+	}
+
 	/**
 	 * @param collection
 	 * @param toAdd
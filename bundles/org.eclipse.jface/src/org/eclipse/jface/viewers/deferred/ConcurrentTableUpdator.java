@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,12 +31,18 @@ package org.eclipse.jface.viewers.deferred;
 	private AbstractVirtualTable table;
 
 	/**
-	 * The array of objects that have been sent to the UI. Elements are null
-	 * if they either haven't been sent yet or have been scheduled for clear.
-	 * Maps indices onto elements.
+	 * The array of objects that have been sent to the UI for the rows of the
+	 * last known visible range, starting with the row lastRange.start. Elements
+	 * are null if they either haven't been sent yet or have been scheduled for
+	 * clear. The rows outside of the visible range are cleared in the table.
 	 */
 	private Object[] sentObjects = new Object[0];
 
+	/**
+	 * The item count sent to the table.
+	 */
+	private int sentItemCount = 0;
+
 	/**
 	 * Map of elements to object indices (inverse of the knownObjects array)
 	 */
@@ -201,21 +207,22 @@ package org.eclipse.jface.viewers.deferred;
 	 */
 	private void pushClear(int toClear) {
 
-		// If beyond the end of the table
-		if (toClear >= sentObjects.length) {
+		// If outside of the visible range, the row has already been cleared
+		int idx = toClear - lastRange.start;
+		if (idx < 0 || idx >= sentObjects.length) {
 			return;
 		}
 
 		// If already flushed or never sent
-		if (sentObjects[toClear] == null) {
+		if (sentObjects[idx] == null) {
 			return;
 		}
 
 		// Mark as flushed
-		sentObjects[toClear] = null;
+		sentObjects[idx] = null;
 
 		if (lastClear >= pendingClears.length) {
-			int newCapacity = Math.min(MIN_FLUSHLENGTH, lastClear * 2);
+			int newCapacity = Math.max(MIN_FLUSHLENGTH, lastClear * 2);
 			int[] newPendingClears = new int[newCapacity];
 			System.arraycopy(pendingClears, 0, newPendingClears, 0, lastClear);
 			pendingClears = newPendingClears;
@@ -294,7 +301,7 @@ package org.eclipse.jface.viewers.deferred;
 
 	/**
 	 * Updates the table. Sends any unsent items in the visible range to the table,
-	 * and clears any previously-visible items that have not yet been sent to the table.
+	 * and clears the items that are no longer visible.
 	 * Must be called from the UI thread.
 	 */
 	private void updateTable() {
@@ -302,12 +309,9 @@ package org.eclipse.jface.viewers.deferred;
 		synchronized(this) {
 
 			// Resize the table if necessary
-			if (sentObjects.length != knownObjects.length) {
-				Object[] newSentObjects = new Object[knownObjects.length];
-				System.arraycopy(newSentObjects, 0, sentObjects, 0,
-						Math.min(newSentObjects.length, sentObjects.length));
-				sentObjects = newSentObjects;
-				table.setItemCount(newSentObjects.length);
+			if (sentItemCount != knownObjects.length) {
+				sentItemCount = knownObjects.length;
+				table.setItemCount(sentItemCount);
 			}
 
 			// Compute the currently visible range
@@ -317,27 +321,29 @@ package org.eclipse.jface.viewers.deferred;
 
 			int oldStart = lastRange.start;
 			int oldLen = lastRange.length;
+			Object[] oldSentObjects = sentObjects;
 
 			// Store the visible range. Do it BEFORE sending any table.clear calls,
 			// since clearing a visible row will result in a SetData callback which
 			// cause another table update if the visible range is different from
 			// the stored values -- this could cause infinite recursion.
 			lastRange = new Range(start, length);
+			if (start != oldStart || length != oldLen) {
+				sentObjects = new Object[length];
+			}
 
-			// Re-clear any items in the old range that were never filled in
-			for(int idx = 0; idx < oldLen; idx++) {
+			// Clear the items that are no longer visible, so that only the
+			// visible range has to be tracked. They are sent again when they
+			// become visible.
+			for (int idx = 0; idx < oldLen && idx < oldSentObjects.length; idx++) {
 				int row = idx + oldStart;
 
-				// If this item is no longer visible
-				if (row < itemCount && (row < start || row >= start + length)) {
-
-					// Note: if we wanted to be really aggressive about clearing
-					// items that are no longer visible, we could clear here unconditionally.
-					// The current way of doing things won't clear a row if its contents are
-					// up-to-date.
-					if (sentObjects[row] == null) {
+				if (row < start || row >= start + length) {
+					if (row < itemCount) {
 						table.clear(row);
 					}
+				} else if (sentObjects != oldSentObjects) {
+					sentObjects[row - start] = oldSentObjects[idx];
 				}
 			}
 
@@ -346,7 +352,7 @@ package org.eclipse.jface.viewers.deferred;
 				for (int i = 0; i < lastClear; i++) {
 					int row = pendingClears[i];
 
-					if (row < sentObjects.length) {
+					if (row < itemCount) {
 						table.clear(row);
 					}
 				}
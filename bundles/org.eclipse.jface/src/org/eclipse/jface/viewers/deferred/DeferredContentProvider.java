@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,11 @@ import org.eclipse.swt.widgets.Table;
  * The sorter and filter must be set directly on the content provider.
  * Any sorter or filter on the TableViewer will be ignored.
  * </p>
+ * <p>
+ * Large inputs are sorted in parallel: the comparator may then be called
+ * concurrently from several threads of the common fork/join pool, so it must
+ * be thread safe.
+ * </p>
  *
  * <p>
  * The real implementation is in <code>BackgroundContentProvider</code>. This
@@ -143,7 +148,7 @@ public class DeferredContentProvider implements ILazyContentProvider {
 	 * over anything that was supplied to the <code>TableViewer</code>.
 	 *
 	 * @param sortOrder new sort order. The comparator must be able to support being
-	 * used in a background thread.
+	 * used in a background thread, and concurrently from several threads.
 	 */
 	public void setSortOrder(Comparator sortOrder) {
 		Assert.isNotNull(sortOrder);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,39 +13,141 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers.deferred;
 
-import java.util.HashMap;
-
 /**
- * Represents a map of objects onto ints. This is intended for future optimization:
- * using int primitives would allow for an implementation that doesn't require
- * additional object allocations for Integers. However, the current implementation
- * simply delegates to the Java HashMap class.
+ * Represents a map of objects onto ints. The keys and values are stored in two
+ * parallel arrays using open addressing with linear probing, so no objects are
+ * allocated per entry. The arrays shrink again when most of the entries have
+ * been removed.
  *
  * @since 3.1
  */
 /* package */ class IntHashMap {
-	private HashMap map;
+	private static final int MIN_CAPACITY = 16;
+
+	/**
+	 * The highest load factor used, higher ones would make the probe sequences
+	 * too long.
+	 */
+	private static final float MAX_LOAD_FACTOR = 0.875f;
+
+	/**
+	 * Stored in place of the <code>null</code> key.
+	 */
+	private static final Object NULL_KEY = new Object();
+
+	private final float loadFactor;
+
+	private Object[] keys;
+
+	private int[] values;
+
+	private int size;
+
+	/**
+	 * The number of entries above which the arrays are grown.
+	 */
+	private int threshold;
 
 	/**
 	 * @param size
 	 * @param loadFactor
 	 */
 	public IntHashMap(int size, float loadFactor) {
-		map = new HashMap(size, loadFactor);
+		this.loadFactor = Math.min(loadFactor, MAX_LOAD_FACTOR);
+		allocate(capacityFor(size));
 	}
 
 	/**
 	 *
 	 */
 	public IntHashMap() {
-		map = new HashMap();
+		this(MIN_CAPACITY / 2, 0.75f);
+	}
+
+	private int capacityFor(int entries) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < (1 << 30) && capacity * loadFactor < entries) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new int[capacity];
+		threshold = (int) (capacity * loadFactor);
+	}
+
+	private static int indexFor(Object key, int mask) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	/**
+	 * @return the slot of the given key, or the empty slot where it would be
+	 *         inserted
+	 */
+	private int find(Object key) {
+		int mask = keys.length - 1;
+		int index = indexFor(key, mask);
+		Object current;
+		while ((current = keys[index]) != null) {
+			if (current == key || current.equals(key)) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private void rehash(int capacity) {
+		Object[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			Object key = oldKeys[i];
+			if (key != null) {
+				int index = indexFor(key, mask);
+				while (keys[index] != null) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+			}
+		}
 	}
 
 	/**
 	 * @param key
 	 */
 	public void remove(Object key) {
-		map.remove(key);
+		Object k = key == null ? NULL_KEY : key;
+		int gap = find(k);
+		if (keys[gap] == null) {
+			return;
+		}
+
+		// move the following entries of the probe sequence into the gap, so
+		// that lookups never have to skip removed entries
+		int mask = keys.length - 1;
+		int index = gap;
+		Object current;
+		while ((current = keys[index = (index + 1) & mask]) != null) {
+			int ideal = indexFor(current, mask);
+			if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+				keys[gap] = current;
+				values[gap] = values[index];
+				gap = index;
+			}
+		}
+		keys[gap] = null;
+		values[gap] = 0;
+		size--;
+
+		if (keys.length > MIN_CAPACITY && size < threshold / 4) {
+			rehash(capacityFor(size * 2));
+		}
 	}
 
 	/**
@@ -53,7 +155,17 @@ import java.util.HashMap;
 	 * @param value
 	 */
 	public void put(Object key, int value) {
-		map.put(key, Integer.valueOf(value));
+		Object k = key == null ? NULL_KEY : key;
+		int index = find(k);
+		if (keys[index] == null) {
+			if (size >= threshold) {
+				rehash(keys.length * 2);
+				index = find(k);
+			}
+			keys[index] = k;
+			size++;
+		}
+		values[index] = value;
 	}
 
 	/**
@@ -70,10 +182,9 @@ import java.util.HashMap;
 	 * @return the int value at the given key, or the default value if this map does not contain the given key
 	 */
 	public int get(Object key, int defaultValue) {
-		Integer result = (Integer)map.get(key);
-
-		if (result != null) {
-			return result.intValue();
+		int index = find(key == null ? NULL_KEY : key);
+		if (keys[index] != null) {
+			return values[index];
 		}
 
 		return defaultValue;
@@ -84,13 +195,13 @@ import java.util.HashMap;
 	 * @return <code>true</code> if this map contains the given key, <code>false</code> otherwise
 	 */
 	public boolean containsKey(Object key) {
-		return map.containsKey(key);
+		return keys[find(key == null ? NULL_KEY : key)] != null;
 	}
 
 	/**
 	 * @return the number of key/value pairs
 	 */
 	public int size() {
-		return map.size();
+		return size;
 	}
 }
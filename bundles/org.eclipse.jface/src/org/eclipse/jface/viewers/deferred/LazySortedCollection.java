@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -777,6 +777,11 @@ public class LazySortedCollection {
 	 */
 	public final void addAll(Object[] toAdd) {
 		Assert.isNotNull(toAdd);
+		// allocate the nodes which cannot be reused from prior removals at once
+		int newNodes = toAdd.length - (firstUnusedNode == -1 ? 0 : getSubtreeSize(firstUnusedNode));
+		if (newNodes > 0) {
+			setCapacity(lastNode + newNodes);
+		}
 		for (Object object : toAdd) {
 			add(object);
 		}
@@ -1189,6 +1194,60 @@ public class LazySortedCollection {
 		testInvariants();
 	}
 
+	/**
+	 * Replaces the contents of the collection with the given elements, which
+	 * must already be sorted in the order of the comparator. The elements are
+	 * stored in a balanced tree without any unsorted node, so that they need not
+	 * be sorted again.
+	 *
+	 * @param sortedElements elements sorted by the comparator of this collection
+	 */
+	/* package */ final void setSorted(Object[] sortedElements) {
+		clear();
+		setCapacity(sortedElements.length);
+		setRootNode(createSortedSubTree(sortedElements, 0, sortedElements.length));
+
+		testInvariants();
+	}
+
+	/**
+	 * Creates a balanced tree holding the given range of sorted elements.
+	 * Returns the root of the tree, or -1 if the range is empty.
+	 */
+	private int createSortedSubTree(Object[] sortedElements, int from, int to) {
+		if (from >= to) {
+			return -1;
+		}
+		int middle = (from + to) >>> 1;
+		int node = createNode(sortedElements[middle]);
+		int left = createSortedSubTree(sortedElements, from, middle);
+		int right = createSortedSubTree(sortedElements, middle + 1, to);
+		leftSubTree[node] = left;
+		rightSubTree[node] = right;
+		if (left != -1) {
+			parentTree[left] = node;
+		}
+		if (right != -1) {
+			parentTree[right] = node;
+		}
+		treeSize[node] = to - from;
+		return node;
+	}
+
+	/**
+	 * Returns the number of elements which have been added to the root of the
+	 * collection since it was last partitioned, and which have not been sorted
+	 * at all.
+	 *
+	 * @return the number of unsorted elements at the root
+	 */
+	/* package */ final int getUnsortedRootSize() {
+		if (root == -1) {
+			return 0;
+		}
+		return getSubtreeSize(nextUnsorted[root]);
+	}
+
 	/**
 	 * Returns the comparator that is determining the sort order for this collection
 	 *
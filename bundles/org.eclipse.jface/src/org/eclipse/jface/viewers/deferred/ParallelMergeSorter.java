@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sorts an array of elements using the common fork/join pool. Chunks of the
+ * array are sorted in parallel and then merged in order, so that the first
+ * elements of the sorted array are known before the whole array has been
+ * merged.
+ * <p>
+ * The comparator is called concurrently by the threads of the pool while the
+ * chunks are sorted.
+ * </p>
+ */
+/* package */ final class ParallelMergeSorter {
+
+	/**
+	 * The minimum number of elements sorted by a single task.
+	 */
+	static final int MIN_CHUNK_SIZE = 1 << 13;
+
+	/**
+	 * The number of merged elements between checks for cancellation.
+	 */
+	private static final int CANCEL_CHECK_PERIOD = 1 << 10;
+
+	private final Object[] elements;
+
+	private final Comparator<Object> comparator;
+
+	private final BooleanSupplier canceled;
+
+	private final Object[] sorted;
+
+	/**
+	 * Min-heap of the chunks that have not been merged completely, ordered by
+	 * their next element.
+	 */
+	private int[] heap;
+
+	private int heapSize;
+
+	/**
+	 * The index of the next element to merge of each chunk, followed by the end
+	 * of the chunk.
+	 */
+	private int[] chunkNext;
+	private int[] chunkEnd;
+
+	private int merged;
+
+	/**
+	 * @param elements   the elements to sort, the array is modified
+	 * @param comparator the sort order
+	 * @param canceled   tells whether sorting has been cancelled
+	 */
+	public ParallelMergeSorter(Object[] elements, Comparator<Object> comparator, BooleanSupplier canceled) {
+		this.elements = elements;
+		this.comparator = comparator;
+		this.canceled = canceled;
+		this.sorted = new Object[elements.length];
+	}
+
+	/**
+	 * @param count the number of elements to sort
+	 * @return whether sorting the given number of elements benefits from
+	 *         sorting chunks in parallel
+	 */
+	public static boolean isWorthwhile(int count) {
+		return ForkJoinPool.getCommonPoolParallelism() > 1 && count >= 2 * MIN_CHUNK_SIZE;
+	}
+
+	private final class SortTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int firstChunk;
+		private final int lastChunk;
+
+		SortTask(int firstChunk, int lastChunk) {
+			this.firstChunk = firstChunk;
+			this.lastChunk = lastChunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (lastChunk - firstChunk > 1) {
+				int middle = (firstChunk + lastChunk) >>> 1;
+				invokeAll(new SortTask(firstChunk, middle), new SortTask(middle, lastChunk));
+			} else if (!canceled.getAsBoolean()) {
+				Arrays.sort(elements, chunkNext[firstChunk], chunkEnd[firstChunk], comparator);
+			}
+		}
+	}
+
+	/**
+	 * Sorts the chunks of the array in parallel. Must be called before
+	 * {@link #mergeUntil(int)}.
+	 *
+	 * @throws InterruptedException if sorting has been cancelled
+	 */
+	public void sortChunks() throws InterruptedException {
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		int chunks = Math.max(1, Math.min(parallelism * 4, elements.length / MIN_CHUNK_SIZE));
+		chunkNext = new int[chunks];
+		chunkEnd = new int[chunks];
+		for (int i = 0; i < chunks; i++) {
+			chunkNext[i] = (int) ((long) elements.length * i / chunks);
+			chunkEnd[i] = (int) ((long) elements.length * (i + 1) / chunks);
+		}
+
+		ForkJoinPool.commonPool().invoke(new SortTask(0, chunks));
+		if (canceled.getAsBoolean()) {
+			throw new InterruptedException();
+		}
+
+		heap = new int[chunks];
+		for (int i = 0; i < chunks; i++) {
+			if (chunkNext[i] < chunkEnd[i]) {
+				heap[heapSize++] = i;
+			}
+		}
+		for (int i = heapSize / 2 - 1; i >= 0; i--) {
+			siftDown(i);
+		}
+	}
+
+	/**
+	 * Merges the sorted chunks until the given number of elements of the sorted
+	 * array are known.
+	 *
+	 * @param count the number of elements to merge
+	 * @throws InterruptedException if sorting has been cancelled
+	 */
+	public void mergeUntil(int count) throws InterruptedException {
+		int end = Math.min(count, sorted.length);
+		while (merged < end) {
+			if ((merged % CANCEL_CHECK_PERIOD) == 0 && canceled.getAsBoolean()) {
+				throw new InterruptedException();
+			}
+			int chunk = heap[0];
+			sorted[merged++] = elements[chunkNext[chunk]++];
+			if (chunkNext[chunk] == chunkEnd[chunk]) {
+				heap[0] = heap[--heapSize];
+			}
+			if (heapSize > 0) {
+				siftDown(0);
+			}
+		}
+	}
+
+	/**
+	 * Returns the sorted array. Only the elements merged so far are known.
+	 *
+	 * @return the sorted array
+	 */
+	public Object[] getSorted() {
+		return sorted;
+	}
+
+	private boolean isLess(int chunk1, int chunk2) {
+		int result = comparator.compare(elements[chunkNext[chunk1]], elements[chunkNext[chunk2]]);
+		// merge equal elements in the order of their chunks to keep the sort stable
+		return result < 0 || (result == 0 && chunk1 < chunk2);
+	}
+
+	private void siftDown(int index) {
+		int chunk = heap[index];
+		int half = heapSize >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < heapSize && isLess(heap[right], heap[child])) {
+				child = right;
+			}
+			if (!isLess(heap[child], chunk)) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = chunk;
+	}
+}
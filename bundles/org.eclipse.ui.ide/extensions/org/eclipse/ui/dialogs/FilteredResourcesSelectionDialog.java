@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,7 @@ import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.ide.IDEWorkbenchMessages;
 import org.eclipse.ui.internal.ide.IIDEHelpContextIds;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.internal.ide.model.ResourceFactory;
 import org.eclipse.ui.model.WorkbenchLabelProvider;
 import org.eclipse.ui.statushandlers.StatusManager;
@@ -584,11 +585,28 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 	protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter,
 			IProgressMonitor progressMonitor) throws CoreException {
 		if (itemsFilter instanceof ResourceFilter) {
+			ResourceFilter resourceFilter = (ResourceFilter) itemsFilter;
+			ResourceNameIndex index = ResourceNameIndex.getDefault();
+			if (index.isReady()) {
+				progressMonitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
+						IProgressMonitor.UNKNOWN);
+				index.find(container, resourceFilter.getPattern(), resource -> {
+					// the resource tree walk does not descend into derived folders
+					if (resourceFilter.isShowDerived()
+							|| !resource.getParent().isDerived(IResource.CHECK_ANCESTORS)) {
+						contentProvider.add(resource, resourceFilter);
+					}
+				}, progressMonitor);
+				progressMonitor.done();
+				return;
+			}
+
+			// the index is still being built, walk the resource tree
 			IResource[] members = container.members();
 			progressMonitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
 					members.length);
 
-			ResourceProxyVisitor visitor = new ResourceProxyVisitor(contentProvider, (ResourceFilter) itemsFilter,
+			ResourceProxyVisitor visitor = new ResourceProxyVisitor(contentProvider, resourceFilter,
 					progressMonitor);
 
 			if (visitor.visit(container.createProxy())) {
@@ -1161,6 +1179,12 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 			return matches(name);
 		}
 
+		@Override
+		public boolean isConcurrentMatchingSupported() {
+			// the patterns are not changed after construction
+			return true;
+		}
+
 		@Override
 		public boolean isSubFilter(ItemsFilter filter) {
 			if (!super.isSubFilter(filter))
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -967,6 +967,8 @@ public class IDEWorkbenchMessages extends NLS {
 	public static String ScrubLocalAction_problemsTitle;
 	public static String ScrubLocalAction_progress;
 
+	public static String ResourceNameIndex_jobName;
+
 	public static String ShowInSystemExplorerHandler_commandUnavailable;
 	public static String ShowInSystemExplorerHandler_notDetermineLocation;
 	public static String ShowInSystemExplorerHandler_jobTitle;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,11 @@ public class Policy {
 	 * Option for monitoring core exceptions
 	 */
 	public static boolean DEBUG_CORE_EXCEPTIONS = DEFAULT;
+	/**
+	 * Option for reporting the hit rate of the collation keys cached for sorting
+	 * markers
+	 */
+	public static boolean DEBUG_MARKER_COLLATION_CACHE = DEFAULT;
 
 	static {
 		if (getDebugOption("/debug")) { //$NON-NLS-1$
@@ -53,6 +58,7 @@ public class Policy {
 			DEBUG_GC = getDebugOption("/debug/gc"); //$NON-NLS-1$
 			DEBUG_UNDOMONITOR = getDebugOption("/debug/undomonitor"); //$NON-NLS-1$
 			DEBUG_CORE_EXCEPTIONS = getDebugOption("/debug/coreExceptions"); //$NON-NLS-1$
+			DEBUG_MARKER_COLLATION_CACHE = getDebugOption("/debug/markers/collationCache"); //$NON-NLS-1$
 		}
 	}
 
@@ -0,0 +1,744 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.ide.dialogs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
+import org.eclipse.core.resources.ISavedState;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ui.internal.ide.IDEWorkbenchMessages;
+import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
+import org.eclipse.ui.internal.misc.CharacterSignature;
+
+/**
+ * An index of the names of all projects, folders and files of the workspace,
+ * used by the Open Resource dialog to find resources by name without walking
+ * the resource tree. Each resource is stored with the position of its parent,
+ * so that the paths of the containers are not repeated for each member.
+ * <p>
+ * The index is built by a background job the first time it is requested and is
+ * kept up to date from resource change events afterwards. It is written to the
+ * state location of the IDE plug-in when the workspace is saved, and on the
+ * next start it is read back and brought up to date with the resource delta
+ * since that save.
+ * </p>
+ * <p>
+ * Every name is stored with a signature of the characters it contains. A name
+ * can only match a search pattern if it contains all the characters of the
+ * pattern, whichever of the prefix, camel case, substring and wildcard rules
+ * of the pattern applies, so most names are rejected without matching them.
+ * </p>
+ */
+public final class ResourceNameIndex implements IResourceChangeListener, ISaveParticipant {
+
+	private static final String INDEX_FILE = "resourceNames.index"; //$NON-NLS-1$
+
+	private static final int FORMAT_VERSION = 2;
+
+	/** The size of the format version, save number and resource count */
+	private static final int HEADER_SIZE = 12;
+
+	/** The size of a resource with an empty name */
+	private static final int MIN_RECORD_SIZE = 7;
+
+	private static final byte ADD = 0;
+	private static final byte REMOVE = 1;
+	private static final byte ADD_TREE = 2;
+
+	/**
+	 * The characters of a search pattern which are not part of the names it
+	 * matches.
+	 */
+	private static final String PATTERN_SYMBOLS = "*?<> \\"; //$NON-NLS-1$
+
+	/**
+	 * The slot of the workspace root, the parent of the projects.
+	 */
+	private static final int ROOT = 0;
+
+	private static ResourceNameIndex instance;
+
+	/*
+	 * Each resource is stored in a slot of the arrays below with its name and
+	 * the slot of its parent, so that the names of the containers are shared by
+	 * their members. The members of a container are linked from the container.
+	 */
+
+	private String[] names = new String[1024];
+
+	private int[] parents = new int[1024];
+
+	private int[] firstMembers = new int[1024];
+
+	private int[] nextSiblings = new int[1024];
+
+	private int[] previousSiblings = new int[1024];
+
+	private long[] signatures = new long[1024];
+
+	private byte[] types = new byte[1024];
+
+	/**
+	 * The number of slots in use or freed, including the root.
+	 */
+	private int end;
+
+	private int[] freeSlots = new int[16];
+
+	private int freeCount;
+
+	/**
+	 * The number of indexed resources.
+	 */
+	private int size;
+
+	/**
+	 * Open addressing hash table of the slots of the resources by parent and
+	 * name. The root is never stored, so <code>0</code> marks an empty entry.
+	 */
+	private int[] table = new int[2048];
+
+	/**
+	 * A change of the resource tree, recorded while the delta is visited.
+	 */
+	private static final class Change {
+		final byte operation;
+		final int type;
+		final IPath path;
+
+		Change(byte operation, int type, IPath path) {
+			this.operation = operation;
+			this.type = type;
+			this.path = path;
+		}
+	}
+
+	/**
+	 * The changes received while the index is being built.
+	 */
+	private List<Change> pendingChanges = new ArrayList<>();
+
+	private volatile boolean ready;
+
+	private volatile boolean disposed;
+
+	private ResourceNameIndex() {
+		clear();
+	}
+
+	/**
+	 * Returns the index of the workspace, starting to build it if it has not
+	 * been requested before.
+	 *
+	 * @return the index
+	 */
+	public static synchronized ResourceNameIndex getDefault() {
+		if (instance == null) {
+			instance = new ResourceNameIndex();
+			instance.start();
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops updating the index. Called when the IDE plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.dispose();
+			instance = null;
+		}
+	}
+
+	private void start() {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		// listen first, the changes are queued until the index has been built
+		workspace.addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+
+		Job job = Job.create(IDEWorkbenchMessages.ResourceNameIndex_jobName, monitor -> {
+			try {
+				ISavedState lastState = workspace.addSaveParticipant(IDEWorkbenchPlugin.IDE_WORKBENCH, this);
+				if (lastState == null || !read(lastState.getSaveNumber())) {
+					build(workspace.getRoot(), monitor);
+				} else {
+					lastState.processResourceChangeEvents(this);
+				}
+			} catch (CoreException e) {
+				discard();
+				return e.getStatus();
+			} catch (RuntimeException e) {
+				discard();
+				throw e;
+			}
+			if (monitor.isCanceled()) {
+				discard();
+				return Status.CANCEL_STATUS;
+			}
+			synchronized (this) {
+				List<Change> changes = pendingChanges;
+				pendingChanges = null;
+				applyChanges(changes);
+				ready = !disposed;
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	/**
+	 * Stops updating an index which could not be built, the next request builds
+	 * a new one.
+	 */
+	private void discard() {
+		synchronized (ResourceNameIndex.class) {
+			if (instance == this) {
+				shutdown();
+			}
+		}
+	}
+
+	private void dispose() {
+		disposed = true;
+		ready = false;
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.removeResourceChangeListener(this);
+		workspace.removeSaveParticipant(IDEWorkbenchPlugin.IDE_WORKBENCH);
+	}
+
+	/**
+	 * @return whether the index has been built and can answer queries
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Passes the accessible resources within the given container whose names
+	 * may match the given pattern to the given collector. The resources still
+	 * have to be matched against the pattern.
+	 *
+	 * @param container the container to search
+	 * @param pattern   the name pattern, as used by
+	 *                  {@link org.eclipse.ui.dialogs.SearchPattern}
+	 * @param collector the collector of the resources
+	 * @param monitor   the progress monitor, checked for cancellation
+	 * @return <code>false</code> if the index is not ready and nothing has been
+	 *         collected
+	 */
+	public boolean find(IContainer container, String pattern, Consumer<IResource> collector,
+			IProgressMonitor monitor) {
+		long required = CharacterSignature.ofPattern(pattern, PATTERN_SYMBOLS);
+
+		String[] candidates;
+		byte[] candidateTypes;
+		int count = 0;
+		synchronized (this) {
+			if (!ready) {
+				return false;
+			}
+			int containerSlot = container.getType() == IResource.ROOT ? ROOT : lookup(container.getFullPath());
+			if (containerSlot == -1) {
+				return true;
+			}
+			candidates = new String[64];
+			candidateTypes = new byte[64];
+			for (int i = ROOT + 1; i < end; i++) {
+				if (names[i] == null || (signatures[i] & required) != required) {
+					continue;
+				}
+				if (containerSlot != ROOT && !isInTree(i, containerSlot)) {
+					continue;
+				}
+				if (count == candidates.length) {
+					candidates = Arrays.copyOf(candidates, count * 2);
+					candidateTypes = Arrays.copyOf(candidateTypes, count * 2);
+				}
+				candidates[count] = getPath(i);
+				candidateTypes[count++] = types[i];
+			}
+		}
+
+		IWorkspaceRoot root = container.getWorkspace().getRoot();
+		for (int i = 0; i < count; i++) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			IResource resource = getResource(root, candidates[i], candidateTypes[i]);
+			// the index may be ahead of or behind the resource tree
+			if (resource.isAccessible()) {
+				collector.accept(resource);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return whether the resource of the given slot is the resource of the
+	 *         given tree slot or one of its descendants
+	 */
+	private boolean isInTree(int slot, int tree) {
+		for (int i = slot; i != ROOT; i = parents[i]) {
+			if (i == tree) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the full path of the resource of the given slot
+	 */
+	private String getPath(int slot) {
+		int length = 0;
+		for (int i = slot; i != ROOT; i = parents[i]) {
+			length += names[i].length() + 1;
+		}
+		char[] path = new char[length];
+		for (int i = slot; i != ROOT; i = parents[i]) {
+			String name = names[i];
+			length -= name.length();
+			name.getChars(0, name.length(), path, length);
+			path[--length] = IPath.SEPARATOR;
+		}
+		return new String(path);
+	}
+
+	private static IResource getResource(IWorkspaceRoot root, String path, int type) {
+		switch (type) {
+		case IResource.PROJECT:
+			return root.getProject(path.substring(1));
+		case IResource.FOLDER:
+			return root.getFolder(IPath.fromPortableString(path));
+		default:
+			return root.getFile(IPath.fromPortableString(path));
+		}
+	}
+
+	private static int hash(int parent, String name) {
+		int hash = name.hashCode() * 31 + parent;
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * @return the slot of the member of the given parent with the given name,
+	 *         or <code>-1</code> if it is not indexed
+	 */
+	private int lookup(int parent, String name) {
+		int mask = table.length - 1;
+		for (int i = hash(parent, name) & mask;; i = (i + 1) & mask) {
+			int slot = table[i];
+			if (slot == 0) {
+				return -1;
+			}
+			if (parents[slot] == parent && name.equals(names[slot])) {
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * @return the slot of the resource with the given full path, or
+	 *         <code>-1</code> if it is not indexed
+	 */
+	private int lookup(IPath path) {
+		int slot = ROOT;
+		for (int i = 0; i < path.segmentCount() && slot != -1; i++) {
+			slot = lookup(slot, path.segment(i));
+		}
+		return slot;
+	}
+
+	private void insert(int slot) {
+		int mask = table.length - 1;
+		int i = hash(parents[slot], names[slot]) & mask;
+		while (table[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		table[i] = slot;
+	}
+
+	private void delete(int slot) {
+		int mask = table.length - 1;
+		int i = hash(parents[slot], names[slot]) & mask;
+		while (table[i] != slot) {
+			i = (i + 1) & mask;
+		}
+		table[i] = 0;
+		// move back the following entries which could no longer be found
+		for (int j = (i + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+			int moved = table[j];
+			int home = hash(parents[moved], names[moved]) & mask;
+			boolean found = i <= j ? i < home && home <= j : i < home || home <= j;
+			if (!found) {
+				table[i] = moved;
+				table[j] = 0;
+				i = j;
+			}
+		}
+	}
+
+	/**
+	 * Adds the resource with the given full path and its missing ancestors.
+	 */
+	private synchronized void add(IPath path, int type) {
+		int parent = ROOT;
+		int last = path.segmentCount() - 1;
+		for (int i = 0; i < last; i++) {
+			parent = add(parent, path.segment(i), i == 0 ? IResource.PROJECT : IResource.FOLDER);
+		}
+		if (last >= 0) {
+			add(parent, path.segment(last), type);
+		}
+	}
+
+	/**
+	 * Adds the resource with the given name to the given parent if it is not
+	 * indexed yet.
+	 *
+	 * @return the slot of the resource
+	 */
+	private synchronized int add(int parent, String name, int type) {
+		int existing = lookup(parent, name);
+		if (existing != -1) {
+			return existing;
+		}
+		int slot;
+		if (freeCount > 0) {
+			slot = freeSlots[--freeCount];
+		} else {
+			if (end == names.length) {
+				int capacity = end * 2;
+				names = Arrays.copyOf(names, capacity);
+				parents = Arrays.copyOf(parents, capacity);
+				firstMembers = Arrays.copyOf(firstMembers, capacity);
+				nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+				previousSiblings = Arrays.copyOf(previousSiblings, capacity);
+				signatures = Arrays.copyOf(signatures, capacity);
+				types = Arrays.copyOf(types, capacity);
+			}
+			slot = end++;
+		}
+		names[slot] = name;
+		parents[slot] = parent;
+		signatures[slot] = CharacterSignature.of(name);
+		types[slot] = (byte) type;
+		firstMembers[slot] = -1;
+		previousSiblings[slot] = -1;
+		int next = firstMembers[parent];
+		nextSiblings[slot] = next;
+		if (next != -1) {
+			previousSiblings[next] = slot;
+		}
+		firstMembers[parent] = slot;
+
+		if (++size * 2 > table.length) {
+			table = new int[table.length * 2];
+			for (int i = ROOT + 1; i < end; i++) {
+				if (names[i] != null) {
+					insert(i);
+				}
+			}
+		} else {
+			insert(slot);
+		}
+		return slot;
+	}
+
+	/**
+	 * Removes the resource with the given full path and all resources below
+	 * it.
+	 */
+	private synchronized void remove(IPath path) {
+		int slot = lookup(path);
+		if (slot == -1 || slot == ROOT) {
+			return;
+		}
+		int previous = previousSiblings[slot];
+		int next = nextSiblings[slot];
+		if (previous == -1) {
+			firstMembers[parents[slot]] = next;
+		} else {
+			nextSiblings[previous] = next;
+		}
+		if (next != -1) {
+			previousSiblings[next] = previous;
+		}
+
+		int[] stack = new int[16];
+		int top = 0;
+		stack[top++] = slot;
+		while (top > 0) {
+			int removed = stack[--top];
+			for (int member = firstMembers[removed]; member != -1; member = nextSiblings[member]) {
+				if (top == stack.length) {
+					stack = Arrays.copyOf(stack, top * 2);
+				}
+				stack[top++] = member;
+			}
+			free(removed);
+		}
+	}
+
+	private void free(int slot) {
+		delete(slot);
+		names[slot] = null;
+		size--;
+		if (freeCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+		}
+		freeSlots[freeCount++] = slot;
+	}
+
+	private synchronized void clear() {
+		Arrays.fill(names, 0, end, null);
+		Arrays.fill(table, 0);
+		names[ROOT] = ""; //$NON-NLS-1$
+		parents[ROOT] = -1;
+		firstMembers[ROOT] = -1;
+		types[ROOT] = IResource.ROOT;
+		end = ROOT + 1;
+		freeCount = 0;
+		size = 0;
+	}
+
+	/**
+	 * Adds the given container and all resources below it.
+	 */
+	private void build(IContainer container, IProgressMonitor monitor) throws CoreException {
+		if (container.getType() == IResource.ROOT) {
+			clear();
+		}
+		container.accept(proxy -> {
+			if (monitor.isCanceled() || disposed) {
+				return false;
+			}
+			if (proxy.getType() != IResource.ROOT) {
+				add(proxy.requestFullPath(), proxy.getType());
+			}
+			return proxy.getType() != IResource.FILE;
+		}, IResource.NONE);
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		List<Change> changes = new ArrayList<>();
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				int type = resource.getType();
+				if (type == IResource.ROOT) {
+					return true;
+				}
+				IPath path = resource.getFullPath();
+				switch (child.getKind()) {
+				case IResourceDelta.ADDED:
+					changes.add(new Change(ADD, type, path));
+					return true;
+				case IResourceDelta.REMOVED:
+					changes.add(new Change(REMOVE, type, path));
+					return true;
+				default:
+					if (type == IResource.PROJECT && (child.getFlags() & IResourceDelta.OPEN) != 0) {
+						changes.add(new Change(resource.isAccessible() ? ADD_TREE : REMOVE, type, path));
+						return false;
+					}
+					return true;
+				}
+			});
+		} catch (CoreException e) {
+			IDEWorkbenchPlugin.log(e.getMessage(), e);
+			return;
+		}
+		if (changes.isEmpty()) {
+			return;
+		}
+		synchronized (this) {
+			if (pendingChanges != null) {
+				pendingChanges.addAll(changes);
+				return;
+			}
+		}
+		applyChanges(changes);
+	}
+
+	private void applyChanges(List<Change> changes) {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (Change change : changes) {
+			switch (change.operation) {
+			case ADD:
+				add(change.path, change.type);
+				break;
+			case ADD_TREE:
+				try {
+					build(root.getProject(change.path.segment(0)), new NullProgressMonitor());
+				} catch (CoreException e) {
+					// the project has been closed or deleted again
+				}
+				break;
+			default:
+				remove(change.path);
+				break;
+			}
+		}
+	}
+
+	private static File getIndexFile() {
+		return IDEWorkbenchPlugin.getDefault().getStateLocation().append(INDEX_FILE).toFile();
+	}
+
+	/**
+	 * Reads the index written when the workspace was saved with the given save
+	 * number.
+	 *
+	 * @return whether the index has been read
+	 */
+	private boolean read(int saveNumber) {
+		File file = getIndexFile();
+		if (!file.isFile()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION || in.readInt() != saveNumber) {
+				return false;
+			}
+			int count = in.readInt();
+			// each resource takes at least its type, parent and name length
+			if (count < 0 || count > (file.length() - HEADER_SIZE) / MIN_RECORD_SIZE) {
+				throw new IOException("Invalid resource count " + count); //$NON-NLS-1$
+			}
+			// the resources are written after their parent, which is referred
+			// to by its position in the file, the root being at position 0
+			int[] readSlots = new int[count + 1];
+			readSlots[0] = ROOT;
+			// share the names read several times
+			Map<String, String> readNames = new HashMap<>();
+			for (int i = 1; i <= count && !disposed; i++) {
+				int type = in.readByte();
+				int parent = in.readInt();
+				if (parent < 0 || parent >= i) {
+					throw new IOException("Invalid parent " + parent + " of resource " + i); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				String name = readNames.computeIfAbsent(in.readUTF(), Function.identity());
+				readSlots[i] = add(readSlots[parent], name, type);
+			}
+			return true;
+		} catch (IOException | RuntimeException e) {
+			// a corrupt index is rebuilt
+			IDEWorkbenchPlugin.log("Could not read the resource name index", e); //$NON-NLS-1$
+			clear();
+			return false;
+		}
+	}
+
+	private synchronized void write(File file, int saveNumber) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(saveNumber);
+			out.writeInt(size);
+			// write the resources depth first, each one after its parent
+			int[] positions = new int[end];
+			int written = 0;
+			int[] stack = new int[16];
+			int top = 0;
+			stack[top++] = ROOT;
+			while (top > 0) {
+				int slot = stack[--top];
+				if (slot != ROOT) {
+					out.writeByte(types[slot]);
+					out.writeInt(positions[parents[slot]]);
+					out.writeUTF(names[slot]);
+					positions[slot] = ++written;
+				}
+				for (int member = firstMembers[slot]; member != -1; member = nextSiblings[member]) {
+					if (top == stack.length) {
+						stack = Arrays.copyOf(stack, top * 2);
+					}
+					stack[top++] = member;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void saving(ISaveContext context) throws CoreException {
+		if (context.getKind() != ISaveContext.FULL_SAVE) {
+			return;
+		}
+		File file = getIndexFile();
+		if (!ready) {
+			// an outdated index must not be read in the next session
+			file.delete();
+			return;
+		}
+		try {
+			write(file, context.getSaveNumber());
+		} catch (IOException e) {
+			file.delete();
+			throw new CoreException(new Status(IStatus.ERROR, IDEWorkbenchPlugin.IDE_WORKBENCH,
+					"Could not write the resource name index", e)); //$NON-NLS-1$
+		}
+		context.needSaveNumber();
+		context.needDelta();
+	}
+
+	@Override
+	public void rollback(ISaveContext context) {
+		if (context.getKind() == ISaveContext.FULL_SAVE) {
+			getIndexFile().delete();
+		}
+	}
+
+	@Override
+	public void prepareToSave(ISaveContext context) throws CoreException {
+		// nothing to prepare
+	}
+
+	@Override
+	public void doneSaving(ISaveContext context) {
+		// the index of the previous save has been overwritten
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.views.markers;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The collation keys of the marker attribute values compared by one sort, so
+ * that the key of each value is computed once per sort and entries with the
+ * same value share the same key. A cache is used by the thread running the sort
+ * only, and is dropped when the sort is done.
+ */
+final class CollationKeyCache {
+
+	private final Collator collator = Collator.getInstance();
+
+	private final Map<String, CollationKey> keys = new HashMap<>();
+
+	private long hits;
+
+	private long misses;
+
+	/**
+	 * Returns the collation key of the given string, computing it if it is not
+	 * cached.
+	 *
+	 * @param string the string
+	 * @return the collation key
+	 */
+	CollationKey getCollationKey(String string) {
+		CollationKey key = keys.get(string);
+		if (key != null) {
+			hits++;
+			return key;
+		}
+		misses++;
+		key = collator.getCollationKey(string);
+		keys.put(string, key);
+		return key;
+	}
+
+	/**
+	 * Removes all the keys. The hit rate is kept.
+	 */
+	void clear() {
+		keys.clear();
+	}
+
+	/**
+	 * @return the number of keys held
+	 */
+	int size() {
+		return keys.size();
+	}
+
+	/**
+	 * @return the ratio of the requested keys which were cached, between
+	 *         <code>0</code> and <code>1</code>
+	 */
+	double getHitRate() {
+		long requests = hits + misses;
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	@Override
+	public String toString() {
+		return "CollationKeyCache [size=" + keys.size() + ", hits=" + hits + ", misses=" + misses + ']'; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,9 +18,8 @@ package org.eclipse.ui.internal.views.markers;
 
 import java.text.CollationKey;
 import java.text.Collator;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IMarker;
@@ -69,9 +68,21 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	// The key for the string we built for display
 	private static final String LOCATION_STRING = "LOCATION_STRING"; //$NON-NLS-1$
 	private static final Object CACHED_NULL = new Object();
+	private static final Object[] EMPTY_CACHE = new Object[0];
+
 	private MarkerCategory category;
-	private final Map<String, Object> cache = new ConcurrentHashMap<>();
-	private static Map<String, CollationKey> collationCache = new ConcurrentHashMap<>();
+
+	/**
+	 * The cached values, as alternating keys and values. An entry caches only a
+	 * few values, so the array is replaced by a copy when a value is added rather
+	 * than using a map per entry.
+	 */
+	private volatile Object[] cache = EMPTY_CACHE;
+
+	/**
+	 * The collation keys of the sort running in the current thread, if any.
+	 */
+	private static final ThreadLocal<CollationKeyCache> collationCache = new ThreadLocal<>();
 
 	/**
 	 * Set the MarkerEntry to be stale, if discovered at any point of time
@@ -212,9 +223,11 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 		if (attributeValue.isEmpty()) {
 			return MarkerSupportInternalUtilities.EMPTY_COLLATION_KEY;
 		}
-		CollationKey key = collationCache.computeIfAbsent(attributeValue,
-				k -> Collator.getInstance().getCollationKey(attributeValue));
-		return key;
+		CollationKeyCache keys = collationCache.get();
+		if (keys != null) {
+			return keys.getCollationKey(attributeValue);
+		}
+		return Collator.getInstance().getCollationKey(attributeValue);
 	}
 
 	@Override
@@ -354,14 +367,35 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	}
 
 	protected Object getCachedValueOrCompute(String key, Supplier<Object> supplier) {
-		Object cached = cache.computeIfAbsent(key, k -> {
+		Object cached = findCachedValue(cache, key);
+		if (cached == null) {
+			// computed outside of the lock, as the supplier may compute other values
 			Object value = supplier.get();
 			// also remember null values:
-			Object toCache = (value != null) ? value : CACHED_NULL;
-			return toCache;
-		});
-		Object value = (cached == CACHED_NULL) ? null : cached;
-		return value;
+			cached = (value != null) ? value : CACHED_NULL;
+			synchronized (this) {
+				Object[] current = cache;
+				Object known = findCachedValue(current, key);
+				if (known != null) {
+					cached = known;
+				} else {
+					Object[] extended = Arrays.copyOf(current, current.length + 2);
+					extended[current.length] = key;
+					extended[current.length + 1] = cached;
+					cache = extended;
+				}
+			}
+		}
+		return (cached == CACHED_NULL) ? null : cached;
+	}
+
+	private static Object findCachedValue(Object[] values, String key) {
+		for (int i = 0; i < values.length; i += 2) {
+			if (values[i] == key || key.equals(values[i])) {
+				return values[i + 1];
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -369,11 +403,48 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	 */
 	@Override
 	void clearCache() {
-		cache.clear();
+		// under the lock, so that a value being added does not restore the cleared ones
+		synchronized (this) {
+			cache = EMPTY_CACHE;
+		}
+	}
+
+	/**
+	 * Caches the collation keys computed in the current thread until
+	 * {@link #endCollationCache()}, so that a sort computes the key of each
+	 * value once.
+	 *
+	 * @return <code>true</code> if the cache has been started, <code>false</code>
+	 *         if a sort in the current thread already caches the keys
+	 */
+	static boolean beginCollationCache() {
+		if (collationCache.get() != null) {
+			return false;
+		}
+		collationCache.set(new CollationKeyCache());
+		return true;
 	}
 
+	/**
+	 * Drops the collation keys cached in the current thread.
+	 */
+	static void endCollationCache() {
+		CollationKeyCache keys = collationCache.get();
+		collationCache.remove();
+		if (keys != null && Policy.DEBUG_MARKER_COLLATION_CACHE) {
+			System.out.println(keys + ", hit rate " + keys.getHitRate()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Removes the collation keys cached in the current thread, keeping the cache
+	 * for the rest of the sort.
+	 */
 	static void clearCollationCache() {
-		collationCache = new ConcurrentHashMap<>();
+		CollationKeyCache keys = collationCache.get();
+		if (keys != null) {
+			keys.clear();
+		}
 	}
 
 	/**
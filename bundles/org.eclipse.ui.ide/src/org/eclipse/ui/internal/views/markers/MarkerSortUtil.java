@@ -320,6 +320,19 @@ public class MarkerSortUtil {
 	public static void sortStartingKElement(MarkerEntry[] entries,
  Comparator<MarkerItem> comparator, int from, int to,
 			int k, IProgressMonitor monitor) {
+		// the collation keys are computed once per sort, and dropped after it
+		boolean collationCacheStarted = MarkerEntry.beginCollationCache();
+		try {
+			doSortStartingKElement(entries, comparator, from, to, k, monitor);
+		} finally {
+			if (collationCacheStarted) {
+				MarkerEntry.endCollationCache();
+			}
+		}
+	}
+
+	private static void doSortStartingKElement(MarkerEntry[] entries, Comparator<MarkerItem> comparator, int from,
+			int to, int k, IProgressMonitor monitor) {
 		// check range valid
 		int last = from + k-1;
 		if (entries.length == 0 || from < 0 || from >= to || last < from
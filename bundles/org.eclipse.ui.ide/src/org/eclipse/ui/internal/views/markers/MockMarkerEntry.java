@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,11 @@
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
 package org.eclipse.ui.internal.views.markers;
+
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IMarker;
+
 /**
  * @since 3.4
  *	Mock Class needed for testing Sort
@@ -28,6 +33,32 @@ public class MockMarkerEntry extends MarkerEntry{
 		super(null);
 		this.name=name;
 	}
+
+	/**
+	 * @return the name as the message of the marker
+	 */
+	@Override
+	Object getAttributeValue(String attribute) {
+		return IMarker.MESSAGE.equals(attribute) ? name : null;
+	}
+
+	/**
+	 * @param key
+	 * @param supplier
+	 * @return the cached value of the given key, computed by the supplier if it
+	 *         is not cached
+	 */
+	public Object getCachedValue(String key, Supplier<Object> supplier) {
+		return getCachedValueOrCompute(key, supplier);
+	}
+
+	/**
+	 * Clears the cached values.
+	 */
+	public void clearCachedValues() {
+		clearCache();
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		// TODO Auto-generated method stub
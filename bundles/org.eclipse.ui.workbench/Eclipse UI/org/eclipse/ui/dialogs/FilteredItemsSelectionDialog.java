@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,8 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.IHandler;
@@ -225,8 +227,27 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	private static final String EMPTY_STRING = ""; //$NON-NLS-1$
 
+	/**
+	 * The number of cached items matched by a single task when the items of a
+	 * sub-filter are matched in parallel.
+	 */
+	private static final int CACHE_CHUNK_SIZE = 1024;
+
+	/**
+	 * The number of matches after which the first results of a sub-filter are
+	 * shown, while the rest of the cached items are still matched.
+	 */
+	private static final int FIRST_SCREEN_SIZE = 64;
+
 	private boolean refreshWithLastSelection = false;
 
+	/**
+	 * The first item selected by {@link #refresh()} because there was no
+	 * selection to preserve. It is not preserved by later refreshes, as the items
+	 * found so far may have been shown before all matches were sorted.
+	 */
+	private List<Object> firstItemSelection;
+
 	private IHandlerActivation showViewHandler;
 
 	private IStyledStringHighlighter styledStringHighlighter;
@@ -875,13 +896,16 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 					isShownForTheFirstTime = false;
 					lastRefreshSelection = prepareInitialSelection(lastRefreshSelection);
 				}
-				// preserve previous selection
-				if (refreshWithLastSelection && lastRefreshSelection != null && lastRefreshSelection.size() > 0) {
+				// preserve previous selection, unless the user did not change the
+				// first item selected by an earlier refresh
+				if (refreshWithLastSelection && lastRefreshSelection != null && lastRefreshSelection.size() > 0
+						&& !lastRefreshSelection.equals(firstItemSelection)) {
 					tableViewer.setSelection(new StructuredSelection(lastRefreshSelection));
 				} else {
 					refreshWithLastSelection = true;
 					tableViewer.getTable().setSelection(0);
 					tableViewer.getTable().notifyListeners(SWT.Selection, new Event());
+					firstItemSelection = tableViewer.getStructuredSelection().toList();
 				}
 			} else {
 				tableViewer.setSelection(StructuredSelection.EMPTY);
@@ -1935,20 +1959,11 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 			if (lastCompletedFilter != null && lastCompletedFilter.isSubFilter(this.itemsFilter)) {
 
-				int length = lastCompletedResult.size() / 500;
-				monitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, length);
-
-				for (int pos = 0; pos < lastCompletedResult.size(); pos++) {
-
-					Object item = lastCompletedResult.get(pos);
-					if (monitor.isCanceled())
-						break;
-					contentProvider.add(item, itemsFilter);
+				Object[] cachedItems = lastCompletedResult.toArray();
+				int chunks = (cachedItems.length + CACHE_CHUNK_SIZE - 1) / CACHE_CHUNK_SIZE;
+				monitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, chunks);
 
-					if ((pos % 500) == 0) {
-						monitor.worked(1);
-					}
-				}
+				filterCachedItems(cachedItems, chunks, monitor);
 
 			} else {
 
@@ -1969,6 +1984,58 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 		}
 
+		/**
+		 * Matches the items found by the last completed filter, which are sorted,
+		 * in chunks. The chunks are matched in parallel if the filter supports it
+		 * and are added in order, so the matches of the first chunks are the best
+		 * ranked ones and are shown as soon as they fill the first screen.
+		 *
+		 * @param cachedItems the sorted items of the last completed filter
+		 * @param chunks      the number of chunks
+		 * @param monitor     for monitoring progress
+		 */
+		private void filterCachedItems(Object[] cachedItems, int chunks, GranualProgressMonitor monitor) {
+			ItemsFilter chunkFilter = itemsFilter;
+			boolean parallel = chunks > 1 && chunkFilter.isConcurrentMatchingSupported();
+			List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>(chunks);
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				int from = chunk * CACHE_CHUNK_SIZE;
+				int to = Math.min(from + CACHE_CHUNK_SIZE, cachedItems.length);
+				ForkJoinTask<List<Object>> task = ForkJoinTask.adapt(() -> {
+					List<Object> matches = new ArrayList<>();
+					for (int pos = from; pos < to && !monitor.isCanceled(); pos++) {
+						if (chunkFilter.matchItem(cachedItems[pos])) {
+							matches.add(cachedItems[pos]);
+						}
+					}
+					return matches;
+				});
+				if (parallel) {
+					ForkJoinPool.commonPool().execute(task);
+				}
+				tasks.add(task);
+			}
+
+			int matched = 0;
+			boolean firstScreenShown = false;
+			for (ForkJoinTask<List<Object>> task : tasks) {
+				if (monitor.isCanceled()) {
+					break;
+				}
+				List<Object> matches = parallel ? task.join() : task.invoke();
+				contentProvider.addMatched(matches, chunkFilter);
+				matched += matches.size();
+				monitor.worked(1);
+				if (!firstScreenShown && matched >= FIRST_SCREEN_SIZE) {
+					firstScreenShown = true;
+					contentProvider.refresh();
+				}
+			}
+			if (monitor.isCanceled()) {
+				tasks.forEach(task -> task.cancel(false));
+			}
+		}
+
 	}
 
 	/**
@@ -2296,6 +2363,23 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 */
 		public abstract boolean isConsistentItem(Object item);
 
+		/**
+		 * Tells whether {@link #matchItem(Object)} may be called from several
+		 * threads at once. If so, the items found by a filter are matched in
+		 * parallel when the user refines the pattern, see
+		 * {@link #isSubFilter(ItemsFilter)}.
+		 * <p>
+		 * The default implementation returns <code>false</code>. Subclasses whose
+		 * <code>matchItem</code> only reads immutable state should override it.
+		 * </p>
+		 *
+		 * @return <code>true</code> if <code>matchItem</code> is thread safe
+		 * @since 3.129
+		 */
+		public boolean isConcurrentMatchingSupported() {
+			return false;
+		}
+
 	}
 
 	/**
@@ -2441,6 +2525,18 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 		}
 
+		/**
+		 * Adds items which are known to match the given filter.
+		 *
+		 * @param matches     the matching items
+		 * @param itemsFilter the filter the items match
+		 */
+		public void addMatched(List<Object> matches, ItemsFilter itemsFilter) {
+			if (itemsFilter == filter) {
+				this.items.addAll(matches);
+			}
+		}
+
 		/**
 		 * Add all history items to <code>contentProvider</code>.
 		 *
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.misc;
+
+/**
+ * Computes signatures of the characters contained in a text, a bit set with
+ * one bit per letter (upper and lower case letters sharing the same bit), one
+ * per digit and a few shared by the other ASCII characters. A text can only
+ * contain all characters of a pattern if its signature contains all bits of
+ * the pattern's signature, so signatures reject most texts which cannot match a
+ * pattern without matching them.
+ */
+public final class CharacterSignature {
+
+	private CharacterSignature() {
+	}
+
+	/**
+	 * @param c a character
+	 * @return the bit of the given character, or <code>0</code> if it is not
+	 *         represented
+	 */
+	public static long bit(char c) {
+		if (c >= 'a' && c <= 'z') {
+			return 1L << (c - 'a');
+		}
+		if (c >= 'A' && c <= 'Z') {
+			return 1L << (c - 'A');
+		}
+		if (c >= '0' && c <= '9') {
+			return 1L << (26 + c - '0');
+		}
+		if (c < 128) {
+			return 1L << (36 + c % 28);
+		}
+		// case folding of other characters depends on the locale
+		return 0;
+	}
+
+	/**
+	 * @param text a text
+	 * @return the signature of all characters of the text
+	 */
+	public static long of(String text) {
+		long signature = 0;
+		for (int i = 0; i < text.length(); i++) {
+			signature |= bit(text.charAt(i));
+		}
+		return signature;
+	}
+
+	/**
+	 * @param pattern a pattern
+	 * @param symbols the characters of the pattern which are not part of the
+	 *                texts it matches
+	 * @return the signature of the characters of the pattern which are not
+	 *         symbols
+	 */
+	public static long ofPattern(String pattern, String symbols) {
+		long signature = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (symbols.indexOf(c) == -1) {
+				signature |= bit(c);
+			}
+		}
+		return signature;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,11 +30,18 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.eclipse.core.commands.util.Tracing;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -80,7 +87,7 @@ import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.IWorkbenchPreferenceConstants;
 import org.eclipse.ui.PlatformUI;
-import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.misc.Policy;
 import org.eclipse.ui.keys.IBindingService;
 import org.eclipse.ui.progress.UIJob;
 import org.eclipse.ui.quickaccess.QuickAccessElement;
@@ -99,12 +106,29 @@ public abstract class QuickAccessContents {
 	 */
 	private static final String QUICK_ACCESS_COMMAND_ID = "org.eclipse.ui.window.quickAccess"; //$NON-NLS-1$
 
+	/**
+	 * The time in milliseconds given to each provider to compute its elements
+	 * before the table is filled with the entries of the providers which already
+	 * completed. The entries of the slower providers are added as they complete.
+	 */
+	private static final long PROVIDER_TIME_BUDGET = 100;
+
+	/**
+	 * The time in milliseconds between checks for cancellation while waiting for
+	 * the providers.
+	 */
+	private static final long CANCEL_CHECK_PERIOD = 20;
+
+	private static final String TRACING_COMPONENT = "QUICK_ACCESS"; //$NON-NLS-1$
+
 	protected Text filterText;
 
 	private QuickAccessProvider[] providers;
 	private Map<String, QuickAccessProvider> providerMap = new HashMap<>();
 	private Map<QuickAccessElement, QuickAccessProvider> elementsToProviders = new HashMap<>();
 
+	private final QuickAccessIndex index = new QuickAccessIndex();
+
 	protected Table table;
 	protected Label infoLabel;
 
@@ -159,9 +183,20 @@ public abstract class QuickAccessContents {
 		String computingMessage = NLS.bind(QuickAccessMessages.QuickaAcessContents_computeMatchingEntries, filter);
 		int maxNumberOfItemsInTable = computeNumberOfItems();
 		AtomicReference<List<QuickAccessEntry>[]> entries = new AtomicReference<>();
+		AtomicBoolean partialEntriesShown = new AtomicBoolean();
 		final Job currentComputeEntriesJob = Job.create(computingMessage, theMonitor -> {
-			entries.set(
-					computeMatchingEntries(filter, perfectMatch, maxNumberOfItemsInTable, theMonitor));
+			entries.set(computeMatchingEntries(filter, perfectMatch, maxNumberOfItemsInTable, theMonitor,
+					partialEntries -> {
+						if (!table.isDisposed()) {
+							display.asyncExec(() -> {
+								// the job is cancelled in the UI thread when the filter changes
+								if (!theMonitor.isCanceled() && !table.isDisposed()) {
+									partialEntriesShown.set(true);
+									refreshTable(perfectMatch, partialEntries, filter, false);
+								}
+							});
+						}
+					}));
 			return theMonitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
 		});
 		currentComputeEntriesJob.setPriority(Job.INTERACTIVE);
@@ -170,7 +205,8 @@ public abstract class QuickAccessContents {
 		UIJob computingFeedbackJob = new UIJob(table.getDisplay(), QuickAccessMessages.QuickAccessContents_computeMatchingEntries_displayFeedback_jobName) {
 			@Override
 			public IStatus runInUIThread(IProgressMonitor monitor) {
-				if (currentComputeEntriesJob.getResult() == null && !monitor.isCanceled() && !table.isDisposed()) {
+				if (currentComputeEntriesJob.getResult() == null && !partialEntriesShown.get()
+						&& !monitor.isCanceled() && !table.isDisposed()) {
 					showHintText(computingMessage, grayColor);
 					return Status.OK_STATUS;
 				}
@@ -185,7 +221,7 @@ public abstract class QuickAccessContents {
 						&& !table.isDisposed()) {
 					display.asyncExec(() -> {
 						computingFeedbackJob.cancel();
-						refreshTable(perfectMatch, entries.get(), filter);
+						refreshTable(perfectMatch, entries.get(), filter, true);
 					});
 				}
 			}
@@ -274,7 +310,12 @@ public abstract class QuickAccessContents {
 		return showAllMatches;
 	}
 
-	private void refreshTable(QuickAccessElement perfectMatch, List<QuickAccessEntry>[] entries, String filter) {
+	/**
+	 * @param complete whether all the providers have completed, or more entries
+	 *                 may be added later
+	 */
+	private void refreshTable(QuickAccessElement perfectMatch, List<QuickAccessEntry>[] entries, String filter,
+			boolean complete) {
 		if (table.isDisposed()) {
 			return;
 		}
@@ -324,6 +365,8 @@ public abstract class QuickAccessContents {
 		if (table.getItemCount() > 0) {
 			table.setSelection(selectionIndex);
 			hideHintText();
+		} else if (!complete) {
+			showHintText(NLS.bind(QuickAccessMessages.QuickaAcessContents_computeMatchingEntries, filter), grayColor);
 		} else if (filter.isEmpty()) {
 			showHintText(QuickAccessMessages.QuickAccess_StartTypingToFindMatches, grayColor);
 		} else {
@@ -351,17 +394,27 @@ public abstract class QuickAccessContents {
 	 * should be displayed in the table given a text filter and a perfect match
 	 * entry that should be given priority. The number of items returned is affected
 	 * by {@link #getShowAllMatches()} and the size of the table's composite.
+	 * <p>
+	 * Each provider computes its elements in a separate job. The providers which
+	 * have not completed within {@link #PROVIDER_TIME_BUDGET} do not hold up the
+	 * others: the entries of the completed providers are passed to the given
+	 * consumer, and passed again with the entries of each remaining provider as
+	 * it completes.
+	 * </p>
 	 *
-	 * @param filter       the string text filter to apply, possibly empty
-	 * @param perfectMatch a quick access element that should be given priority or
-	 *                     <code>null</code>
+	 * @param filter         the string text filter to apply, possibly empty
+	 * @param perfectMatch   a quick access element that should be given priority
+	 *                       or <code>null</code>
 	 *
 	 * @param aMonitor
+	 * @param partialEntries receives the entries of the providers completed so far
+	 *                       while other providers are still computing their
+	 *                       elements
 	 * @return the array of lists (one per provider) contains the quick access
 	 *         entries that should be added to the table, possibly empty
 	 */
 	private List<QuickAccessEntry>[] computeMatchingEntries(String filter, QuickAccessElement perfectMatch,
-			int maxNumberOfItemsInTable, IProgressMonitor aMonitor) {
+			int maxNumberOfItemsInTable, IProgressMonitor aMonitor, Consumer<List<QuickAccessEntry>[]> partialEntries) {
 		if (aMonitor == null) {
 			aMonitor = new NullProgressMonitor();
 		}
@@ -374,58 +427,196 @@ public abstract class QuickAccessContents {
 		}
 		final String finalFilter = filter;
 
-		// collect matching elements
-		LinkedHashMap<QuickAccessProvider, List<QuickAccessElement>> elementsForProviders = new LinkedHashMap<>(
-				providers.length);
+		List<QuickAccessProvider> involvedProviders = new ArrayList<>(providers.length);
 		for (QuickAccessProvider provider : providers) {
-			if (aMonitor.isCanceled()) {
-				break;
-			}
 			boolean isPreviousPickProvider = provider instanceof PreviousPicksProvider;
 			// skip if filter contains a category, and current provider isn't this category
 			if (category != null && !category.equalsIgnoreCase(provider.getName()) && !isPreviousPickProvider) {
 				continue;
 			}
 			if (!filter.isEmpty() || isPreviousPickProvider || showAllMatches) {
-				AtomicReference<List<QuickAccessElement>> sortedElementRef = new AtomicReference<>();
-				if (provider.requiresUiAccess()) {
-					UIJob job = new UIJob(
-							NLS.bind(QuickAccessMessages.QuickAccessContents_processingProviderInUI,
-									provider.getName())) {
-						@Override
-						public IStatus runInUIThread(IProgressMonitor monitor) {
-							sortedElementRef.set(Arrays.asList(provider.getElementsSorted(finalFilter, monitor)));
-							return Status.OK_STATUS;
-						}
-					};
-					job.setPriority(Job.INTERACTIVE);
-					job.schedule();
-					try {
-						job.join(0, new NullProgressMonitor());
-					} catch (Exception e) {
-						WorkbenchPlugin.log(e);
-					}
-				} else {
-					sortedElementRef.set(Arrays.asList(provider.getElementsSorted(filter, aMonitor)));
-				}
-				List<QuickAccessElement> sortedElements = sortedElementRef.get();
-				if (sortedElements == null) {
-					sortedElements = Collections.emptyList();
+				involvedProviders.add(provider);
+			}
+		}
+
+		// collect matching elements
+		Map<QuickAccessProvider, List<QuickAccessElement>> candidatesForProviders = new HashMap<>();
+		Map<QuickAccessProvider, QuickAccessElement[]> computedElements = new ConcurrentHashMap<>();
+		BlockingQueue<QuickAccessProvider> completedProviders = new LinkedBlockingQueue<>();
+		List<Job> providerJobs = new ArrayList<>(involvedProviders.size());
+		try {
+			// the previous picks are removed from the elements of the other providers,
+			// so they are known before any entry is shown
+			int pending = 0;
+			for (QuickAccessProvider provider : involvedProviders) {
+				if (provider instanceof PreviousPicksProvider) {
+					providerJobs.add(scheduleProviderJob(provider, finalFilter, computedElements, completedProviders));
+					pending++;
 				}
+			}
+			QuickAccessProvider completed;
+			while (pending > 0
+					&& (completed = pollCompletedProvider(completedProviders, Long.MAX_VALUE, aMonitor)) != null) {
+				addCandidates(completed, computedElements.get(completed), finalFilter, candidatesForProviders);
+				pending--;
+			}
+			if (aMonitor.isCanceled()) {
+				return emptyEntries();
+			}
+			for (QuickAccessProvider provider : involvedProviders) {
 				if (!(provider instanceof PreviousPicksProvider)) {
-					for (QuickAccessElement element : sortedElements) {
-						elementsToProviders.put(element, provider);
-					}
+					providerJobs.add(scheduleProviderJob(provider, finalFilter, computedElements, completedProviders));
+					pending++;
 				}
-				if (!filter.isEmpty() && !sortedElements.isEmpty()) {
-					sortedElements = putPrefixMatchFirst(sortedElements, filter);
+			}
+			long deadline = System.currentTimeMillis() + PROVIDER_TIME_BUDGET;
+			while (pending > 0 && (completed = pollCompletedProvider(completedProviders, deadline, aMonitor)) != null) {
+				addCandidates(completed, computedElements.get(completed), finalFilter, candidatesForProviders);
+				pending--;
+			}
+			// stream the entries of the slower providers as they complete
+			while (pending > 0 && !aMonitor.isCanceled()) {
+				partialEntries.accept(computeEntries(involvedProviders, candidatesForProviders, finalFilter,
+						perfectMatch, maxNumberOfItemsInTable));
+				completed = pollCompletedProvider(completedProviders, Long.MAX_VALUE, aMonitor);
+				if (completed != null) {
+					addCandidates(completed, computedElements.get(completed), finalFilter, candidatesForProviders);
+					pending--;
 				}
-				elementsForProviders.put(provider, new ArrayList<>(sortedElements));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			aMonitor.setCanceled(true);
+		} finally {
+			if (aMonitor.isCanceled()) {
+				providerJobs.forEach(Job::cancel);
+			}
+		}
+		if (aMonitor.isCanceled()) {
+			return emptyEntries();
+		}
+		return computeEntries(involvedProviders, candidatesForProviders, finalFilter, perfectMatch,
+				maxNumberOfItemsInTable);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<QuickAccessEntry>[] emptyEntries() {
+		return new List[0];
+	}
+
+	/**
+	 * Schedules a job computing the elements of the given provider, in the UI
+	 * thread if the provider requires it. The elements are put in the given map
+	 * before the provider is added to the given queue.
+	 */
+	private Job scheduleProviderJob(QuickAccessProvider provider, String filter,
+			Map<QuickAccessProvider, QuickAccessElement[]> computedElements,
+			BlockingQueue<QuickAccessProvider> completedProviders) {
+		Job job;
+		if (provider.requiresUiAccess()) {
+			job = new UIJob(NLS.bind(QuickAccessMessages.QuickAccessContents_processingProviderInUI, provider.getName())) {
+				@Override
+				public IStatus runInUIThread(IProgressMonitor monitor) {
+					computeProviderElements(provider, filter, monitor, computedElements, completedProviders);
+					return Status.OK_STATUS;
+				}
+			};
+		} else {
+			job = Job.create(NLS.bind(QuickAccessMessages.QuickAccessContents_processingProvider, provider.getName()),
+					monitor -> {
+						computeProviderElements(provider, filter, monitor, computedElements, completedProviders);
+					});
+		}
+		job.setPriority(Job.INTERACTIVE);
+		job.setSystem(true);
+		job.schedule();
+		return job;
+	}
+
+	private static void computeProviderElements(QuickAccessProvider provider, String filter,
+			IProgressMonitor monitor, Map<QuickAccessProvider, QuickAccessElement[]> computedElements,
+			BlockingQueue<QuickAccessProvider> completedProviders) {
+		long startTime = System.currentTimeMillis();
+		QuickAccessElement[] sortedElements = null;
+		try {
+			// the job of a previous filter may still be computing the elements,
+			// which providers cache and sort without synchronization
+			synchronized (provider) {
+				sortedElements = provider.getElementsSorted(filter, monitor);
+			}
+		} finally {
+			if (sortedElements == null) {
+				sortedElements = new QuickAccessElement[0];
+			}
+			computedElements.put(provider, sortedElements);
+			completedProviders.add(provider);
+			if (Policy.DEBUG_QUICK_ACCESS) {
+				long elapsedTime = System.currentTimeMillis() - startTime;
+				Tracing.printTrace(TRACING_COMPONENT, provider.getId() + " computed " + sortedElements.length //$NON-NLS-1$
+						+ " elements for '" + filter + "' in " + elapsedTime + "ms" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ (elapsedTime > PROVIDER_TIME_BUDGET ? ", over budget" : "") //$NON-NLS-1$ //$NON-NLS-2$
+						+ (monitor.isCanceled() ? ", cancelled" : "")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Waits until a provider completes, the given time is reached or the monitor
+	 * is cancelled.
+	 *
+	 * @return the completed provider, or <code>null</code> if none completed in
+	 *         time
+	 */
+	private static QuickAccessProvider pollCompletedProvider(BlockingQueue<QuickAccessProvider> completedProviders,
+			long until, IProgressMonitor monitor) throws InterruptedException {
+		long now;
+		while (!monitor.isCanceled() && (now = System.currentTimeMillis()) < until) {
+			QuickAccessProvider provider = completedProviders.poll(Math.min(CANCEL_CHECK_PERIOD, until - now),
+					TimeUnit.MILLISECONDS);
+			if (provider != null) {
+				return provider;
+			}
+		}
+		return null;
+	}
+
+	private void addCandidates(QuickAccessProvider provider, QuickAccessElement[] sortedElements, String filter,
+			Map<QuickAccessProvider, List<QuickAccessElement>> candidatesForProviders) {
+		if (!(provider instanceof PreviousPicksProvider)) {
+			for (QuickAccessElement element : sortedElements) {
+				elementsToProviders.put(element, provider);
+			}
+		}
+		// the elements which cannot match are skipped, prefix matches come first
+		candidatesForProviders.put(provider, filter.isEmpty() ? Arrays.asList(sortedElements)
+				: index.getCandidates(provider, sortedElements, filter));
+	}
+
+	/**
+	 * Matches the candidate elements of the completed providers against the
+	 * filter.
+	 *
+	 * @param involvedProviders      the providers to show, in order
+	 * @param candidatesForProviders the candidate elements of the providers which
+	 *                               completed
+	 * @return the array of lists (one per provider) contains the quick access
+	 *         entries that should be added to the table, possibly empty
+	 */
+	private List<QuickAccessEntry>[] computeEntries(List<QuickAccessProvider> involvedProviders,
+			Map<QuickAccessProvider, List<QuickAccessElement>> candidatesForProviders, String filter,
+			QuickAccessElement perfectMatch, int maxNumberOfItemsInTable) {
+		final String finalFilter = filter;
+		LinkedHashMap<QuickAccessProvider, List<QuickAccessElement>> elementsForProviders = new LinkedHashMap<>(
+				candidatesForProviders.size());
+		for (QuickAccessProvider provider : involvedProviders) {
+			List<QuickAccessElement> candidates = candidatesForProviders.get(provider);
+			if (candidates != null) {
+				elementsForProviders.put(provider, new LinkedList<>(candidates));
 			}
 		}
 
 		// Sort out the Previous Pick
-		List<String> prevPickIds = new ArrayList<>();
+		Set<String> prevPickIds = new HashSet<>();
 		for (Entry<QuickAccessProvider, List<QuickAccessElement>> entry : elementsForProviders.entrySet()) {
 			if (entry.getKey() instanceof PreviousPicksProvider) {
 				prevPickIds
@@ -434,7 +625,7 @@ public abstract class QuickAccessContents {
 		}
 		for (Entry<QuickAccessProvider, List<QuickAccessElement>> entry : elementsForProviders.entrySet()) {
 			if (!(entry.getKey() instanceof PreviousPicksProvider)) {
-				List<QuickAccessElement> filteredElements = new ArrayList<>(entry.getValue());
+				List<QuickAccessElement> filteredElements = new LinkedList<>(entry.getValue());
 				filteredElements.removeIf(element -> prevPickIds.contains(element.getId()));
 				entry.setValue(filteredElements);
 			}
@@ -444,7 +635,7 @@ public abstract class QuickAccessContents {
 		if (perfectMatch != null) {
 			for (Entry<QuickAccessProvider, List<QuickAccessElement>> entry : elementsForProviders.entrySet()) {
 				if (perfectMatchProvider != null) {
-					List<QuickAccessElement> filteredElements = new ArrayList<>(entry.getValue());
+					List<QuickAccessElement> filteredElements = new LinkedList<>(entry.getValue());
 					if (filteredElements.removeIf(element -> prevPickIds.contains(element.getId()))) {
 						entry.setValue(filteredElements);
 						perfectMatchProvider = entry.getKey();
@@ -460,8 +651,7 @@ public abstract class QuickAccessContents {
 					.entrySet()) {
 				QuickAccessProvider provider = elementsPerProvider.getKey();
 				List<QuickAccessEntry> entries = elementsPerProvider.getValue().stream() //
-						.map(QuickAccessMatcher::new) //
-						.map(matcher -> matcher.match(finalFilter, provider)) //
+						.map(element -> index.match(element, provider, finalFilter)) //
 						.filter(Objects::nonNull) //
 						.collect(Collectors.toList());
 				if (!entries.isEmpty()) {
@@ -480,7 +670,7 @@ public abstract class QuickAccessContents {
 						int toPickEntries = nbEntriesPerProvider;
 						while (toPickEntries > 0 && !elements.isEmpty()) {
 							QuickAccessElement element = elements.remove(0);
-							QuickAccessEntry entry = new QuickAccessMatcher(element).match(filter, provider);
+							QuickAccessEntry entry = index.match(element, provider, filter);
 							if (entry != null) {
 								numberOfSlotsLeft--;
 								toPickEntries--;
@@ -500,7 +690,7 @@ public abstract class QuickAccessContents {
 							boolean entryPicked = false;
 							while (!entryPicked && !elements.isEmpty()) {
 								QuickAccessElement element = elements.remove(0);
-								QuickAccessEntry entry = new QuickAccessMatcher(element).match(filter, provider);
+								QuickAccessEntry entry = index.match(element, provider, filter);
 								if (entry != null) {
 									numberOfSlotsLeft--;
 									entryPicked = true;
@@ -533,34 +723,6 @@ public abstract class QuickAccessContents {
 		return (List<QuickAccessEntry>[]) res.toArray(new List<?>[res.size()]);
 	}
 
-	/*
-	 * Consider whether we could directly check the "matchQuality" here, but it
-	 * seems to be a more expensive operation
-	 */
-	private static List<QuickAccessElement> putPrefixMatchFirst(List<QuickAccessElement> elements, String prefix) {
-		List<QuickAccessElement> res = new ArrayList<>(elements);
-		List<Integer> matchingIndexes = new ArrayList<>();
-		for (int i = 0; i < elements.size(); i++) {
-			if (elements.get(i).getLabel().toLowerCase().startsWith(prefix.toLowerCase())) {
-				matchingIndexes.add(Integer.valueOf(i));
-			}
-		}
-		int currentMatchIndex = 0;
-		int currentNonMatchIndex = matchingIndexes.size();
-		for (int i = 0; i < res.size(); i++) {
-			boolean isMatch = !matchingIndexes.isEmpty() && matchingIndexes.iterator().next().intValue() == i;
-			if (isMatch) {
-				matchingIndexes.remove(0);
-				res.set(currentMatchIndex, elements.get(i));
-				currentMatchIndex++;
-			} else {
-				res.set(currentNonMatchIndex, elements.get(i));
-				currentNonMatchIndex++;
-			}
-		}
-		return res;
-	}
-
 	Pattern categoryPattern;
 
 	/**
@@ -587,6 +749,11 @@ public abstract class QuickAccessContents {
 	}
 
 	private void doDispose() {
+		if (computeProposalsJob != null) {
+			// also cancels the jobs of the providers still computing their elements
+			computeProposalsJob.cancel();
+			computeProposalsJob = null;
+		}
 		if (textLayout != null && !textLayout.isDisposed()) {
 			textLayout.dispose();
 		}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.quickaccess;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.ui.internal.misc.CharacterSignature;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+
+/**
+ * An index of the elements of the quick access providers, used by
+ * {@link QuickAccessContents} to match the elements against the filter on each
+ * keystroke. For every element, the lower case labels and camel case initials
+ * used by {@link QuickAccessMatcher} are computed once, together with a
+ * signature of the characters the labels contain.
+ * <p>
+ * The elements of a provider are indexed again when the provider returns a
+ * different array of elements, reusing the labels of the elements which were
+ * already indexed.
+ * </p>
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class QuickAccessIndex {
+
+	/**
+	 * The characters of a filter which do not have to appear in the labels it
+	 * matches: white space, wildcards, parentheses and regular expression
+	 * operators, as the filter is turned into a regular expression by
+	 * {@link QuickAccessMatcher}.
+	 */
+	private static final String FILTER_OPERATORS = " \t*?().+^$"; //$NON-NLS-1$
+
+	/**
+	 * The characters which give a filter a regular expression meaning that may
+	 * match characters not contained in the filter.
+	 */
+	private static final String FILTER_CLASSES = "\\[]{}|"; //$NON-NLS-1$
+
+	/**
+	 * The labels of an element, as used for matching.
+	 */
+	static final class Labels {
+		final String label;
+		final String matchLabel;
+		final String lowerLabel;
+		final String lowerMatchLabel;
+		final String camelCase;
+		final long signature;
+
+		Labels(QuickAccessElement element, String providerName) {
+			label = element.getLabel();
+			matchLabel = element.getMatchLabel();
+			lowerLabel = label.toLowerCase();
+			lowerMatchLabel = matchLabel.toLowerCase();
+			camelCase = CamelUtil.getCamelCase(label);
+			signature = CharacterSignature.of(label) | CharacterSignature.of(matchLabel)
+					| CharacterSignature.of(lowerLabel) | CharacterSignature.of(lowerMatchLabel)
+					| CharacterSignature.of(providerName) | CharacterSignature.of(providerName.toLowerCase());
+		}
+	}
+
+	private static final class Segment {
+		final QuickAccessElement[] elements;
+		final Map<QuickAccessElement, Labels> labels;
+
+		Segment(QuickAccessElement[] elements, Map<QuickAccessElement, Labels> labels) {
+			this.elements = elements;
+			this.labels = labels;
+		}
+	}
+
+	private final Map<QuickAccessProvider, Segment> segments = new IdentityHashMap<>();
+
+	/**
+	 * Returns the elements which may match the given filter, in the order of the
+	 * given elements except that the elements whose label starts with the filter
+	 * come first.
+	 *
+	 * @param provider       the provider of the elements
+	 * @param sortedElements the elements of the provider
+	 * @param filter         the filter, not empty
+	 * @return the candidate elements
+	 */
+	public List<QuickAccessElement> getCandidates(QuickAccessProvider provider, QuickAccessElement[] sortedElements,
+			String filter) {
+		Segment segment = getSegment(provider, sortedElements);
+		long required = filterSignature(filter);
+		String prefix = filter.toLowerCase();
+		List<QuickAccessElement> prefixMatches = new ArrayList<>();
+		List<QuickAccessElement> others = new ArrayList<>();
+		for (QuickAccessElement element : sortedElements) {
+			Labels labels = segment.labels.get(element);
+			if ((labels.signature & required) != required) {
+				continue;
+			}
+			if (labels.lowerLabel.startsWith(prefix)) {
+				prefixMatches.add(element);
+			} else {
+				others.add(element);
+			}
+		}
+		prefixMatches.addAll(others);
+		return prefixMatches;
+	}
+
+	/**
+	 * Matches an element returned by
+	 * {@link #getCandidates(QuickAccessProvider, QuickAccessElement[], String)}
+	 * against the filter.
+	 *
+	 * @param element  the element
+	 * @param provider the provider of the element
+	 * @param filter   the filter
+	 * @return a quick access entry or <code>null</code>
+	 */
+	public QuickAccessEntry match(QuickAccessElement element, QuickAccessProvider provider, String filter) {
+		Labels labels;
+		synchronized (segments) {
+			Segment segment = segments.get(provider);
+			labels = segment != null ? segment.labels.get(element) : null;
+		}
+		return new QuickAccessMatcher(element, labels).match(filter, provider);
+	}
+
+	private Segment getSegment(QuickAccessProvider provider, QuickAccessElement[] elements) {
+		synchronized (segments) {
+			Segment segment = segments.get(provider);
+			if (segment != null && segment.elements == elements) {
+				return segment;
+			}
+			String providerName = provider.getName();
+			Map<QuickAccessElement, Labels> labels = new IdentityHashMap<>(elements.length);
+			for (QuickAccessElement element : elements) {
+				Labels known = segment != null ? segment.labels.get(element) : null;
+				labels.put(element, known != null ? known : new Labels(element, providerName));
+			}
+			segment = new Segment(elements, labels);
+			segments.put(provider, segment);
+			return segment;
+		}
+	}
+
+	/**
+	 * @return the signature of the characters every label matching the given
+	 *         filter contains
+	 */
+	static long filterSignature(String filter) {
+		for (int i = 0; i < filter.length(); i++) {
+			if (FILTER_CLASSES.indexOf(filter.charAt(i)) != -1) {
+				return 0;
+			}
+		}
+		return CharacterSignature.ofPattern(filter, FILTER_OPERATORS);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,19 @@ public final class QuickAccessMatcher {
 
 	private final QuickAccessElement element;
 
+	/**
+	 * The labels of the element computed by the {@link QuickAccessIndex}, or
+	 * <code>null</code>.
+	 */
+	private final QuickAccessIndex.Labels labels;
+
 	public QuickAccessMatcher(QuickAccessElement element) {
+		this(element, null);
+	}
+
+	QuickAccessMatcher(QuickAccessElement element, QuickAccessIndex.Labels labels) {
 		this.element = element;
+		this.labels = labels;
 	}
 
 	private static final int[][] EMPTY_INDICES = new int[0][0];
@@ -42,9 +53,23 @@ public final class QuickAccessMatcher {
 	private static final String PAR_END = "\\)"; //$NON-NLS-1$
 	private static final String ONE_CHAR = ".?"; //$NON-NLS-1$
 
-	// whitespaces filter and patterns
-	private String wsFilter;
-	private Pattern wsPattern;
+	/**
+	 * A filter and the pattern compiled from it. The last compiled patterns are
+	 * shared by all matchers, as the elements are matched against the same filter
+	 * on each keystroke.
+	 */
+	private static final class CompiledFilter {
+		final String filter;
+		final Pattern pattern;
+
+		CompiledFilter(String filter, Pattern pattern) {
+			this.filter = filter;
+			this.pattern = pattern;
+		}
+	}
+
+	// whitespaces filter and pattern
+	private static volatile CompiledFilter wsCompiledFilter;
 
 	/**
 	 * Get the existing {@link Pattern} for the given filter, or create a new one.
@@ -53,20 +78,20 @@ public final class QuickAccessMatcher {
 	 * @param filter
 	 * @return
 	 */
-	private Pattern getWhitespacesPattern(String filter) {
-		if (wsPattern == null || !filter.equals(wsFilter)) {
-			wsFilter = filter;
+	private static Pattern getWhitespacesPattern(String filter) {
+		CompiledFilter compiled = wsCompiledFilter;
+		if (compiled == null || !filter.equals(compiled.filter)) {
 			String sFilter = filter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
 					.replaceAll(PAR_START, ONE_CHAR).replaceAll(PAR_END, ONE_CHAR);
 			sFilter = String.format(".*(%s).*", sFilter.replaceAll(ANY_WS, ").*(")); //$NON-NLS-1$//$NON-NLS-2$
-			wsPattern = safeCompile(sFilter);
+			compiled = new CompiledFilter(filter, safeCompile(sFilter));
+			wsCompiledFilter = compiled;
 		}
-		return wsPattern;
+		return compiled.pattern;
 	}
 
-	// wildcard filter and patterns
-	private String wcFilter;
-	private Pattern wcPattern;
+	// wildcard filter and pattern
+	private static volatile CompiledFilter wcCompiledFilter;
 
 	/**
 	 * Get the existing {@link Pattern} for the given filter, or create a new one.
@@ -75,11 +100,11 @@ public final class QuickAccessMatcher {
 	 * @param filter
 	 * @return
 	 */
-	private Pattern getWildcardsPattern(String filter) {
+	private static Pattern getWildcardsPattern(String filter) {
 		// squash consecutive **** into a single *
 		filter = filter.replaceAll("\\*+", "*"); //$NON-NLS-1$ //$NON-NLS-2$
-		if (wcPattern == null || !filter.equals(wcFilter)) {
-			wcFilter = filter;
+		CompiledFilter compiled = wcCompiledFilter;
+		if (compiled == null || !filter.equals(compiled.filter)) {
 			String sFilter = filter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
 					.replaceAll(PAR_START, ONE_CHAR).replaceAll(PAR_END, ONE_CHAR);
 			// replace '*' and '?' with their matchers ").*(" and ").?("
@@ -105,9 +130,10 @@ public final class QuickAccessMatcher {
 			// remove empty capturing groups
 			sFilter = sFilter.replace("()", EMPTY_STR); //$NON-NLS-1$
 			//
-			wcPattern = safeCompile(sFilter);
+			compiled = new CompiledFilter(filter, safeCompile(sFilter));
+			wcCompiledFilter = compiled;
 		}
-		return wcPattern;
+		return compiled.pattern;
 	}
 
 	/**
@@ -139,14 +165,16 @@ public final class QuickAccessMatcher {
 	 * @noreference This method is not intended to be referenced by clients.
 	 */
 	public QuickAccessEntry match(String filter, QuickAccessProvider providerForMatching) {
-		String matchLabel = element.getMatchLabel();
+		String label = labels != null ? labels.label : element.getLabel();
+		String matchLabel = labels != null ? labels.matchLabel : element.getMatchLabel();
+		String lowerMatchLabel = labels != null ? labels.lowerMatchLabel : matchLabel.toLowerCase();
 		// first occurrence of filter
-		int index = matchLabel.toLowerCase().indexOf(filter);
+		int index = lowerMatchLabel.indexOf(filter);
 		if (index != -1) {
-			index = element.getLabel().toLowerCase().indexOf(filter);
+			index = (labels != null ? labels.lowerLabel : label.toLowerCase()).indexOf(filter);
 			if (index != -1) { // match actual label
-				int quality = matchLabel.toLowerCase().equals(filter) ? QuickAccessEntry.MATCH_PERFECT
-						: (matchLabel.toLowerCase().startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
+				int quality = lowerMatchLabel.equals(filter) ? QuickAccessEntry.MATCH_PERFECT
+						: (lowerMatchLabel.startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
 								: QuickAccessEntry.MATCH_GOOD);
 				return new QuickAccessEntry(element, providerForMatching,
 						new int[][] { { index, index + filter.length() - 1 } }, EMPTY_INDICES, quality);
@@ -167,9 +195,8 @@ public final class QuickAccessMatcher {
 		// if matches, return an entry
 		if (m.matches()) {
 			// and highlight match on the label only
-			String label = element.getLabel();
 			if (!matchLabel.equals(label)) {
-				m = p.matcher(element.getLabel());
+				m = p.matcher(label);
 				if (!m.matches()) {
 					return new QuickAccessEntry(element, providerForMatching, EMPTY_INDICES, EMPTY_INDICES,
 							QuickAccessEntry.MATCH_GOOD);
@@ -187,8 +214,8 @@ public final class QuickAccessMatcher {
 			return new QuickAccessEntry(element, providerForMatching, indices, EMPTY_INDICES, quality);
 		}
 		//
-		String combinedMatchLabel = (providerForMatching.getName() + " " + element.getMatchLabel()); //$NON-NLS-1$
-		String combinedLabel = (providerForMatching.getName() + " " + element.getLabel()); //$NON-NLS-1$
+		String combinedMatchLabel = (providerForMatching.getName() + " " + matchLabel); //$NON-NLS-1$
+		String combinedLabel = (providerForMatching.getName() + " " + label); //$NON-NLS-1$
 		index = combinedMatchLabel.toLowerCase().indexOf(filter);
 		if (index != -1) { // match
 			index = combinedLabel.toLowerCase().indexOf(filter);
@@ -206,7 +233,8 @@ public final class QuickAccessMatcher {
 					QuickAccessEntry.MATCH_PARTIAL);
 		}
 		//
-		String camelCase = CamelUtil.getCamelCase(element.getLabel()); // use actual label for camelcase
+		// use actual label for camelcase
+		String camelCase = labels != null ? labels.camelCase : CamelUtil.getCamelCase(label);
 		index = camelCase.indexOf(filter);
 		if (index != -1) {
 			int[][] indices = CamelUtil.getCamelCaseIndices(matchLabel, index, filter.length());
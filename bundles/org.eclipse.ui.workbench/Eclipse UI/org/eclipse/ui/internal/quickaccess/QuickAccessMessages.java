@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,7 @@ public class QuickAccessMessages extends NLS {
 	public static String QuickAccessContents_activate;
 	public static String QuickAccessContents_computeMatchingEntries_displayFeedback_jobName;
 	public static String QuickaAcessContents_computeMatchingEntries;
+	public static String QuickAccessContents_processingProvider;
 	public static String QuickAccessContents_processingProviderInUI;
 
 	static {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2023 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -190,6 +191,24 @@ public class BindingTableTests {
 		assertFalse(table.isPartialMatch(ctrl8));
 	}
 
+	@Test
+	public void testPartialMatchAfterRemove() throws Exception {
+		BindingTable table = loadTable(ID_DIALOG_AND_WINDOW);
+		Binding about = getTestBinding(ABOUT_ID);
+		KeySequence ctrl5 = KeySequence.getInstance("CTRL+5");
+		assertEquals(about, table.getPerfectMatch(KeySequence.getInstance("CTRL+5 A")));
+		assertEquals(List.of(about), new ArrayList<>(table.getPartialMatches(ctrl5)));
+
+		table.removeBinding(about);
+		assertNull(table.getPerfectMatch(KeySequence.getInstance("CTRL+5 A")));
+		assertFalse(table.isPartialMatch(ctrl5));
+		assertNull(table.getPartialMatches(ctrl5));
+
+		table.addBinding(about);
+		assertTrue(table.isPartialMatch(ctrl5));
+		assertFalse(table.isPartialMatch(KeySequence.getInstance("CTRL+5 A")));
+	}
+
 	@Test
 	public void testContextSet() {
 		BindingTableManager manager = ContextInjectionFactory.make(BindingTableManager.class, workbenchContext);
@@ -366,6 +385,30 @@ public class BindingTableTests {
 		assertEquals(about, it.next());
 	}
 
+	@Test
+	public void testManagerTablesChangeAfterLookup() throws Exception {
+		IEclipseContext context = workbenchContext.createChild("testManagerTablesChangeAfterLookup");
+		BindingTableManager manager = ContextInjectionFactory.make(BindingTableManager.class, context);
+		BindingTable windowTable = loadTable(ID_WINDOW);
+		manager.addTable(loadTable(ID_DIALOG_AND_WINDOW));
+		Binding paste = getTestBinding(PASTE_ID);
+		ContextSet javaSet = createJavaSet(manager);
+
+		assertNull(manager.getPerfectMatch(javaSet, paste.getTriggerSequence()));
+		int invalidations = manager.getInvalidationCount();
+
+		manager.addTable(windowTable);
+		assertEquals(invalidations + 1, manager.getInvalidationCount());
+		assertEquals(paste, manager.getPerfectMatch(javaSet, paste.getTriggerSequence()));
+		assertEquals(paste, manager.getPerfectMatch(createJavaSet(manager), paste.getTriggerSequence()));
+		assertEquals(invalidations + 1, manager.getInvalidationCount());
+
+		manager.removeTable(windowTable);
+		assertEquals(invalidations + 2, manager.getInvalidationCount());
+		assertNull(manager.getPerfectMatch(javaSet, paste.getTriggerSequence()));
+		context.dispose();
+	}
+
 	private BindingTable loadTable(String contextId) {
 		Context context = contextManager.getContext(contextId);
 		BindingTable table = new BindingTable(context);
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.css.CSSRuleList;
+import org.w3c.dom.css.CSSStyleRule;
+import org.w3c.dom.css.CSSStyleSheet;
+
+public class CSSStyleSheetCacheTest {
+
+	private static final String CSS = "Shell, .MPartStack.active > CTabFolder#id:selected {\n" //
+			+ "  background-color: #FF0000 rgb(0, 128, 255);\n" //
+			+ "  swt-corner-radius: 4px;\n" //
+			+ "  font: 'Segoe UI' 9.5pt italic !important;\n" //
+			+ "  swt-tab-renderer: url('bundleclass://a.b/c.D');\n" //
+			+ "  padding: 1 2 3 4;\n" //
+			+ "}\n" //
+			+ "Label[style~='SWT.WRAP'] Text:focus { color: inherit; margin: 50%; }\n";
+
+	private static class TestCSSEngine extends CSSEngineImpl {
+		@Override
+		public void reapply() {
+		}
+	}
+
+	@TempDir
+	File cacheDirectory;
+
+	private TestCSSEngine engine;
+
+	@BeforeEach
+	public void setUp() {
+		engine = new TestCSSEngine();
+		engine.setStyleSheetCacheLocation(cacheDirectory);
+	}
+
+	@Test
+	void testReplayedStyleSheetEqualsParsedStyleSheet() throws Exception {
+		String expected = toText((CSSStyleSheet) new TestCSSEngine().parseStyleSheet(new StringReader(CSS)));
+
+		String recorded = toText((CSSStyleSheet) engine.parseStyleSheet(new StringReader(CSS)));
+		assertEquals(1, cacheFiles().length);
+
+		String replayed = toText((CSSStyleSheet) engine.parseStyleSheet(new StringReader(CSS)));
+		assertEquals(1, cacheFiles().length);
+
+		assertEquals(expected, recorded);
+		assertEquals(expected, replayed);
+	}
+
+	@Test
+	void testChangedStyleSheetIsParsedAgain() throws Exception {
+		engine.parseStyleSheet(new StringReader("Shell { color: red; }"));
+		CSSStyleSheet styleSheet = (CSSStyleSheet) engine.parseStyleSheet(new StringReader("Shell { color: blue; }"));
+
+		assertEquals(2, cacheFiles().length);
+		assertEquals("blue", ((CSSStyleRule) styleSheet.getCssRules().item(0)).getStyle().getPropertyCSSValue("color")
+				.getCssText());
+	}
+
+	@Test
+	void testCorruptedCacheFileIsIgnored() throws Exception {
+		engine.parseStyleSheet(new StringReader(CSS));
+		File[] files = cacheFiles();
+		assertEquals(1, files.length);
+		Files.write(files[0].toPath(), new byte[] { 1, 2, 3 });
+
+		CSSStyleSheet styleSheet = (CSSStyleSheet) engine.parseStyleSheet(new StringReader(CSS));
+
+		assertEquals(toText((CSSStyleSheet) new TestCSSEngine().parseStyleSheet(new StringReader(CSS))),
+				toText(styleSheet));
+		assertTrue(files[0].length() > 3, "the corrupted file must be written again");
+	}
+
+	private File[] cacheFiles() {
+		return cacheDirectory.listFiles((dir, name) -> name.endsWith(".bin"));
+	}
+
+	private static String toText(CSSStyleSheet styleSheet) throws IOException {
+		StringBuilder builder = new StringBuilder();
+		CSSRuleList rules = styleSheet.getCssRules();
+		for (int i = 0; i < rules.getLength(); i++) {
+			CSSStyleRule rule = (CSSStyleRule) rules.item(i);
+			builder.append(rule.getSelectorText()).append(" {");
+			for (int j = 0; j < rule.getStyle().getLength(); j++) {
+				String property = rule.getStyle().item(j);
+				builder.append(' ').append(property).append(": ")
+				.append(rule.getStyle().getPropertyCSSValue(property).getCssText())
+				.append(rule.getStyle().getPropertyPriority(property)).append(';');
+			}
+			builder.append(" }\n");
+		}
+		return builder.toString();
+	}
+}
@@ -16,17 +16,23 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.tests.css.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
+import org.eclipse.e4.ui.css.core.dom.properties.ICSSPropertyHandler;
 import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
 import org.eclipse.e4.ui.tests.css.core.util.TestElement;
 import org.junit.jupiter.api.Test;
 import org.w3c.css.sac.Selector;
 import org.w3c.css.sac.SelectorList;
 import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSValue;
 
 class CSSEngineTest {
 
@@ -81,6 +87,37 @@ class CSSEngineTest {
 	}
 
 
+	@Test
+	void testComputedStyleSharedBetweenSameSignature() throws Exception {
+		List<String> applied = new ArrayList<>();
+		TestCSSEngine engine = new TestCSSEngine() {
+			@Override
+			public ICSSPropertyHandler applyCSSProperty(Object element, String property, CSSValue value,
+					String pseudo) throws Exception {
+				applied.add(((Element) element).getAttribute("a") + ":" + value.getCssText());
+				return null;
+			}
+		};
+		engine.setElementProvider((element, aEngine) -> {
+			Element e = new TestElement("E", aEngine);
+			e.setAttribute("a", element.toString().substring(0, 1));
+			return e;
+		});
+		engine.parseStyleSheet(new StringReader("E { color: blue; }\nE[a='X'] { color: red; }"));
+
+		engine.applyStyles("X1", false);
+		engine.applyStyles("Y1", false);
+		engine.applyStyles("X2", false);
+		assertEquals(List.of("X:red", "Y:blue", "X:red"), applied);
+
+		// a new stylesheet must flush the cached styles
+		applied.clear();
+		engine.parseStyleSheet(new StringReader("E[a='X'] { color: green; }"));
+		engine.applyStyles("X3", false);
+		engine.applyStyles("Y2", false);
+		assertEquals(List.of("X:green", "Y:blue"), applied);
+	}
+
 	private TestCSSEngine engineWhichProducesElementsWithAttributeA() {
 		TestCSSEngine engine = new TestCSSEngine();
 		engine.setElementProvider((element, aEngine) -> {
@@ -120,6 +120,36 @@ public class ViewCSSTest {
 		assertEquals("color: blue;", buttonStyle.getCssText());
 	}
 
+	@Test
+	void testIndexedSelectorsKeepRuleOrder() throws Exception {
+		String css = "Shell > * > * { color: red; }\n" + ".primary { color: green; }\n" + "Button { color: blue; }\n"
+				+ "#okButton { font-weight: bold; }\n" + "Composite Button.primary { color: yellow; }\n";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement composite = new TestElement("Composite", shell, engine);
+		final TestElement button = new TestElement("Button", composite, engine);
+		button.setClass("default primary");
+		button.setId("okButton");
+
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals(2, buttonStyle.getLength());
+		assertEquals("yellow", buttonStyle.getPropertyValue("color"));
+		assertEquals("bold", buttonStyle.getPropertyValue("font-weight"));
+
+		button.setClass("default");
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("blue", buttonStyle.getPropertyValue("color"));
+
+		button.setId(null);
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals(1, buttonStyle.getLength());
+
+		final TestElement label = new TestElement("Label", shell, engine);
+		assertNull(viewCSS.getComputedStyle(label, null));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testRuleCaching() throws Exception {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This
  * program and the accompanying materials are made available under the terms of
@@ -15,6 +15,8 @@
 package org.eclipse.e4.ui.css.core.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -62,6 +64,55 @@ public class SWTResourcesRegistryTest {
 		assertTrue(resources.containsKey("key1"));
 	}
 
+	@Test
+	void testHitAndMissCounters() {
+		SWTResourcesRegistry registry = new SWTResourcesRegistry(null);
+		Object resource = new Object();
+
+		assertNull(registry.getResource(Font.class, "key"));
+		registry.registerResource(Font.class, "key", resource);
+		assertSame(resource, registry.getResource(Font.class, "key"));
+		assertSame(resource, registry.getResource(Font.class, "key"));
+
+		assertEquals(2, registry.getHitCount());
+		assertEquals(1, registry.getMissCount());
+	}
+
+	@Test
+	void testLeastRecentlyUsedResourcesAreEvicted() {
+		SWTResourcesRegistryTestable registry = new SWTResourcesRegistryTestable();
+		registry.registerResource(Font.class, "first", new Object());
+		registry.registerResource(Font.class, "second", new Object());
+		// make "first" the most recently used resource
+		registry.getResource(Font.class, "first");
+
+		int size = 2;
+		while (registry.getEvictionCount() == 0) {
+			registry.registerResource(Font.class, "key" + size++, new Object());
+		}
+
+		Map<Object, Object> resources = registry.getCacheByType(Font.class);
+		assertEquals(size - 1, resources.size());
+		assertTrue(resources.containsKey("first"));
+		assertNull(registry.getResource(Font.class, "second"));
+	}
+
+	@Test
+	void testUnregisterResource() {
+		SWTResourcesRegistry registry = new SWTResourcesRegistry(null);
+		Font resource = mock(Font.class);
+		registry.registerResource(Font.class, "key1", resource);
+		registry.registerResource(Font.class, "key2", resource);
+		registry.registerResource(Font.class, "key3", new Object());
+
+		registry.unregisterResource(Font.class, "key3");
+		assertNull(registry.getResource(Font.class, "key3"));
+
+		registry.unregisterResource(resource);
+		assertNull(registry.getResource(Font.class, "key1"));
+		assertNull(registry.getResource(Font.class, "key2"));
+	}
+
 	public static class SWTResourcesRegistryTestable extends SWTResourcesRegistry {
 		public SWTResourcesRegistryTestable() {
 			super(null);
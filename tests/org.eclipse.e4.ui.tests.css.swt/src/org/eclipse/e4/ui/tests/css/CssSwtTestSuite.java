@@ -41,6 +41,7 @@ import org.eclipse.e4.ui.tests.css.swt.FontDefinitionTest;
 import org.eclipse.e4.ui.tests.css.swt.GradientTest;
 import org.eclipse.e4.ui.tests.css.swt.IEclipsePreferencesTest;
 import org.eclipse.e4.ui.tests.css.swt.IdClassLabelColorTest;
+import org.eclipse.e4.ui.tests.css.swt.IncrementalRestyleTest;
 import org.eclipse.e4.ui.tests.css.swt.InheritTest;
 import org.eclipse.e4.ui.tests.css.swt.InnerClassElementTest;
 import org.eclipse.e4.ui.tests.css.swt.LabelTest;
@@ -69,7 +70,7 @@ import org.junit.platform.suite.api.Suite;
 		ButtonTextTransformTest.class, LabelTextTransformTest.class, TextTextTransformTest.class, DescendentTest.class,
 		ThemeTest.class, Bug459961Test.class, Bug419482Test.class, ShellActiveTest.class, InheritTest.class,
 		TableTest.class, TreeTest.class, TabbedPropertiesListTest.class, TabbedPropertiesTitleTest.class,
-		ExpandableCompositeTest.class, SectionTest.class })
+		ExpandableCompositeTest.class, SectionTest.class, IncrementalRestyleTest.class })
 public class CssSwtTestSuite {
 
 }
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Tests the deferred restyling of CSSSWTEngineImpl.applyStylesLater
+ */
+public class IncrementalRestyleTest extends CSSSWTTestCase {
+
+	private static final String CSS = ".red { background-color: #FF0000 } .green { background-color: #00FF00 }\n"
+			+ ".alsoRed { background-color: #FF0000 }";
+
+	private Label createStyledLabel() {
+		engine = createEngine(CSS, display);
+
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Composite panel = new Composite(shell, SWT.NONE);
+		panel.setLayout(new FillLayout());
+		Label label = new Label(panel, SWT.NONE);
+		WidgetElement.setCSSClass(label, "red");
+
+		engine.applyStyles(shell, true);
+		return label;
+	}
+
+	private void spinEventLoop() {
+		while (display.readAndDispatch()) {
+			// process the pending restyle requests
+		}
+	}
+
+	@Test
+	void testRestyleIsDeferredToEventLoop() {
+		Label label = createStyledLabel();
+		assertEquals(RED, label.getBackground().getRGB());
+
+		WidgetElement.setCSSClass(label, "green");
+		((CSSSWTEngineImpl) engine).applyStylesLater(label.getParent(), true);
+		((CSSSWTEngineImpl) engine).applyStylesLater(label, false);
+		assertEquals(RED, label.getBackground().getRGB());
+
+		spinEventLoop();
+		assertEquals(GREEN, label.getBackground().getRGB());
+	}
+
+	@Test
+	void testUnchangedValuesAreNotReapplied() {
+		Label label = createStyledLabel();
+		Color blue = display.getSystemColor(SWT.COLOR_BLUE);
+		label.setBackground(blue);
+
+		// same resolved background color, the property is not applied again
+		WidgetElement.setCSSClass(label, "alsoRed");
+		((CSSSWTEngineImpl) engine).applyStylesLater(label, false);
+		spinEventLoop();
+		assertEquals(BLUE, label.getBackground().getRGB());
+
+		WidgetElement.setCSSClass(label, "green");
+		((CSSSWTEngineImpl) engine).applyStylesLater(label, false);
+		spinEventLoop();
+		assertEquals(GREEN, label.getBackground().getRGB());
+	}
+
+	@Test
+	void testDisposedResourcesAreReapplied() throws Exception {
+		Label label = createStyledLabel();
+
+		// the color converted from the CSS value of the label is disposed
+		Color red = (Color) engine.convert(engine.parsePropertyValue("#FF0000"), Color.class, display);
+		red.dispose();
+		label.setBackground(display.getSystemColor(SWT.COLOR_BLUE));
+
+		((CSSSWTEngineImpl) engine).applyStylesLater(label, false);
+		spinEventLoop();
+		assertEquals(RED, label.getBackground().getRGB());
+	}
+
+	@Test
+	void testExplicitRestyleSupersedesPendingRequest() {
+		Label label = createStyledLabel();
+
+		WidgetElement.setCSSClass(label, "green");
+		((CSSSWTEngineImpl) engine).applyStylesLater(label, false);
+		engine.applyStyles(label, false);
+		assertEquals(GREEN, label.getBackground().getRGB());
+
+		// the pending request was dropped, so this manual change survives
+		label.setBackground(display.getSystemColor(SWT.COLOR_BLUE));
+		spinEventLoop();
+		assertEquals(BLUE, label.getBackground().getRGB());
+	}
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.services.internal.events.UIEventDispatcher;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTags;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Tests of the in-process dispatch of the UI model events
+ */
+public class UIEventDispatcherTest {
+
+	private static final String LABEL_SET = UIEvents.UILabel.TOPIC_LABEL.replace(UIEvents.ALL_SUB_TOPICS,
+			UIEvents.EventTypes.SET);
+	private static final String CHILDREN_ADD = UIEvents.ElementContainer.TOPIC_CHILDREN
+			.replace(UIEvents.ALL_SUB_TOPICS, UIEvents.EventTypes.ADD);
+
+	private final List<Runnable> asyncRunnables = new ArrayList<>();
+
+	private final UISynchronize uiSync = new UISynchronize() {
+		@Override
+		public void syncExec(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public void asyncExec(Runnable runnable) {
+			asyncRunnables.add(runnable);
+		}
+
+		@Override
+		protected boolean isUIThread(Thread thread) {
+			return true;
+		}
+
+		@Override
+		protected void showBusyWhile(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		protected boolean dispatchEvents() {
+			return false;
+		}
+	};
+
+	private UIEventDispatcher dispatcher;
+
+	private List<Event> received;
+
+	@Before
+	public void setUp() {
+		dispatcher = new UIEventDispatcher();
+		received = new ArrayList<>();
+	}
+
+	@Test
+	public void testTopicWildcards() throws Exception {
+		List<String> seen = new ArrayList<>();
+		dispatcher.subscribe("*", null, e -> seen.add("*"), this, null, null);
+		dispatcher.subscribe(UIEvents.UILabel.TOPIC_ALL, null, e -> seen.add("uiLabel/*"), this, null, null);
+		dispatcher.subscribe(UIEvents.UILabel.TOPIC_LABEL, null, e -> seen.add("label/*"), this, null, null);
+		dispatcher.subscribe(LABEL_SET, null, e -> seen.add("set"), this, null, null);
+		dispatcher.subscribe(LABEL_SET.substring(0, LABEL_SET.lastIndexOf('/')), null, e -> seen.add("label"), this,
+				null, null);
+
+		dispatcher.send(new Event(LABEL_SET, new HashMap<>()));
+		assertEquals(List.of("*", "uiLabel/*", "label/*", "set"), seen);
+
+		seen.clear();
+		dispatcher.send(new Event(CHILDREN_ADD, new HashMap<>()));
+		assertEquals(List.of("*"), seen);
+	}
+
+	@Test
+	public void testFilterAndUnsubscribe() throws Exception {
+		EventHandler handler = received::add;
+		dispatcher.subscribe(LABEL_SET, "(" + EventTags.ATTNAME + "=label)", handler, this, handler, null);
+
+		dispatcher.send(createSetEvent(LABEL_SET, this, "label", "a", "b"));
+		dispatcher.send(createSetEvent(LABEL_SET, this, "iconURI", "a", "b"));
+		assertEquals(1, received.size());
+
+		dispatcher.unsubscribe(new Object(), handler);
+		dispatcher.send(createSetEvent(LABEL_SET, this, "label", "b", "c"));
+		assertEquals("another source must not remove the subscription", 2, received.size());
+
+		dispatcher.unsubscribe(this, handler);
+		dispatcher.send(createSetEvent(LABEL_SET, this, "label", "c", "d"));
+		assertEquals(2, received.size());
+	}
+
+	@Test
+	public void testPostedSetEventsAreCoalesced() throws Exception {
+		Object element = new Object();
+		Object otherElement = new Object();
+		dispatcher.subscribe("*", null, received::add, this, null, null);
+
+		dispatcher.post(createSetEvent(LABEL_SET, element, "label", "a", "b"), uiSync);
+		dispatcher.post(createSetEvent(LABEL_SET, otherElement, "label", "x", "y"), uiSync);
+		dispatcher.post(createSetEvent(LABEL_SET, element, "label", "b", "c"), uiSync);
+		dispatcher.post(createSetEvent(CHILDREN_ADD, element, "children", null, "1"), uiSync);
+		dispatcher.post(createSetEvent(CHILDREN_ADD, element, "children", null, "2"), uiSync);
+		assertEquals(0, received.size());
+		assertEquals("one flush per event loop turn", 1, asyncRunnables.size());
+
+		asyncRunnables.remove(0).run();
+
+		assertEquals(4, received.size());
+		Event coalesced = received.get(0);
+		assertEquals(element, coalesced.getProperty(EventTags.ELEMENT));
+		assertEquals("a", coalesced.getProperty(EventTags.OLD_VALUE));
+		assertEquals("c", coalesced.getProperty(EventTags.NEW_VALUE));
+		assertEquals("a", ((Map<?, ?>) coalesced.getProperty(IEventBroker.DATA)).get(EventTags.OLD_VALUE));
+		assertEquals("the coalesced event keeps its position", otherElement,
+				received.get(1).getProperty(EventTags.ELEMENT));
+		assertEquals("1", received.get(2).getProperty(EventTags.NEW_VALUE));
+		assertEquals("2", received.get(3).getProperty(EventTags.NEW_VALUE));
+
+		UIEventDispatcher.TopicStatistics statistics = dispatcher.getStatistics().get(LABEL_SET);
+		assertNotNull(statistics);
+		assertEquals(2, statistics.getCount());
+		assertEquals(1, statistics.getCoalescedCount());
+	}
+
+	private static Event createSetEvent(String topic, Object element, String attribute, Object oldValue,
+			Object newValue) {
+		Map<String, Object> data = new HashMap<>();
+		data.put(EventTags.ELEMENT, element);
+		data.put(EventTags.ATTNAME, attribute);
+		data.put(EventTags.TYPE, topic.substring(topic.lastIndexOf('/') + 1));
+		if (oldValue != null) {
+			data.put(EventTags.OLD_VALUE, oldValue);
+		}
+		data.put(EventTags.NEW_VALUE, newValue);
+		Map<String, Object> properties = new HashMap<>(data);
+		properties.put(EventConstants.EVENT_TOPIC, topic);
+		properties.put(IEventBroker.DATA, data);
+		return new Event(topic, properties);
+	}
+}
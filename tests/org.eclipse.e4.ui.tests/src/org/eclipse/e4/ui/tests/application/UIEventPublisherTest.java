@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTags;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTypes;
+import org.eclipse.emf.common.notify.Notifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Tests of the recording mode of the {@link UIEventPublisher}
+ */
+public class UIEventPublisherTest {
+
+	private final List<String> topics = new ArrayList<>();
+	private final List<Map<?, ?>> events = new ArrayList<>();
+
+	private IEclipseContext context;
+	private UIEventPublisher publisher;
+	private MApplication application;
+	private MPartStack stack;
+
+	@Before
+	public void setUp() {
+		context = EclipseContextFactory.create();
+		context.set(IEventBroker.class, new IEventBroker() {
+			@Override
+			public boolean send(String topic, Object data) {
+				topics.add(topic);
+				events.add((Map<?, ?>) data);
+				return true;
+			}
+
+			@Override
+			public boolean post(String topic, Object data) {
+				return send(topic, data);
+			}
+
+			@Override
+			public boolean subscribe(String topic, EventHandler eventHandler) {
+				return false;
+			}
+
+			@Override
+			public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
+				return false;
+			}
+
+			@Override
+			public boolean unsubscribe(EventHandler eventHandler) {
+				return false;
+			}
+		});
+		application = MApplicationFactory.INSTANCE.createApplication();
+		MWindow window = MBasicFactory.INSTANCE.createWindow();
+		stack = MBasicFactory.INSTANCE.createPartStack();
+		window.getChildren().add(stack);
+		application.getChildren().add(window);
+		publisher = new UIEventPublisher(context);
+		((Notifier) application).eAdapters().add(publisher);
+	}
+
+	@After
+	public void tearDown() {
+		((Notifier) application).eAdapters().remove(publisher);
+		context.dispose();
+	}
+
+	@Test
+	public void testEventsAreSentWhenNotRecording() {
+		stack.getChildren().add(MBasicFactory.INSTANCE.createPart());
+		stack.getChildren().add(MBasicFactory.INSTANCE.createPart());
+
+		assertEquals(2, topics.size());
+		assertEquals(EventTypes.ADD, events.get(0).get(EventTags.TYPE));
+	}
+
+	@Test
+	public void testAdditionsAreMerged() {
+		MPart part1 = MBasicFactory.INSTANCE.createPart();
+		MPart part2 = MBasicFactory.INSTANCE.createPart();
+		MPart part3 = MBasicFactory.INSTANCE.createPart();
+
+		publisher.startRecording();
+		stack.getChildren().add(part1);
+		publisher.startRecording();
+		stack.getChildren().add(part2);
+		publisher.stopRecording();
+		stack.getChildren().add(part3);
+		assertTrue("events must not be sent by a nested recording", topics.isEmpty());
+		publisher.stopRecording();
+
+		assertEquals(List.of(UIEvents.ElementContainer.TOPIC_CHILDREN.replace(UIEvents.ALL_SUB_TOPICS,
+				EventTypes.ADD_MANY)), topics);
+		Map<?, ?> event = events.get(0);
+		assertEquals(stack, event.get(EventTags.ELEMENT));
+		assertEquals(List.of(part1, part2, part3), event.get(EventTags.NEW_VALUE));
+		assertEquals(0, event.get(EventTags.POSITION));
+	}
+
+	@Test
+	public void testRemovalAfterAdditionIsNotMerged() {
+		MPart part1 = MBasicFactory.INSTANCE.createPart();
+		MPart part2 = MBasicFactory.INSTANCE.createPart();
+
+		publisher.startRecording();
+		stack.getChildren().add(part1);
+		stack.getChildren().remove(part1);
+		stack.getChildren().add(part1);
+		stack.getChildren().add(part2);
+		stack.getChildren().remove(part1);
+		stack.getChildren().remove(part2);
+		publisher.stopRecording();
+
+		// the removals are not merged either, as each of them follows the
+		// parent change of the removed part
+		assertEquals(List.of(UIEvents.ElementContainer.CHILDREN, UIEvents.UIElement.PARENT,
+				UIEvents.ElementContainer.CHILDREN, UIEvents.ElementContainer.CHILDREN, UIEvents.UIElement.PARENT,
+				UIEvents.ElementContainer.CHILDREN, UIEvents.UIElement.PARENT, UIEvents.ElementContainer.CHILDREN),
+				getAttributeNames());
+		assertEquals(EventTypes.ADD, events.get(0).get(EventTags.TYPE));
+		assertEquals(EventTypes.REMOVE, events.get(2).get(EventTags.TYPE));
+		assertEquals(EventTypes.ADD_MANY, events.get(3).get(EventTags.TYPE));
+		assertEquals(List.of(part1, part2), events.get(3).get(EventTags.NEW_VALUE));
+		assertEquals(EventTypes.REMOVE, events.get(5).get(EventTags.TYPE));
+		assertEquals(EventTypes.REMOVE, events.get(7).get(EventTags.TYPE));
+	}
+
+	@Test
+	public void testRemovalsAreMerged() {
+		MPart part = MBasicFactory.INSTANCE.createPart();
+		part.getTags().addAll(List.of("a", "b", "c"));
+		stack.getChildren().add(part);
+		events.clear();
+		topics.clear();
+
+		publisher.startRecording();
+		part.getTags().remove("a");
+		part.getTags().remove("b");
+		publisher.stopRecording();
+
+		assertEquals(1, events.size());
+		assertEquals(EventTypes.REMOVE_MANY, events.get(0).get(EventTags.TYPE));
+		assertEquals(List.of("a", "b"), new ArrayList<>((Collection<?>) events.get(0).get(EventTags.OLD_VALUE)));
+	}
+
+	@Test
+	public void testAttributeChangesAreMerged() {
+		MPart part = MBasicFactory.INSTANCE.createPart();
+		part.setLabel("a");
+		stack.getChildren().add(part);
+		events.clear();
+		topics.clear();
+
+		publisher.startRecording();
+		part.setLabel("b");
+		part.setLabel("c");
+		part.setTooltip("tip");
+		part.setTooltip(null);
+		publisher.stopRecording();
+
+		assertEquals("the tooltip changes cancel out each other", 1, events.size());
+		assertEquals("a", events.get(0).get(EventTags.OLD_VALUE));
+		assertEquals("c", events.get(0).get(EventTags.NEW_VALUE));
+	}
+
+	@Test
+	public void testChangesAreNotMergedAcrossOtherFeatures() {
+		MPart part = MBasicFactory.INSTANCE.createPart();
+		part.setLabel("a");
+		stack.getChildren().add(part);
+		events.clear();
+		topics.clear();
+
+		publisher.startRecording();
+		part.setLabel("b");
+		part.setTooltip("tip");
+		part.setLabel("c");
+		publisher.stopRecording();
+
+		assertEquals(List.of(UIEvents.UILabel.LABEL, UIEvents.UILabel.TOOLTIP, UIEvents.UILabel.LABEL),
+				getAttributeNames());
+		assertEquals("b", events.get(0).get(EventTags.NEW_VALUE));
+		assertEquals("c", events.get(2).get(EventTags.NEW_VALUE));
+	}
+
+	@Test
+	public void testEventsOfOtherThreadsAreNotRecorded() throws InterruptedException {
+		MPart part = MBasicFactory.INSTANCE.createPart();
+		stack.getChildren().add(part);
+		events.clear();
+		topics.clear();
+
+		publisher.startRecording();
+		try {
+			part.setLabel("a");
+			AtomicBoolean recordingInThread = new AtomicBoolean(true);
+			Thread thread = new Thread(() -> {
+				recordingInThread.set(publisher.isRecording());
+				part.setTooltip("tip");
+			});
+			thread.start();
+			thread.join();
+
+			assertFalse(recordingInThread.get());
+			assertEquals(List.of(UIEvents.UILabel.TOOLTIP), getAttributeNames());
+		} finally {
+			publisher.stopRecording();
+		}
+		assertEquals(List.of(UIEvents.UILabel.TOOLTIP, UIEvents.UILabel.LABEL), getAttributeNames());
+	}
+
+	private List<Object> getAttributeNames() {
+		List<Object> attributeNames = new ArrayList<>();
+		for (Map<?, ?> event : events) {
+			attributeNames.add(event.get(EventTags.ATTNAME));
+		}
+		return attributeNames;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2017 IBM Corporation and others.
+ * Copyright (c) 2015, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -292,6 +292,26 @@ public class HandlerActivationTest {
 		assertTrue(testHandlerB.isExecuted());
 	}
 
+	@Test
+	public void testHandlersAddedAndRemovedInBulkMutation() {
+		assumeFalse("Test fails on Mac: Bug 537639", Platform.OS_MACOSX.equals(Platform.getOS()));
+
+		// the handlers are added with a single ADD_MANY event
+		TestHandler[] testHandlers = new TestHandler[2];
+		ems.runBulkMutation(() -> {
+			testHandlers[0] = createTestHandlerInHandlerContainer(partA1);
+			testHandlers[1] = createTestHandlerInHandlerContainer(partA1);
+		});
+		executeCommand();
+		assertTrue(testHandlers[0].isExecuted() || testHandlers[1].isExecuted());
+
+		// and removed with a single REMOVE_MANY event
+		ems.runBulkMutation(() -> partA1.getHandlers().clear());
+		TestHandler testHandler = createTestHandlerInHandlerContainer(window);
+		executeCommand();
+		assertTrue(testHandler.isExecuted());
+	}
+
 	private TestHandler createTestHandlerInHandlerContainer(MHandlerContainer handlerContainer) {
 		MHandler handler = ems.createModelElement(MHandler.class);
 		handler.setCommand(command);
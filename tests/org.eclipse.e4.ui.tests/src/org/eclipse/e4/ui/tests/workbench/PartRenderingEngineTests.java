@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -3232,4 +3232,39 @@ public class PartRenderingEngineTests {
 		modelService.removePerspectiveModel(perspectiveB, window);
 		assertNull(part.getCurSharedRef());
 	}
+
+	@Test
+	public void testRenderVisibleOnly() {
+		MWindow window = ems.createModelElement(MWindow.class);
+		window.getTags().add(IPresentationEngine.RENDER_VISIBLE_ONLY);
+		application.getChildren().add(window);
+		application.setSelectedElement(window);
+
+		MPartSashContainer sash = ems.createModelElement(MPartSashContainer.class);
+		window.getChildren().add(sash);
+		window.setSelectedElement(sash);
+
+		MPartStack visibleStack = ems.createModelElement(MPartStack.class);
+		visibleStack.getChildren().add(ems.createModelElement(MPart.class));
+		sash.getChildren().add(visibleStack);
+
+		MPartStack hiddenStack = ems.createModelElement(MPartStack.class);
+		MPart hiddenPart = ems.createModelElement(MPart.class);
+		hiddenStack.getChildren().add(hiddenPart);
+		hiddenStack.setSelectedElement(hiddenPart);
+		hiddenStack.setVisible(false);
+		sash.getChildren().add(hiddenStack);
+
+		contextRule.createAndRunWorkbench(window);
+
+		assertNotNull(visibleStack.getWidget());
+		assertNull(hiddenStack.getWidget());
+		assertNull(hiddenPart.getWidget());
+
+		hiddenStack.setVisible(true);
+		assertNotNull(hiddenStack.getWidget());
+		assertNotNull(hiddenPart.getWidget());
+		assertEquals(((Control) visibleStack.getWidget()).getParent(),
+				((Control) hiddenStack.getWidget()).getParent());
+	}
 }
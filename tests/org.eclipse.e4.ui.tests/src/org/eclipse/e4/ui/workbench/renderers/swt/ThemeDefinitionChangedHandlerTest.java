@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -28,6 +30,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.core.resources.IResourcesRegistry;
@@ -39,7 +42,9 @@ import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.workbench.renderers.swt.WBWRenderer.ThemeDefinitionChangedHandler;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Resource;
+import org.eclipse.swt.widgets.Display;
 import org.junit.Test;
 import org.osgi.service.event.Event;
 
@@ -103,6 +108,66 @@ public class ThemeDefinitionChangedHandlerTest {
 		verify(resource2, never()).dispose();
 	}
 
+	@Test
+	public void testHandleEventReleasesSharedFonts() throws Exception {
+		// given
+		final MApplication application = ApplicationFactoryImpl.eINSTANCE.createApplication();
+		application.getChildren().add(MBasicFactory.INSTANCE.createWindow());
+
+		HashMap<String, Object> params = new HashMap<>();
+		params.put(IEventBroker.DATA, application);
+
+		Event event = new Event("topic", params);
+
+		SWTResourcesRegistry registry = new SWTResourcesRegistry(Display.getDefault());
+		AtomicReference<Font> themeFont = new AtomicReference<>();
+		AtomicReference<FontData> themeFontData = new AtomicReference<>(new FontData("Sans", 31, 0));
+
+		// like the CSS font converter, applying the theme creates the font of
+		// the theme and registers it
+		CSSEngine engine = mock(CSSEngine.class);
+		doReturn(registry).when(engine).getResourcesRegistry();
+		doAnswer(invocation -> {
+			Font font = registry.createFont(themeFontData.get());
+			registry.registerResource(Font.class, new ResourceByDefinitionKey("font"), font);
+			themeFont.set(font);
+			return null;
+		}).when(engine).reapply();
+
+		ThemeDefinitionChangedHandlerTestable handler = spy(new ThemeDefinitionChangedHandlerTestable());
+		doReturn(engine).when(handler).getEngine(any(MWindow.class));
+
+		try {
+			engine.reapply();
+			Font firstFont = themeFont.get();
+
+			// when
+			themeFontData.set(new FontData("Sans", 32, 0));
+			handler.handleEvent(event);
+			Font secondFont = themeFont.get();
+
+			themeFontData.set(new FontData("Sans", 33, 0));
+			handler.handleEvent(event);
+			Font thirdFont = themeFont.get();
+
+			// then the fonts of the previous themes are kept until the handler
+			// is disposed, as widgets may still use them
+			assertFalse(firstFont.isDisposed());
+			assertFalse(secondFont.isDisposed());
+			assertEquals(Set.of(firstFont, secondFont), handler.getUnusedResources());
+
+			handler.dispose();
+			assertTrue(firstFont.isDisposed());
+			assertTrue(secondFont.isDisposed());
+			assertFalse(thirdFont.isDisposed());
+
+			registry.dispose();
+			assertTrue(thirdFont.isDisposed());
+		} finally {
+			registry.dispose();
+		}
+	}
+
 	@Test
 	public void testHandleEventWhenElementIsNotMApplication() throws Exception {
 		// given
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Google, Inc. and others.
+ * Copyright (c) 2015, 2026 Google, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -422,6 +422,39 @@ public class SideEffectTest extends AbstractDefaultRealmTestCase {
 		assertEquals(2, sideEffectInvocations);
 	}
 
+	@Test
+	public void testDependenciesAreUpdatedAcrossRuns() throws Exception {
+		WritableValue<String> sharedDependency = new WritableValue<>("", null);
+		ISideEffect.create(() -> {
+			sharedDependency.getValue();
+			if (useDefaultDependency.getValue()) {
+				defaultDependency.getValue();
+			} else {
+				alternateDependency.getValue();
+			}
+			sideEffectInvocations++;
+		});
+
+		for (int i = 0; i < 3; i++) {
+			sharedDependency.setValue("shared" + i);
+			runAsync();
+		}
+		assertEquals(4, sideEffectInvocations);
+
+		useDefaultDependency.setValue(false);
+		runAsync();
+		assertEquals(5, sideEffectInvocations);
+
+		defaultDependency.setValue("ignored");
+		runAsync();
+		assertEquals(5, sideEffectInvocations);
+
+		alternateDependency.setValue("tracked");
+		sharedDependency.setValue("tracked");
+		runAsync();
+		assertEquals(6, sideEffectInvocations);
+	}
+
 	// Doesn't currently work, but this would be a desirable property for
 	// SideEffect to have
 	// public void testInvalidateSelf() throws Exception {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -268,6 +269,73 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeListDiff_LargeLists() {
+		Random random = new Random(42);
+		for (int run = 0; run < 50; run++) {
+			List<Object> oldList = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				// duplicates and nulls on purpose
+				oldList.add(random.nextInt(10) == 0 ? null : Integer.valueOf(random.nextInt(300)));
+			}
+			List<Object> newList = new ArrayList<>(oldList);
+			for (int i = random.nextInt(50); i >= 0; i--) {
+				int change = random.nextInt(3);
+				if (change == 0) {
+					newList.add(random.nextInt(newList.size() + 1), Integer.valueOf(random.nextInt(300)));
+				} else if (change == 1 && !newList.isEmpty()) {
+					newList.remove(random.nextInt(newList.size()));
+				} else if (!newList.isEmpty()) {
+					newList.add(random.nextInt(newList.size()), newList.remove(random.nextInt(newList.size())));
+				}
+			}
+			checkComputedListDiff(oldList, newList);
+		}
+	}
+
+	@Test
+	public void testComputeListDiff_ApplyTo() {
+		Random random = new Random(7);
+		for (int run = 0; run < 5000; run++) {
+			List<Object> oldList = new ArrayList<>();
+			for (int i = 70 + random.nextInt(100); i > 0; i--) {
+				oldList.add(Integer.valueOf(random.nextInt(200)));
+			}
+			List<Object> newList = new ArrayList<>(oldList);
+			for (int i = random.nextInt(20); i >= 0; i--) {
+				int change = random.nextInt(3);
+				if (change == 0) {
+					newList.add(random.nextInt(newList.size() + 1), Integer.valueOf(random.nextInt(200)));
+				} else if (change == 1) {
+					newList.remove(random.nextInt(newList.size()));
+				} else {
+					newList.add(random.nextInt(newList.size()), newList.remove(random.nextInt(newList.size())));
+				}
+			}
+
+			// applyTo handles adjacent entries as replacements and moves
+			List<Object> list = new ArrayList<>(oldList);
+			Diffs.computeListDiff(oldList, newList).applyTo(list);
+			assertEquals("Applying diff to " + oldList, newList, list);
+		}
+	}
+
+	@Test
+	public void testComputeListDiff_LargeListMove() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			oldList.add("element" + i);
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.add(10, newList.remove(900));
+
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(2, diff.getDifferences().length);
+		assertEntry(diff.getDifferences()[0], false, 900, "element900");
+		assertEntry(diff.getDifferences()[1], true, 10, "element900");
+		checkComputedListDiff(oldList, newList);
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
 
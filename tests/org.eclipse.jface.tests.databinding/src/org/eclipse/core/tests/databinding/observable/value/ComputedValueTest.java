@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2007 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.value.ComputedValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
@@ -159,4 +160,32 @@ public class ComputedValueTest extends AbstractDefaultRealmTestCase {
 
 		assertThrows(UnsupportedOperationException.class, () -> cv.setValue(new Object()));
 	}
+
+	@Test
+	public void testTransactionFiresSingleConsistentEvent() throws Exception {
+		WritableValue<Integer> source = new WritableValue<>(Integer.valueOf(0), Integer.class);
+		IObservableValue<Integer> left = ComputedValue.create(() -> source.getValue() + 1);
+		IObservableValue<Integer> right = ComputedValue.create(() -> source.getValue() * 2);
+		int[] calculations = { 0 };
+		IObservableValue<Integer> sum = ComputedValue.create(() -> {
+			calculations[0]++;
+			return left.getValue() + right.getValue();
+		});
+
+		List<Integer> sums = new ArrayList<>();
+		List<Integer> sumsSeenByLeft = new ArrayList<>();
+		sum.addValueChangeListener(event -> sums.add(event.diff.getNewValue()));
+		left.addValueChangeListener(event -> sumsSeenByLeft.add(sum.getValue()));
+		assertEquals(1, calculations[0]);
+
+		Realm.getDefault().runInTransaction(() -> {
+			source.setValue(Integer.valueOf(1));
+			source.setValue(Integer.valueOf(2));
+			assertTrue("no events within the transaction", sums.isEmpty() && sumsSeenByLeft.isEmpty());
+		});
+
+		assertEquals(List.of(Integer.valueOf(7)), sums);
+		assertEquals("no outdated intermediate value", List.of(Integer.valueOf(7)), sumsSeenByLeft);
+		assertEquals(2, calculations[0]);
+	}
 }
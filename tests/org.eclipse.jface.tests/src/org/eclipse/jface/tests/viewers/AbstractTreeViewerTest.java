@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jface.tests.viewers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jface.viewers.AbstractTreeViewer;
@@ -310,6 +311,58 @@ public abstract class AbstractTreeViewerTest extends StructuredItemViewerTest {
 		assertEquals("Same element added to parent twice.", 3, tree.getItems().length);
 	}
 
+	public void testChildIsNotDuplicatedInWideParent() {
+		fTreeViewer.setComparator(new TestLabelComparator());
+		fRootElement.deleteChildren();
+
+		TestElement[] children = new TestElement[100];
+		for (int i = 0; i < children.length; i++) {
+			children[i] = fRootElement.basicAddChild();
+			children[i].setLabel(Integer.toString(i % 10));
+		}
+		fTreeViewer.refresh();
+
+		TestElement added = new TestElement(fRootElement.getModel(), fRootElement);
+		added.setLabel("5");
+		fRootElement.addChildren(new TestElement[] { children[5], added, children[42] },
+				new TestModelChange(TestModelChange.INSERT, fRootElement,
+						new TestElement[] { children[5], added, children[42] }));
+
+		Tree tree = (Tree) fTreeViewer.getControl();
+		assertEquals("Same element added to parent twice.", children.length + 1, tree.getItems().length);
+		// greater labels come first, the added element follows the equal ones
+		assertEquals("5", ((TestElement) tree.getItem(49).getData()).getLabel());
+		assertSame(added, tree.getItem(50).getData());
+		assertEquals("4", ((TestElement) tree.getItem(51).getData()).getLabel());
+	}
+
+	public void testRemoveManyWithoutHashlookup() {
+		fViewer.setInput(null);
+		fViewer.setUseHashlookup(false);
+		fViewer.setInput(fRootElement);
+		TestElement first = fRootElement.getFirstChild();
+		TestElement[] toRemove = new TestElement[40];
+		for (int i = 0; i < toRemove.length; i++) {
+			toRemove[i] = first.basicAddChild();
+		}
+		fTreeViewer.expandToLevel(first, 1);
+		TestElement kept = first.getFirstChild();
+		assertNotNull("child is visible", fViewer.testFindItem(kept));
+
+		TestElement[] removed = Arrays.copyOf(toRemove, toRemove.length + 1);
+		removed[toRemove.length] = fRootElement.getLastChild();
+		for (TestElement element : toRemove) {
+			first.basicDeleteChild(element);
+		}
+		fRootElement.basicDeleteChild(fRootElement.getLastChild());
+		fTreeViewer.remove((Object[]) removed);
+
+		assertNotNull("child is still visible", fViewer.testFindItem(kept));
+		for (TestElement element : removed) {
+			assertNull("removed element is not visible", fViewer.testFindItem(element));
+		}
+	}
+
 	@Override
 	public void tearDown() {
 		super.tearDown();
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.deferred.DeferredContentProvider;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+/**
+ * Tests the order of the rows shown by a {@link DeferredContentProvider}.
+ */
+public class DeferredContentProviderTest extends ViewerTestCase {
+
+	/**
+	 * Enough elements to be sorted in parallel.
+	 */
+	private static final int ELEMENT_COUNT = 50_000;
+
+	private static final Comparator<Object> ASCENDING = (o1, o2) -> ((Integer) o1).compareTo((Integer) o2);
+
+	private static final Comparator<Object> DESCENDING = ASCENDING.reversed();
+
+	private final CountDownLatch sortStarted = new CountDownLatch(1);
+
+	private final CountDownLatch sortReleased = new CountDownLatch(1);
+
+	/**
+	 * Blocks the first sort until it is released, so that it can be cancelled
+	 * while it is running.
+	 */
+	private final Comparator<Object> blockingAscending = (o1, o2) -> {
+		sortStarted.countDown();
+		try {
+			sortReleased.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return ASCENDING.compare(o1, o2);
+	};
+
+	private DeferredContentProvider contentProvider;
+
+	private SetModel model;
+
+	public DeferredContentProviderTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		TableViewer viewer = new TableViewer(parent, SWT.VIRTUAL);
+		contentProvider = new DeferredContentProvider(blockingAscending);
+		viewer.setContentProvider(contentProvider);
+		return viewer;
+	}
+
+	@Override
+	protected void setInput() {
+		List<Integer> elements = new ArrayList<>(ELEMENT_COUNT);
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			elements.add(Integer.valueOf(i));
+		}
+		Collections.shuffle(elements);
+		model = new SetModel();
+		model.addAll(elements);
+		fViewer.setInput(model);
+	}
+
+	@Override
+	public void tearDown() {
+		sortReleased.countDown();
+		super.tearDown();
+	}
+
+	public void testSortCancelledAndRestarted() throws InterruptedException {
+		assertTrue("sort not started", sortStarted.await(10, TimeUnit.SECONDS));
+
+		// cancel the running sort
+		contentProvider.setSortOrder(DESCENDING);
+		sortReleased.countDown();
+		assertFirstRows(ELEMENT_COUNT - 1, -1);
+
+		contentProvider.setSortOrder(ASCENDING);
+		assertFirstRows(0, 1);
+
+		// the sorted elements are kept, only the new ones are sorted
+		model.addAll(new Object[] { Integer.valueOf(-1), Integer.valueOf(ELEMENT_COUNT) });
+		assertFirstRows(-1, 1);
+	}
+
+	private void assertFirstRows(int first, int step) {
+		Table table = ((TableViewer) fViewer).getTable();
+		DisplayHelper.waitAndAssertCondition(fDisplay, () -> {
+			int rows = Math.min(5, table.getItemCount());
+			assertTrue("no rows", rows > 0);
+			for (int i = 0; i < rows; i++) {
+				assertEquals("row " + i, Integer.valueOf(first + i * step), table.getItem(i).getData());
+			}
+		});
+	}
+}
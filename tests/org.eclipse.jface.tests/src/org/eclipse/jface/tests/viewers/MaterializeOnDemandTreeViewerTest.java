@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+/**
+ * Tests TreeViewer's VIRTUAL support with a normal content provider and items
+ * created on demand.
+ */
+public class MaterializeOnDemandTreeViewerTest extends ViewerTestCase {
+	private static final int NUM_ROOTS = 1000;
+	private static final int NUM_CHILDREN = 10;
+
+	private final List<String> roots = new ArrayList<>();
+
+	private int getTextCallCount = 0;
+
+	private boolean setDataCalled = false;
+
+	private class TreeContentProvider implements ITreeContentProvider {
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return roots.toArray();
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			String[] children = new String[NUM_CHILDREN];
+			for (int i = 0; i < NUM_CHILDREN; i++) {
+				children[i] = parentElement + "-" + i;
+			}
+			return children;
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			String string = (String) element;
+			int index = string.lastIndexOf('-');
+			return index > 1 ? string.substring(0, index) : null;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return ((String) element).indexOf('-') == ((String) element).lastIndexOf('-');
+		}
+	}
+
+	public MaterializeOnDemandTreeViewerTest(String name) {
+		super(name);
+	}
+
+	public TreeViewer getTreeViewer() {
+		return (TreeViewer) fViewer;
+	}
+
+	@Override
+	public void setUp() {
+		for (int i = 0; i < NUM_ROOTS; i++) {
+			roots.add("R-" + i);
+		}
+		super.setUp();
+		processEvents();
+	}
+
+	@Override
+	protected void setInput() {
+		getTreeViewer().setInput("R");
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		Tree tree = new Tree(fShell, SWT.VIRTUAL | SWT.MULTI);
+		TreeViewer treeViewer = new TreeViewer(tree);
+		treeViewer.setUseHashlookup(true);
+		treeViewer.setMaterializeOnDemand(true);
+		treeViewer.setContentProvider(new TreeContentProvider());
+		treeViewer.setLabelProvider(new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				getTextCallCount++;
+				return super.getText(element);
+			}
+		});
+		// sort descending by number
+		treeViewer.setComparator(new ViewerComparator() {
+			@Override
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				return Integer.compare(number(e2), number(e1));
+			}
+		});
+		tree.addListener(SWT.SetData, event -> setDataCalled = true);
+		return treeViewer;
+	}
+
+	private static int number(Object element) {
+		String string = (String) element;
+		return Integer.parseInt(string.substring(string.lastIndexOf('-') + 1));
+	}
+
+	public void testCreation() {
+		if (disableTestsBug347491) {
+			System.out.println(getName() + " disabled due to Bug 347491");
+			return;
+		}
+		assertTrue("SWT.SetData not received", setDataCalled);
+		Tree tree = getTreeViewer().getTree();
+		assertEquals(NUM_ROOTS, tree.getItemCount());
+		assertEquals("R-" + (NUM_ROOTS - 1), tree.getItem(0).getText());
+		assertTrue("expected labels for less than half of the items", getTextCallCount < NUM_ROOTS / 2);
+	}
+
+	public void testFilter() {
+		getTreeViewer().addFilter(new ViewerFilter() {
+			@Override
+			public boolean select(Viewer viewer, Object parentElement, Object element) {
+				return number(element) % 2 == 0;
+			}
+		});
+		processEvents();
+		Tree tree = getTreeViewer().getTree();
+		assertEquals(NUM_ROOTS / 2, tree.getItemCount());
+		assertEquals("R-" + (NUM_ROOTS - 2), tree.getItem(0).getText());
+	}
+
+	public void testExpand() {
+		getTreeViewer().expandToLevel("R-3", 1);
+		processEvents();
+		TreeItem item = (TreeItem) getTreeViewer().testFindItem("R-3");
+		assertNotNull(item);
+		assertTrue(item.getExpanded());
+		assertEquals(NUM_CHILDREN, item.getItemCount());
+		assertEquals("R-3-" + (NUM_CHILDREN - 1), item.getItem(0).getText());
+	}
+
+	public void testAddAndRemove() {
+		processEvents();
+		roots.add("R-" + NUM_ROOTS);
+		getTreeViewer().add("R", "R-" + NUM_ROOTS);
+		processEvents();
+		Tree tree = getTreeViewer().getTree();
+		assertEquals(NUM_ROOTS + 1, tree.getItemCount());
+		assertEquals("R-" + NUM_ROOTS, tree.getItem(0).getText());
+
+		roots.remove("R-" + NUM_ROOTS);
+		roots.remove("R-0");
+		getTreeViewer().remove(new Object[] { "R-" + NUM_ROOTS, "R-0" });
+		processEvents();
+		assertEquals(NUM_ROOTS - 1, tree.getItemCount());
+		assertEquals("R-" + (NUM_ROOTS - 1), tree.getItem(0).getText());
+		assertNull(getTreeViewer().testFindItem("R-" + NUM_ROOTS));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,31 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	public void testSortKeysAreKeptUntilUpdate() {
+		int[] labelCount = new int[1];
+		fViewer.setLabelProvider(new TeamModelLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				labelCount[0]++;
+				return super.getText(element);
+			}
+		});
+		fViewer.setComparator(new ViewerComparator());
+		assertSortedResult(TEAM1_SORTED);
+
+		labelCount[0] = 0;
+		fViewer.refresh(false);
+		assertEquals("labels computed although unchanged", 0, labelCount[0]);
+
+		// "Karice" becomes "Zoe"
+		TeamMember member = team1.members[0];
+		member.name = "Zoe";
+		fViewer.update(member, null);
+		fViewer.refresh(false);
+		assertSortedResult(new String[] { "Andrea", "Boris", "Eric", "Kim", "Michael", "Mike", "Paul", "Susan", "Tod",
+				"Zoe" });
+	}
+
 	private void assertSortedResult(String[] expected) {
 		TableItem[] items = getTableViewer().getTable().getItems();
 		for (int i = 0; i < items.length; i++) {
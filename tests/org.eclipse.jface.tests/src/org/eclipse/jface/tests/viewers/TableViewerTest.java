@@ -14,21 +14,27 @@
 package org.eclipse.jface.tests.viewers;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnViewer;
 import org.eclipse.jface.viewers.ColumnWeightData;
 import org.eclipse.jface.viewers.ITableLabelProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.StructuredViewerInternals;
 import org.eclipse.jface.viewers.TableLayout;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.ViewerColumn;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 
 public class TableViewerTest extends StructuredItemViewerTest {
 	public static class TableTestLabelProvider extends TestLabelProvider implements ITableLabelProvider {
@@ -56,6 +62,25 @@ public class TableViewerTest extends StructuredItemViewerTest {
 		}
 	}
 
+	private static class FilteredOutRecorder extends StructuredViewerInternals {
+		static void install(StructuredViewer viewer, List<Object> filteredOut) {
+			setAssociateListener(viewer, new AssociateListener() {
+				@Override
+				public void associate(Object element, Item item) {
+				}
+
+				@Override
+				public void disassociate(Item item) {
+				}
+
+				@Override
+				public void filteredOut(Object element) {
+					filteredOut.add(element);
+				}
+			});
+		}
+	}
+
 	public TableViewerTest(String name) {
 		super(name);
 	}
@@ -191,4 +216,60 @@ public class TableViewerTest extends StructuredItemViewerTest {
 
 	}
 
+	public void testBackgroundRefresh() {
+		TableViewer tableviewer = (TableViewer) fViewer;
+		tableviewer.setBackgroundRefresh(true);
+		TestElement first = fRootElement.getFirstChild();
+		TestElement lastEven = fRootElement.getChildAt(8);
+
+		tableviewer.addFilter(new TestLabelFilter());
+		tableviewer.setComparator(new TestLabelComparator());
+		// the second refresh discards the result of the first one
+		assertEquals("not refreshed yet", 10, getItemCount());
+		DisplayHelper.waitAndAssertCondition(fShell.getDisplay(),
+				() -> assertEquals("filtered count", 5, getItemCount()));
+		assertEquals("reverse sorted", lastEven.toString(), getItemText(0));
+
+		tableviewer.resetFilters();
+		tableviewer.setComparator(null);
+		tableviewer.setBackgroundRefresh(false);
+		assertEquals("unfiltered count", 10, getItemCount());
+		assertEquals("unsorted", first.toString(), getItemText(0));
+	}
+
+	public void testBackgroundRefreshNotifiesFilteredOutElements() {
+		TableViewer tableviewer = (TableViewer) fViewer;
+		List<Object> filteredOut = new ArrayList<>();
+		FilteredOutRecorder.install(tableviewer, filteredOut);
+		tableviewer.setBackgroundRefresh(true);
+
+		// the comparator reverses the order of the filtered elements
+		tableviewer.addFilter(new TestLabelFilter());
+		tableviewer.setComparator(new TestLabelComparator());
+		DisplayHelper.waitAndAssertCondition(fShell.getDisplay(),
+				() -> assertEquals("filtered count", 5, getItemCount()));
+		assertEquals("filtered out elements",
+				Arrays.asList(fRootElement.getChildAt(1), fRootElement.getChildAt(3), fRootElement.getChildAt(5),
+						fRootElement.getChildAt(7), fRootElement.getChildAt(9)),
+				filteredOut);
+		tableviewer.setBackgroundRefresh(false);
+	}
+
+	public void testBatchLabelUpdates() {
+		TableViewer tableviewer = (TableViewer) fViewer;
+		tableviewer.setBatchLabelUpdates(true);
+		TestElement first = fRootElement.getFirstChild();
+		String oldText = getItemText(0);
+
+		first.setLabel("name-a");
+		first.setLabel("name-b");
+		assertEquals("not updated yet", oldText, getItemText(0));
+		DisplayHelper.waitAndAssertCondition(fShell.getDisplay(),
+				() -> assertEquals("updated", first.getID() + " name-b", getItemText(0)));
+
+		first.setLabel("name-c");
+		tableviewer.setBatchLabelUpdates(false);
+		assertEquals("updated when disabled", first.getID() + " name-c", getItemText(0));
+	}
+
 }
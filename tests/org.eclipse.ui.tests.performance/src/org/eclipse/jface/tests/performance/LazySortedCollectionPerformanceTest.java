@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.deferred.LazySortedCollection;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Measures the time and the memory used to sort the one million rows of a
+ * deferred content provider model.
+ */
+public class LazySortedCollectionPerformanceTest extends BasicPerformanceTest {
+
+	private static final int ROWS = 1000000;
+
+	private static final int VISIBLE_ROWS = 50;
+
+	private static Object[] fElements;
+
+	private static final Comparator<Object> COMPARATOR = (o1, o2) -> ((String) o1).compareTo((String) o2);
+
+	public LazySortedCollectionPerformanceTest(String testName) {
+		super(testName);
+		generateElements();
+	}
+
+	/**
+	 * Test adding all rows and sorting the visible range in the middle.
+	 */
+	public void testSortVisibleRange() {
+		Object[] range = new Object[VISIBLE_ROWS];
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+			collection.addAll(fElements);
+			collection.getRange(range, ROWS / 2, true);
+			stopMeasuring();
+			assertEquals(ROWS, collection.size());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the heap retained by a collection of all rows once the visible range
+	 * is sorted and the element index is built. The used Java heap is reported
+	 * by the performance meter.
+	 */
+	public void testRetainedHeap() {
+		Object[] range = new Object[VISIBLE_ROWS];
+		for (int i = 0; i < 5; i++) {
+			startMeasuring();
+			LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+			collection.addAll(fElements);
+			collection.getRange(range, ROWS / 2, true);
+			// builds the index of the elements
+			assertTrue(collection.contains(fElements[0]));
+			stopMeasuring();
+			assertEquals(ROWS, collection.size());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test adding all rows, sorting all of them and removing half of them.
+	 */
+	public void testSortAllAndRemove() {
+		Object[] toRemove = new Object[ROWS / 2];
+		System.arraycopy(fElements, 0, toRemove, 0, toRemove.length);
+		for (int i = 0; i < 5; i++) {
+			startMeasuring();
+			LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+			collection.addAll(fElements);
+			collection.getItems(true);
+			collection.removeAll(toRemove);
+			stopMeasuring();
+			assertEquals(ROWS - toRemove.length, collection.size());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void generateElements() {
+		if (fElements == null) {
+			Random random = new Random(0);
+			fElements = new Object[ROWS];
+			for (int i = 0; i < ROWS; i++) {
+				fElements[i] = Integer.toString(random.nextInt()) + i;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.FilteredResourcesSelectionDialog;
 import org.eclipse.ui.tests.harness.util.DisplayHelper;
@@ -76,6 +77,88 @@ public class ResourceSelectionFilteringDialogTest extends UITestCase {
 		}
 	}
 
+	@Test
+	public void testMatchAfterResourceChanges() throws CoreException {
+		IFile file = project.getFile("renamedLater.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		try {
+			dialog.setInitialPattern("renamedLater.txt");
+			dialog.open();
+			dialog.refresh();
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> file.equals(dialog.getSelectedItems().getFirstElement())));
+		} finally {
+			dialog.close();
+		}
+
+		// let the resource name index be built, then change the resources
+		waitForJobs(100, 10000);
+		IFile renamed = project.getFile("renamedNow.txt");
+		file.move(renamed.getFullPath(), true, null);
+
+		dialog = createDialog();
+		try {
+			dialog.setInitialPattern("renamed");
+			dialog.open();
+			dialog.refresh();
+			SeeThroughFilteredResourcesSelectionDialog openDialog = dialog;
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> renamed.equals(openDialog.getSelectedItems().getFirstElement())));
+		} finally {
+			dialog.close();
+		}
+	}
+
+	@Test
+	public void testRefinedPatternMatchesCachedItems() throws CoreException {
+		for (int i = 0; i < 3000; i++) {
+			project.getFile("refined" + i + ".txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+		}
+		IFile file = project.getFile("refined2999.txt");
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		try {
+			dialog.setInitialPattern("refined");
+			dialog.open();
+			dialog.refresh();
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> dialog.getSelectedItems().getFirstElement() != null));
+
+			// a sub-filter of the pattern, matched against the items found so far
+			((Text) dialog.getPatternControl()).setText("refined2999.");
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> file.equals(dialog.getSelectedItems().getFirstElement())));
+		} finally {
+			dialog.close();
+		}
+	}
+
+	@Test
+	public void testRefinedPatternSelectsExactMatch() throws CoreException {
+		for (int i = 0; i < 3000; i++) {
+			project.getFile("RefinedFoo" + i + ".txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+		}
+		// sorted after all other matches of "RF", but first for "RFo"
+		IFile file = project.getFile("RFo.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		try {
+			dialog.setInitialPattern("RF");
+			dialog.open();
+			dialog.refresh();
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> dialog.getSelectedItems().getFirstElement() != null));
+
+			// the first matches of the cached items are shown before the exact match
+			// is found
+			((Text) dialog.getPatternControl()).setText("RFo");
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> file.equals(dialog.getSelectedItems().getFirstElement())));
+		} finally {
+			dialog.close();
+		}
+	}
+
 	@Override
 	public void doTearDown() throws Exception {
 		super.doTearDown();
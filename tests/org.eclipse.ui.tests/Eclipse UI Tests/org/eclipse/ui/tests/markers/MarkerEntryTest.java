@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.markers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ui.internal.views.markers.MockMarkerEntry;
+import org.junit.Test;
+
+/**
+ * Tests the values cached by the marker entries.
+ */
+public class MarkerEntryTest {
+
+	@Test
+	public void testCachedValues() {
+		MockMarkerEntry entry = new MockMarkerEntry("entry");
+		AtomicInteger computations = new AtomicInteger();
+
+		assertEquals("a", entry.getCachedValue("key1", () -> {
+			computations.incrementAndGet();
+			return "a";
+		}));
+		assertEquals("b", entry.getCachedValue("key2", () -> {
+			computations.incrementAndGet();
+			return "b";
+		}));
+		assertNull(entry.getCachedValue("key3", () -> {
+			computations.incrementAndGet();
+			return null;
+		}));
+		assertEquals(3, computations.get());
+
+		assertEquals("a", entry.getCachedValue("key1", () -> "other"));
+		assertEquals("b", entry.getCachedValue("key2", () -> "other"));
+		assertNull("null values are cached", entry.getCachedValue("key3", () -> "other"));
+	}
+
+	@Test
+	public void testNestedComputation() {
+		MockMarkerEntry entry = new MockMarkerEntry("entry");
+		// like the location, computed from other cached values
+		assertEquals("ab", entry.getCachedValue("composite",
+				() -> (String) entry.getCachedValue("first", () -> "a") + entry.getCachedValue("second", () -> "b")));
+		assertEquals("a", entry.getCachedValue("first", () -> "other"));
+		assertEquals("ab", entry.getCachedValue("composite", () -> "other"));
+	}
+
+	@Test
+	public void testClearCachedValues() {
+		MockMarkerEntry entry = new MockMarkerEntry("entry");
+		entry.getCachedValue("key1", () -> "a");
+		entry.getCachedValue("key2", () -> null);
+
+		entry.clearCachedValues();
+		assertEquals("c", entry.getCachedValue("key1", () -> "c"));
+		assertEquals("d", entry.getCachedValue("key2", () -> "d"));
+	}
+}
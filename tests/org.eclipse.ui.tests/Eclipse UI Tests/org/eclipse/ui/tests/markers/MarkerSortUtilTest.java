@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,12 @@
 
 package org.eclipse.ui.tests.markers;
 
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ui.internal.views.markers.MarkerDescriptionField;
 import org.eclipse.ui.internal.views.markers.MarkerSortUtil;
 import org.eclipse.ui.internal.views.markers.MockMarkerEntry;
 import org.eclipse.ui.tests.harness.util.UITestCase;
@@ -54,6 +57,23 @@ public class MarkerSortUtilTest extends UITestCase {
 	public void testCompleteSort() {
 		sortToLimit(ARRAYSIZE,ARRAYSIZE);
 	}
+	@Test
+	public void testSortByDescription() {
+		MockMarkerEntry[] fArray1 = generateArray(ARRAYSIZE / 10);
+		MockMarkerEntry[] fArray2 = fArray1.clone();
+		MarkerDescriptionField field = new MarkerDescriptionField();
+		// sorted on collation keys computed once per sort
+		MarkerSortUtil.sortStartingKElement(fArray1, field::compare, fArray1.length, new NullProgressMonitor());
+		Collator collator = Collator.getInstance();
+		Arrays.sort(fArray2, (o1, o2) -> collator.compare(o1.name, o2.name));
+
+		for (int i = 0; i < fArray1.length; i++) {
+			assertEquals("Incorrect sorting by description", 0, collator.compare(fArray1[i].name, fArray2[i].name));
+		}
+		// outside of a sort, the keys are computed on each comparison
+		assertTrue(field.compare(fArray1[0], fArray1[fArray1.length - 1]) <= 0);
+	}
+
 	/**
 	 *
 	 */
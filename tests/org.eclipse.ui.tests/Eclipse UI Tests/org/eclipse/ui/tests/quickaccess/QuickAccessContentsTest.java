@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.quickaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.internal.quickaccess.QuickAccessContents;
+import org.eclipse.ui.internal.quickaccess.QuickAccessProvider;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the entries of the fast quick access providers are shown while the
+ * slow providers are still computing their elements.
+ */
+public class QuickAccessContentsTest {
+
+	private static final int TIMEOUT = 5000;
+
+	/**
+	 * A provider whose filter specific elements are only returned once it is
+	 * released, unless it is cancelled first.
+	 */
+	private static class SlowProvider extends TestProvider {
+
+		final CountDownLatch released = new CountDownLatch(1);
+
+		final AtomicInteger started = new AtomicInteger();
+
+		final AtomicBoolean cancelled = new AtomicBoolean();
+
+		final AtomicBoolean completed = new AtomicBoolean();
+
+		final AtomicInteger running = new AtomicInteger();
+
+		final AtomicBoolean overlapped = new AtomicBoolean();
+
+		private final QuickAccessElement element;
+
+		SlowProvider(QuickAccessElement element) {
+			super("Slow");
+			this.element = element;
+		}
+
+		@Override
+		public QuickAccessElement[] getElements(String filter, IProgressMonitor monitor) {
+			started.incrementAndGet();
+			if (running.incrementAndGet() > 1) {
+				overlapped.set(true);
+			}
+			try {
+				while (!released.await(10, TimeUnit.MILLISECONDS)) {
+					if (monitor.isCanceled()) {
+						cancelled.set(true);
+						return new QuickAccessElement[0];
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return new QuickAccessElement[0];
+			} finally {
+				running.decrementAndGet();
+			}
+			completed.set(true);
+			return new QuickAccessElement[] { element };
+		}
+	}
+
+	private Shell shell;
+
+	private QuickAccessContents contents;
+
+	private SlowProvider slowProvider;
+
+	@Before
+	public void setUp() {
+		slowProvider = new SlowProvider(new TestElement("Slow one"));
+		TestProvider fastProvider = new TestProvider("Fast", new TestElement("Fast one"));
+		contents = new QuickAccessContents(new QuickAccessProvider[] { fastProvider, slowProvider }) {
+			@Override
+			protected QuickAccessElement getPerfectMatch(String filter) {
+				return null;
+			}
+
+			@Override
+			protected void updateFeedback(boolean filterTextEmpty, boolean showAllMatches) {
+			}
+
+			@Override
+			protected void handleElementSelected(String text, Object selectedElement) {
+			}
+
+			@Override
+			protected void doClose() {
+			}
+		};
+		shell = new Shell(Display.getDefault());
+		shell.setLayout(new GridLayout());
+		contents.createTable(shell, SWT.LEFT_TO_RIGHT);
+		shell.setSize(400, 400);
+		shell.open();
+	}
+
+	@After
+	public void tearDown() {
+		slowProvider.released.countDown();
+		shell.dispose();
+	}
+
+	@Test
+	public void testEntriesOfSlowProvidersAreAdded() {
+		Table table = contents.getTable();
+		contents.updateProposals("on");
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(),
+				() -> assertEquals(List.of("Fast one"), getLabels(table)));
+		assertFalse("Slow provider completed", slowProvider.completed.get());
+
+		// a new keystroke cancels the provider still computing the previous entries
+		contents.updateProposals("one");
+		assertTrue("Slow provider not cancelled", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT,
+				() -> slowProvider.cancelled.get() && slowProvider.started.get() == 2));
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(),
+				() -> assertEquals(List.of("Fast one"), getLabels(table)));
+
+		slowProvider.released.countDown();
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(),
+				() -> assertEquals(List.of("Fast one", "Slow one"), getLabels(table)));
+		assertFalse("Slow provider computed concurrently", slowProvider.overlapped.get());
+	}
+
+	private static List<String> getLabels(Table table) {
+		return Arrays.stream(table.getItems()).map(item -> item.getText(1)).toList();
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.quickaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.ui.internal.quickaccess.QuickAccessEntry;
+import org.eclipse.ui.internal.quickaccess.QuickAccessIndex;
+import org.eclipse.ui.internal.quickaccess.QuickAccessMatcher;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link QuickAccessIndex} matches the same elements as the
+ * {@link QuickAccessMatcher}.
+ */
+public class QuickAccessIndexTest {
+
+	private final TestProvider provider = new TestProvider("Views", //
+			new TestElement("Console"), //
+			new TestElement("Open Resource"), //
+			new TestElement("Project Explorer"), //
+			new TestElement("Show View (Console)"), //
+			new TestElement("Java Editor", "Java Editor - Edit Java source files"), //
+			new TestElement("getMatchLabel"), //
+			new TestElement("Problems"));
+
+	private final QuickAccessIndex index = new QuickAccessIndex();
+
+	@Test
+	public void testPlainFilter() {
+		assertSameMatches("con", "console", "open", "explorer", "show view (console)", "edit java", "xyz");
+	}
+
+	@Test
+	public void testWildcardFilter() {
+		assertSameMatches("o*res", "?pen", "*view*", "pro*ex", "c?ns*", "*", "j*z");
+	}
+
+	@Test
+	public void testWhitespaceFilter() {
+		assertSameMatches("open res", "show  view", " java", "project ", "view con", "open xyz");
+	}
+
+	@Test
+	public void testCamelCaseFilter() {
+		assertSameMatches("or", "pe", "sv", "svc", "gml", "je", "ml");
+	}
+
+	@Test
+	public void testProviderNameFilter() {
+		assertSameMatches("views", "views con", "views open", "vc", "vor", "vpe", "views xyz");
+	}
+
+	@Test
+	public void testNewElementsAreIndexed() {
+		QuickAccessElement[] elements = provider.elements;
+		TestElement console = (TestElement) elements[0];
+		index.getCandidates(provider, elements, "con");
+		int labelRequests = console.labelRequests;
+
+		// the same array is not indexed again
+		index.getCandidates(provider, elements, "open");
+		assertEquals(labelRequests, console.labelRequests);
+
+		// a new array is indexed, reusing the labels of the known elements
+		TestElement outline = new TestElement("Outline");
+		provider.elements = new QuickAccessElement[] { console, outline };
+		List<QuickAccessElement> candidates = index.getCandidates(provider, provider.elements, "o");
+		assertEquals(labelRequests, console.labelRequests);
+		assertEquals(List.of(outline, console), candidates);
+		assertNotNull(index.match(outline, provider, "out"));
+		assertNull(index.match(console, provider, "out"));
+	}
+
+	private void assertSameMatches(String... filters) {
+		boolean matched = false;
+		for (String filter : filters) {
+			List<QuickAccessElement> candidates = index.getCandidates(provider, provider.elements, filter);
+			for (QuickAccessElement element : provider.elements) {
+				QuickAccessEntry expected = new QuickAccessMatcher(element).match(filter, provider);
+				String message = "'" + element.getLabel() + "' for '" + filter + "'";
+				if (expected == null) {
+					if (candidates.contains(element)) {
+						assertNull(message, index.match(element, provider, filter));
+					}
+				} else {
+					matched = true;
+					assertTrue("Missing candidate " + message, candidates.contains(element));
+					QuickAccessEntry entry = index.match(element, provider, filter);
+					assertNotNull(message, entry);
+					assertEquals(message, expected.getMatchQuality(), entry.getMatchQuality());
+				}
+			}
+		}
+		assertTrue("No element matched", matched);
+	}
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.quickaccess;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+
+/**
+ * A quick access element with fixed labels, counting how often its label is
+ * requested.
+ */
+class TestElement extends QuickAccessElement {
+
+	private final String label;
+
+	private final String matchLabel;
+
+	int labelRequests;
+
+	TestElement(String label) {
+		this(label, label);
+	}
+
+	TestElement(String label, String matchLabel) {
+		this.label = label;
+		this.matchLabel = matchLabel;
+	}
+
+	@Override
+	public String getLabel() {
+		labelRequests++;
+		return label;
+	}
+
+	@Override
+	public String getMatchLabel() {
+		return matchLabel;
+	}
+
+	@Override
+	public ImageDescriptor getImageDescriptor() {
+		return null;
+	}
+
+	@Override
+	public String getId() {
+		return label;
+	}
+
+	@Override
+	public void execute() {
+	}
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.tests.quickaccess;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.ui.internal.quickaccess.QuickAccessProvider;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+
+/**
+ * A quick access provider returning the elements it is given.
+ */
+class TestProvider extends QuickAccessProvider {
+
+	private final String name;
+
+	QuickAccessElement[] elements;
+
+	TestProvider(String name, QuickAccessElement... elements) {
+		this.name = name;
+		this.elements = elements;
+	}
+
+	@Override
+	public String getId() {
+		return "org.eclipse.ui.tests.quickaccess." + name.toLowerCase();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public ImageDescriptor getImageDescriptor() {
+		return null;
+	}
+
+	@Override
+	public QuickAccessElement[] getElements() {
+		return elements;
+	}
+
+	@Override
+	protected void doReset() {
+	}
+}